@@ -0,0 +1,177 @@
+package Benchmarks;
+
+import StringNumbersMath.ComputingFloorOfDivisionAndModulus;
+import StringNumbersMath.FusedMultiplyAdd;
+import StringNumbersMath.MultiplyingTwoLargeNumsAndOperationOverflow;
+import StringNumbersMath.NextFloatingPointValue;
+import StringNumbersMath.StringAsUnsignedNumberInRadix;
+import StringNumbersMath.SummingTwoLargeNumbers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArithmeticBenchmark {
+
+    /**
+     * The numbers problems have no text input, so there is one nested harness
+     * per problem and the operands live in non final fields to keep the JIT
+     * from folding the calls into constants.
+     * */
+
+    @State(Scope.Benchmark)
+    public static class Summing {
+        int x = Integer.MAX_VALUE - 1;
+        int y = 1;
+        long lx = Long.MAX_VALUE - 1;
+        long ly = 1;
+
+        @Benchmark
+        public int sumTwoNums() {
+            return SummingTwoLargeNumbers.sumTwoNums(x, y);
+        }
+
+        @Benchmark
+        public long sumTwoLargeNums() {
+            return SummingTwoLargeNumbers.sumTwoLargeNums(x, y);
+        }
+
+        @Benchmark
+        public long sumTwoLargeLongNums() {
+            return SummingTwoLargeNumbers.sumTwoLargeLongNums(lx, ly);
+        }
+
+        @Benchmark
+        public long sumTwoLargeNumsUsingAddExact() {
+            return SummingTwoLargeNumbers.sumTwoLargeNumsUsingAddExact(lx, ly);
+        }
+
+        @Benchmark
+        public long sumTwoLargeNumsUsingBinaryOperator() {
+            return SummingTwoLargeNumbers.sumTwoLargeNumsUsingBinaryOperator(lx, ly);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Multiplying {
+        int x = 46_340;
+        int y = 46_340;
+        long lx = Long.MAX_VALUE / 3;
+        long ly = 7;
+
+        @Benchmark
+        public int multiplyingTwoLargeNums() {
+            return MultiplyingTwoLargeNumsAndOperationOverflow.multiplyingTwoLargeNums(x, y);
+        }
+
+        @Benchmark
+        public long multiplyingTwoLongNums() {
+            return MultiplyingTwoLargeNumsAndOperationOverflow.multiplyingTwoLongNums(x, y);
+        }
+
+        @Benchmark
+        public long multiplyingTwoLargeNumsUsingMultiplyExact() {
+            return MultiplyingTwoLargeNumsAndOperationOverflow.multiplyingTwoLargeNumsUsingMultiplyExact(x, y);
+        }
+
+        @Benchmark
+        public long multiplyingTwoLargeNumsUsingMultiplyFull() {
+            return MultiplyingTwoLargeNumsAndOperationOverflow.multiplyingTwoLargeNumsUsingMultiplyFull(x, y);
+        }
+
+        @Benchmark
+        public long multiplyingTwoLargeNumsUsingMultiplyHigh() {
+            return MultiplyingTwoLargeNumsAndOperationOverflow.multiplyingTwoLargeNumsUsingMultiplyHigh(lx, ly);
+        }
+
+        @Benchmark
+        public long multiplyingTwoLargeNumsUsingBinaryOperator() {
+            return MultiplyingTwoLargeNumsAndOperationOverflow.multiplyingTwoLargeNumsUsingBinaryOperator(x, y);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FloorOfDivision {
+        int x = -222;
+        int y = 14;
+
+        @Benchmark
+        public long computingFloorUsingMathFloor() {
+            return ComputingFloorOfDivisionAndModulus.computingFloorUsingMathFloor(x, y);
+        }
+
+        @Benchmark
+        public long computingFloorUsingMathFloorDiv() {
+            return ComputingFloorOfDivisionAndModulus.computingFloorUsingMathFloorDiv(x, y);
+        }
+
+        @Benchmark
+        public long computingFloorUsingMathCell() {
+            return ComputingFloorOfDivisionAndModulus.computingFloorUsingMathCell(x, y);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class NextFloatingPoint {
+        float f = 0.1f;
+
+        @Benchmark
+        public float nextFloatingPoint() {
+            return NextFloatingPointValue.nextFloatingPoint(f);
+        }
+
+        @Benchmark
+        public float nextFloatingPointUsingNextUp() {
+            return NextFloatingPointValue.nextFloatingPointUsingNextUp(f);
+        }
+
+        @Benchmark
+        public float nextFloatingPointUsingNextDown() {
+            return NextFloatingPointValue.nextFloatingPointUsingNextDown(f);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class MultiplyAdd {
+        double x = 0.1;
+        double y = 3.3;
+        double z = -0.33;
+
+        @Benchmark
+        public double fusedMultiplyAdd() {
+            return FusedMultiplyAdd.fusedMultiplyAdd(x, y, z);
+        }
+
+        @Benchmark
+        public double fusedMultiplyAddUsingMathFma() {
+            return FusedMultiplyAdd.fusedMultiplyAddUsingMathFma(x, y, z);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnsignedRadix {
+        String nri = "25550";
+
+        @Benchmark
+        public int parseUnsigned() {
+            return StringAsUnsignedNumberInRadix.parseUnsigned(nri);
+        }
+
+        @Benchmark
+        public int parseUnsignedInt() {
+            return StringAsUnsignedNumberInRadix.parseUnsignedInt(nri);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package Benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+public class BenchmarkReport {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    /**
+     * Runs the harnesses (all of them, or the ones matching the usual JMH
+     * command line, for example "FindingLongestCommonPrefix -p size=1024")
+     * with the GC profiler attached, then ranks the variants of each problem
+     * for every parameter combination by throughput and prints how many bytes
+     * each call allocates. Variants that failed (threw an exception) on some
+     * input are listed under the ranking of that input.
+     *
+     * Usage:
+     * java -cp benchmarks/target/benchmarks.jar Benchmarks.BenchmarkReport [JMH options]
+     * */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(false)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+        System.out.println(report(results));
+    }
+
+    public static String report(Collection<RunResult> results) {
+        // Group by problem (the benchmark class) and parameters, keep a stable order
+        Map<String, List<RunResult>> groups = new TreeMap<>();
+        Map<String, Set<String>> variantsOfProblem = new HashMap<>();
+
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            String problem = problemOf(params.getBenchmark());
+            groups.computeIfAbsent(problem + " " + describe(params), k -> new ArrayList<>()).add(result);
+            variantsOfProblem.computeIfAbsent(problem, k -> new TreeSet<>()).add(variantOf(params.getBenchmark()));
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, List<RunResult>> group : groups.entrySet()) {
+            List<RunResult> ranked = group.getValue();
+            ranked.sort(Comparator.comparingDouble((RunResult r) -> r.getPrimaryResult().getScore()).reversed());
+            double best = ranked.get(0).getPrimaryResult().getScore();
+
+            sb.append(System.lineSeparator()).append(group.getKey()).append(System.lineSeparator());
+            sb.append(String.format("  %-4s %-55s %16s %-12s %8s %14s%n",
+                    "#", "variant", "score", "unit", "vs best", "alloc B/op"));
+
+            Set<String> failed = new TreeSet<>(variantsOfProblem.get(problemOf(ranked.get(0).getParams().getBenchmark())));
+            int rank = 1;
+            for (RunResult result : ranked) {
+                Result<?> primary = result.getPrimaryResult();
+                Result<?> allocation = result.getSecondaryResults().get(ALLOCATION);
+                String variant = variantOf(result.getParams().getBenchmark());
+                failed.remove(variant);
+
+                sb.append(String.format("  %-4d %-55s %16.3f %-12s %7.2fx %14s%n",
+                        rank++,
+                        variant,
+                        primary.getScore(),
+                        primary.getScoreUnit(),
+                        best / primary.getScore(),
+                        allocation == null ? "n/a" : String.format("%.1f", allocation.getScore())));
+            }
+            for (String variant : failed) {
+                sb.append(String.format("  %-4s %-55s %16s%n", "-", variant, "FAILED"));
+            }
+        }
+
+        return sb.toString();
+    }
+
+    private static String problemOf(String benchmark) {
+        return benchmark.substring(0, benchmark.lastIndexOf('.'));
+    }
+
+    private static String variantOf(String benchmark) {
+        return benchmark.substring(benchmark.lastIndexOf('.') + 1);
+    }
+
+    private static String describe(BenchmarkParams params) {
+        StringBuilder sb = new StringBuilder("[");
+
+        for (String key : params.getParamsKeys()) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(params.getParam(key));
+        }
+
+        return sb.append(']').toString();
+    }
+}
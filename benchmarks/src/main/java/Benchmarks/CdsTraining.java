@@ -0,0 +1,98 @@
+package Benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+public class CdsTraining {
+
+    /**
+     * Training run for the AppCDS archive (see the appcds profile)
+     *
+     * Calls every benchmarked variant once with the first value of each @Param,
+     * so the JVM loads (and archives at exit) the library classes together with
+     * the JDK classes, lambdas and stream pipelines they use.
+     * Variants that throw on the chosen input are simply skipped.
+     * */
+    private static final Class<?>[] HARNESSES = {
+            ArithmeticBenchmark.Summing.class,
+            ArithmeticBenchmark.Multiplying.class,
+            ArithmeticBenchmark.FloorOfDivision.class,
+            ArithmeticBenchmark.NextFloatingPoint.class,
+            ArithmeticBenchmark.MultiplyAdd.class,
+            ArithmeticBenchmark.UnsignedRadix.class,
+            CheckingStringContainsSubstringBenchmark.class,
+            CheckingWhetherStringContainsOnlyDigitsBenchmark.class,
+            CheckingWhetherStringIsPalindromeBenchmark.class,
+            CheckingWhetherTwoStringsAreAnagramsBenchmark.class,
+            CommonPrefixBenchmark.class,
+            ConcatenatingSameStringNTimesBenchmark.class,
+            CountingDuplicateCharactersBenchmark.class,
+            CountingOccurrencesOfCertainCharacterBenchmark.class,
+            CountingSubstringOccurrencesInStringBenchmark.class,
+            CountingVowelsAndConsonantsBenchmark.class,
+            FindingCharacterWithMostAppearancesBenchmark.class,
+            FindingFirstNonRepeatedCharacterBenchmark.class,
+            FindingLongestCommonPrefixBenchmark.class,
+            GeneratingAllPermutationsBenchmark.class,
+            JoiningMultipleStringsWithDelimiterBenchmark.class,
+            NeedleBenchmark.class,
+            RemovingDuplicateCharactersBenchmark.class,
+            RemovingGivenCharacterBenchmark.class,
+            RemovingLeadingAndTrailingSpacesBenchmark.class,
+            RemovingWhiteSpacesFromStringBenchmark.class,
+            ReversingLettersAndWordsBenchmark.class,
+            SortingArrayOfStringsByLengthBenchmark.class,
+            TransformingStringsBenchmark.class
+    };
+
+    public static void main(String[] args) throws ReflectiveOperationException {
+        int calls = 0;
+
+        for (Class<?> harness : HARNESSES) {
+            Object instance = harness.getConstructor().newInstance();
+            assignFirstParams(instance);
+
+            for (Method method : harness.getMethods()) {
+                if (method.isAnnotationPresent(Setup.class)) {
+                    method.invoke(instance);
+                }
+            }
+            for (Method method : harness.getMethods()) {
+                if (method.isAnnotationPresent(Benchmark.class)) {
+                    try {
+                        method.invoke(instance);
+                        calls++;
+                    } catch (InvocationTargetException e) {
+                        // Not every variant supports every input
+                    }
+                }
+            }
+        }
+
+        System.out.println("Trained " + calls + " variants");
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void assignFirstParams(Object instance) throws IllegalAccessException {
+        for (Field field : instance.getClass().getFields()) {
+            Param param = field.getAnnotation(Param.class);
+            if (param == null || param.value().length == 0) {
+                continue;
+            }
+
+            String value = param.value()[0];
+            if (field.getType() == int.class) {
+                field.setInt(instance, Integer.parseInt(value));
+            } else if (field.getType().isEnum()) {
+                field.set(instance, Enum.valueOf((Class<Enum>) field.getType(), value));
+            } else {
+                field.set(instance, value);
+            }
+        }
+    }
+}
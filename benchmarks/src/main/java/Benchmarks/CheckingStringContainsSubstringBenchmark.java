@@ -0,0 +1,41 @@
+package Benchmarks;
+
+import StringNumbersMath.CheckingStringContainsSubstring;
+import StringNumbersMath.Needle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class CheckingStringContainsSubstringBenchmark extends TextBenchmark {
+
+    /* The substring is taken from the end of the text, so the whole text is scanned */
+    private String text;
+    private String subStr;
+    private Needle needle;
+
+    @Setup
+    public void setup() {
+        text = Inputs.text(size, alphabet, skew);
+        subStr = Inputs.tail(text, 4);
+        needle = Needle.compile(subStr);
+    }
+
+    @Benchmark
+    public boolean containsSubstringUsingContains() {
+        return CheckingStringContainsSubstring.containsSubstringUsingContains(text, subStr);
+    }
+
+    @Benchmark
+    public boolean containsSubstringUsingIndexOf() {
+        return CheckingStringContainsSubstring.containsSubstringUsingIndexOf(text, subStr);
+    }
+
+    @Benchmark
+    public boolean containsSubstringUsingRegularExpression() {
+        return CheckingStringContainsSubstring.containsSubstringUsingRegularExpression(text, subStr);
+    }
+
+    @Benchmark
+    public boolean containsSubstringUsingNeedle() {
+        return CheckingStringContainsSubstring.containsSubstringUsingNeedle(text, needle);
+    }
+}
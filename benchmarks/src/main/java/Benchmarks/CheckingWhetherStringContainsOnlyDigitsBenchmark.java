@@ -0,0 +1,46 @@
+package Benchmarks;
+
+import StringNumbersMath.CheckingWhetherStringContainsOnlyDigits;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CheckingWhetherStringContainsOnlyDigitsBenchmark {
+
+    /* Only digits, so both variants have to scan the whole string */
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    private String digits;
+
+    @Setup
+    public void setup() {
+        digits = Inputs.digits(size);
+    }
+
+    @Benchmark
+    public boolean containsOnlyDigits() {
+        return CheckingWhetherStringContainsOnlyDigits.containsOnlyDigits(digits);
+    }
+
+    @Benchmark
+    public boolean containsOnlyDigitsUsingMatch() {
+        return CheckingWhetherStringContainsOnlyDigits.containsOnlyDigitsUsingMatch(digits);
+    }
+}
@@ -0,0 +1,80 @@
+package Benchmarks;
+
+import StringNumbersMath.CheckingWhetherStringIsPalindrome;
+import StringNumbersMath.Palindromes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class CheckingWhetherStringIsPalindromeBenchmark extends TextBenchmark {
+
+    /* A real palindrome (by code points), so the variants have to reach the middle */
+    private String palindrome;
+    private char[] chars;
+    private ByteBuffer utf8;
+
+    @Setup
+    public void setup() {
+        palindrome = Inputs.palindrome(size, alphabet, skew);
+        chars = palindrome.toCharArray();
+        utf8 = ByteBuffer.allocateDirect(palindrome.length() * 3);
+        utf8.put(palindrome.getBytes(StandardCharsets.UTF_8)).flip();
+    }
+
+    @Benchmark
+    public boolean isPalindrome() {
+        return CheckingWhetherStringIsPalindrome.isPalindrome(palindrome);
+    }
+
+    @Benchmark
+    public boolean isPalindromeUsingSingleTraversal() {
+        return CheckingWhetherStringIsPalindrome.isPalindromeUsingSingleTraversal(palindrome);
+    }
+
+    @Benchmark
+    public boolean isPalindromeUsingStringBuilder() {
+        return CheckingWhetherStringIsPalindrome.isPalindromeUsingStringBuilder(palindrome);
+    }
+
+    @Benchmark
+    public boolean isPalindromeUsingNoneMatch() {
+        return CheckingWhetherStringIsPalindrome.isPalindromeUsingNoneMatch(palindrome);
+    }
+
+    @Benchmark
+    public boolean isPalindromeCoverUnicode() {
+        return CheckingWhetherStringIsPalindrome.isPalindromeCoverUnicode(palindrome);
+    }
+
+    @Benchmark
+    public boolean isPalindromeIgnoringCaseAndNonAlphanumerics() {
+        return CheckingWhetherStringIsPalindrome.isPalindromeIgnoringCaseAndNonAlphanumerics(palindrome);
+    }
+
+    @Benchmark
+    public boolean isPalindromeOfChars() {
+        return Palindromes.isPalindrome(chars, 0, chars.length);
+    }
+
+    @Benchmark
+    public boolean isPalindromeOfUtf8() {
+        return Palindromes.isPalindrome(utf8);
+    }
+
+    @Benchmark
+    public String longestPalindromicSubstring() {
+        return CheckingWhetherStringIsPalindrome.longestPalindromicSubstring(palindrome);
+    }
+
+    @Benchmark
+    public long countPalindromicSubstrings() {
+        return CheckingWhetherStringIsPalindrome.countPalindromicSubstrings(palindrome);
+    }
+
+    @Benchmark
+    public int countDistinctPalindromicSubstrings() {
+        return CheckingWhetherStringIsPalindrome.countDistinctPalindromicSubstrings(palindrome);
+    }
+}
@@ -0,0 +1,47 @@
+package Benchmarks;
+
+import StringNumbersMath.CheckingWhetherTwoStringsAreAnagrams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CheckingWhetherTwoStringsAreAnagramsBenchmark extends TextBenchmark {
+
+    /**
+     * The second string is the first one reversed, a real anagram.
+     * groupAnagrams() groups size words of about 8 code points, each one
+     * followed by its reverse.
+     * */
+    private String text;
+    private String anagram;
+    private List<String> words;
+
+    @Setup
+    public void setup() {
+        text = Inputs.text(size, alphabet, skew);
+        anagram = new StringBuilder(text).reverse().toString();
+
+        words = new ArrayList<>();
+        for (String word : Inputs.words(size, 8, alphabet, skew)) {
+            words.add(word);
+            words.add(new StringBuilder(word).reverse().toString());
+        }
+    }
+
+    @Benchmark
+    public boolean isAnagram() {
+        return CheckingWhetherTwoStringsAreAnagrams.isAnagram(text, anagram);
+    }
+
+    @Benchmark
+    public boolean isAnagramCoverUnicode() {
+        return CheckingWhetherTwoStringsAreAnagrams.isAnagramCoverUnicode(text, anagram);
+    }
+
+    @Benchmark
+    public List<List<String>> groupAnagrams() {
+        return CheckingWhetherTwoStringsAreAnagrams.groupAnagrams(words);
+    }
+}
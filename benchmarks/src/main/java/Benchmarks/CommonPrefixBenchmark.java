@@ -0,0 +1,40 @@
+package Benchmarks;
+
+import StringNumbersMath.CommonPrefix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class CommonPrefixBenchmark extends TextBenchmark {
+
+    /**
+     * CommonPrefix.length() against the charAt() loop it replaced in
+     * FindingLongestCommonPrefix
+     *
+     * size is the length (in code points) of the prefix shared by the two
+     * strings, they differ on the symbol after it.
+     * */
+    private String first;
+    private String second;
+
+    @Setup
+    public void setup() {
+        String prefix = Inputs.text(size, alphabet, skew);
+        first = prefix + "\u0000";
+        second = prefix + "\u0001";
+    }
+
+    @Benchmark
+    public int charAtLoop() {
+        int min = Math.min(first.length(), second.length());
+        int i = 0;
+        while (i < min && first.charAt(i) == second.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    @Benchmark
+    public int commonPrefixLength() {
+        return CommonPrefix.length(first, second);
+    }
+}
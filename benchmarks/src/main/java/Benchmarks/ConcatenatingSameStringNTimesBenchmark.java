@@ -0,0 +1,83 @@
+package Benchmarks;
+
+import StringNumbersMath.ConcatenatingSameStringNTimes;
+import StringNumbersMath.Rope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+import java.io.Writer;
+
+public class ConcatenatingSameStringNTimesBenchmark extends TextBenchmark {
+
+    /**
+     * size is the repeat count of an 8 symbols string.
+     * checkSequenceOfSameSubstring() is measured on the repeated string,
+     * so it stops as soon as it reaches the period.
+     * The write variants send the result to a Writer, built first with
+     * String.repeat() or written lazily from a Rope.
+     * */
+    private String str;
+    private String repeated;
+
+    @Setup
+    public void setup() {
+        str = Inputs.text(8, alphabet, skew);
+        repeated = str.repeat(size);
+    }
+
+    @Benchmark
+    public String concatRepeatUsingStringBuilder() {
+        return ConcatenatingSameStringNTimes.concatRepeatUsingStringBuilder(str, size);
+    }
+
+    @Benchmark
+    public String concatRepeatUsingStringRepeat() {
+        return ConcatenatingSameStringNTimes.concatRepeatUsingStringRepeat(str, size);
+    }
+
+    @Benchmark
+    public String concatRepeatUsingStringJoin() {
+        return ConcatenatingSameStringNTimes.concatRepeatUsingStringJoin(str, size);
+    }
+
+    @Benchmark
+    public String concatRepeatUsingStreamGenerate() {
+        return ConcatenatingSameStringNTimes.concatRepeatUsingStreamGenerate(str, size);
+    }
+
+    @Benchmark
+    public String concatRepeatUsingStringFormat() {
+        return ConcatenatingSameStringNTimes.concatRepeatUsingStringFormat(str, size);
+    }
+
+    @Benchmark
+    public String concatRepeatUsingCharArray() {
+        return ConcatenatingSameStringNTimes.concatRepeatUsingCharArray(str, size);
+    }
+
+    @Benchmark
+    public String concatRepeatLazily() {
+        return ConcatenatingSameStringNTimes.concatRepeatLazily(str, size).toString();
+    }
+
+    @Benchmark
+    public Writer writeRepeatUsingStringRepeat() throws IOException {
+        Writer out = Writer.nullWriter();
+        out.write(ConcatenatingSameStringNTimes.concatRepeatUsingStringRepeat(str, size));
+        return out;
+    }
+
+    @Benchmark
+    public Writer writeRepeatLazily() throws IOException {
+        Writer out = Writer.nullWriter();
+        Rope rope = ConcatenatingSameStringNTimes.concatRepeatLazily(str, size);
+        rope.writeTo(out);
+        return out;
+    }
+
+    @Benchmark
+    public boolean checkSequenceOfSameSubstring() {
+        return ConcatenatingSameStringNTimes.checkSequenceOfSameSubstring(repeated);
+    }
+}
@@ -0,0 +1,52 @@
+package Benchmarks;
+
+import StringNumbersMath.CountingDuplicateCharacters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Map;
+
+public class CountingDuplicateCharactersBenchmark extends TextBenchmark {
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = Inputs.text(size, alphabet, skew);
+    }
+
+    @Benchmark
+    public int countingDuplicateCharactersUsingSet() {
+        return CountingDuplicateCharacters.countingDuplicateCharactersUsingSet(text);
+    }
+
+    @Benchmark
+    public Map<Character, Integer> countingDuplicateCharactersUsingMap() {
+        return CountingDuplicateCharacters.countingDuplicateCharactersUsingMap(text);
+    }
+
+    @Benchmark
+    public Map<String, Integer> rewriteCountingDuplicateCharactersUsingMap() {
+        return CountingDuplicateCharacters.rewriteCountingDuplicateCharactersUsingMap(text);
+    }
+
+    @Benchmark
+    public Map<Character, Long> countDuplicateCharactersUsingStream() {
+        return CountingDuplicateCharacters.countDuplicateCharactersUsingStream(text);
+    }
+
+    @Benchmark
+    public Map<String, Long> rewriteCountDuplicateCharactersUsingStream() {
+        return CountingDuplicateCharacters.rewriteCountDuplicateCharactersUsingStream(text);
+    }
+
+    @Benchmark
+    public int[] countDuplicateCharactersUsingHistogram() {
+        return CountingDuplicateCharacters.countDuplicateCharactersUsingHistogram(text);
+    }
+
+    @Benchmark
+    public long[] countDuplicateCharactersInParallel() {
+        return CountingDuplicateCharacters.countDuplicateCharactersInParallel(text);
+    }
+}
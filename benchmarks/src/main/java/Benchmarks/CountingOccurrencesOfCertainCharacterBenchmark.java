@@ -0,0 +1,51 @@
+package Benchmarks;
+
+import StringNumbersMath.CountingOccurrencesOfCertainCharacter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class CountingOccurrencesOfCertainCharacterBenchmark extends TextBenchmark {
+
+    private String text;
+    private String symbol;
+    private char ch;
+    private char[] chars;
+
+    @Setup
+    public void setup() {
+        text = Inputs.text(size, alphabet, skew);
+        symbol = Inputs.firstSymbol(text);
+        ch = symbol.charAt(0);
+        chars = text.toCharArray();
+    }
+
+    @Benchmark
+    public int countOccurrencesOfACertainCharacter() {
+        return CountingOccurrencesOfCertainCharacter.countOccurrencesOfACertainCharacter(text, ch);
+    }
+
+    @Benchmark
+    public int countOccurrencesOfACertainCharacterCoverUnicode() {
+        return CountingOccurrencesOfCertainCharacter.countOccurrencesOfACertainCharacterCoverUnicode(text, symbol);
+    }
+
+    @Benchmark
+    public int countOccurrencesOfACertainCharacterSingleTraversal() {
+        return CountingOccurrencesOfCertainCharacter.countOccurrencesOfACertainCharacterSingleTraversal(text, ch);
+    }
+
+    @Benchmark
+    public long countOccurrencesOfACertainCharacterUsingJavaStream() {
+        return CountingOccurrencesOfCertainCharacter.countOccurrencesOfACertainCharacterUsingJavaStream(text, ch);
+    }
+
+    @Benchmark
+    public int countOccurrencesOfACertainCharacterUsingKernel() {
+        return CountingOccurrencesOfCertainCharacter.countOccurrencesOfACertainCharacterUsingKernel(text, ch);
+    }
+
+    @Benchmark
+    public int countOccurrencesOfACertainCharacterUsingKernelOnCharArray() {
+        return CountingOccurrencesOfCertainCharacter.countOccurrencesOfACertainCharacterUsingKernel(chars, 0, chars.length, ch);
+    }
+}
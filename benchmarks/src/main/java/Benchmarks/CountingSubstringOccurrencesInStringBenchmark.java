@@ -0,0 +1,57 @@
+package Benchmarks;
+
+import StringNumbersMath.AhoCorasick;
+import StringNumbersMath.CountingSubstringOccurrencesInString;
+import StringNumbersMath.Needle;
+import StringNumbersMath.SuffixArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class CountingSubstringOccurrencesInStringBenchmark extends TextBenchmark {
+
+    /* A two symbols needle taken from the text, frequent under ZIPF. The suffix array is built once, in the setup */
+    private String text;
+    private String toFind;
+    private AhoCorasick automaton;
+    private Needle needle;
+    private SuffixArray suffixes;
+
+    @Setup
+    public void setup() {
+        text = Inputs.text(size, alphabet, skew);
+        toFind = text.substring(0, text.offsetByCodePoints(0, Math.min(2, size)));
+        automaton = AhoCorasick.compile(toFind);
+        needle = Needle.compile(toFind);
+        suffixes = SuffixArray.of(text);
+    }
+
+    @Benchmark
+    public int countStringInStringUsingIndexOf() {
+        return CountingSubstringOccurrencesInString.countStringInStringUsingIndexOf(text, toFind);
+    }
+
+    @Benchmark
+    public int countStringInStringUsingSplit() {
+        return CountingSubstringOccurrencesInString.countStringInStringUsingSplit(text, toFind);
+    }
+
+    @Benchmark
+    public int countStringInStringUsingPattern() {
+        return CountingSubstringOccurrencesInString.countStringInStringUsingPattern(text, toFind);
+    }
+
+    @Benchmark
+    public long countStringsInStringUsingAhoCorasick() {
+        return CountingSubstringOccurrencesInString.countStringsInStringUsingAhoCorasick(text, automaton, true);
+    }
+
+    @Benchmark
+    public int countStringInStringUsingNeedle() {
+        return CountingSubstringOccurrencesInString.countStringInStringUsingNeedle(text, needle, false);
+    }
+
+    @Benchmark
+    public int countStringInStringUsingSuffixArray() {
+        return CountingSubstringOccurrencesInString.countStringInStringUsingSuffixArray(suffixes, toFind, false);
+    }
+}
@@ -0,0 +1,30 @@
+package Benchmarks;
+
+import StringNumbersMath.CountingVowelsAndConsonants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class CountingVowelsAndConsonantsBenchmark extends TextBenchmark {
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = Inputs.text(size, alphabet, skew);
+    }
+
+    @Benchmark
+    public Object countVowelsAndConsonants() {
+        return CountingVowelsAndConsonants.countVowelsAndConsonants(text);
+    }
+
+    @Benchmark
+    public Object countVowelsAndConsonantsFunctionalStyle() {
+        return CountingVowelsAndConsonants.countVowelsAndConsonantsFunctionalStyle(text);
+    }
+
+    @Benchmark
+    public Object countVowelsAndConsonantsUsingHistogram() {
+        return CountingVowelsAndConsonants.countVowelsAndConsonantsUsingHistogram(text);
+    }
+}
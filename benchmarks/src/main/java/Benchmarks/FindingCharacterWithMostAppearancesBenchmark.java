@@ -0,0 +1,48 @@
+package Benchmarks;
+
+import StringNumbersMath.FindingCharacterWithMostAppearances;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class FindingCharacterWithMostAppearancesBenchmark extends TextBenchmark {
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = Inputs.text(size, alphabet, skew);
+    }
+
+    @Benchmark
+    public Object maxOccurenceCharacter() {
+        return FindingCharacterWithMostAppearances.maxOccurenceCharacter(text);
+    }
+
+    @Benchmark
+    public Object maxOccurenceCharacterUsingArray() {
+        return FindingCharacterWithMostAppearances.maxOccurenceCharacterUsingArray(text);
+    }
+
+    @Benchmark
+    public Object maxOccurenceCharacterUsingJavaStream() {
+        return FindingCharacterWithMostAppearances.maxOccurenceCharacterUsingJavaStream(text);
+    }
+
+    @Benchmark
+    public Object maxOccurenceCharacterUsingHistogram() {
+        return FindingCharacterWithMostAppearances.maxOccurenceCharacterUsingHistogram(text);
+    }
+
+    @Benchmark
+    public Object topK() {
+        return FindingCharacterWithMostAppearances.topK(text, 10);
+    }
+
+    @Benchmark
+    public Object topKUsingSketch() {
+        FindingCharacterWithMostAppearances.TopKSketch sketch = new FindingCharacterWithMostAppearances.TopKSketch(10);
+        sketch.accept(text);
+        sketch.finish();
+        return sketch.topK();
+    }
+}
@@ -0,0 +1,60 @@
+package Benchmarks;
+
+import StringNumbersMath.FindingFirstNonRepeatedCharacter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class FindingFirstNonRepeatedCharacterBenchmark extends TextBenchmark {
+
+    private String text;
+    private char[] chars;
+    private final FindingFirstNonRepeatedCharacter.Tracker tracker = new FindingFirstNonRepeatedCharacter.Tracker();
+
+    @Setup
+    public void setup() {
+        text = Inputs.text(size, alphabet, skew);
+        chars = text.toCharArray();
+    }
+
+    @Benchmark
+    public char findFirstNonRepeatedCharacterUsingSingleTraversal() {
+        return FindingFirstNonRepeatedCharacter.findFirstNonRepeatedCharacterUsingSingleTraversal(text);
+    }
+
+    @Benchmark
+    public char findFirstNonRepeatedCharacterUsingLinkedHashSet() {
+        return FindingFirstNonRepeatedCharacter.findFirstNonRepeatedCharacterUsingLinkedHashSet(text);
+    }
+
+    @Benchmark
+    public char findFirstNonRepeatedCharacterUsingLinkedHashMap() {
+        return FindingFirstNonRepeatedCharacter.findFirstNonRepeatedCharacterUsingLinkedHashMap(text);
+    }
+
+    @Benchmark
+    public char findFirstNonRepeatedCharacterUsingStream() {
+        return FindingFirstNonRepeatedCharacter.findFirstNonRepeatedCharacterUsingStream(text);
+    }
+
+    @Benchmark
+    public String firstNonRepeatedCharacterUsingFunctionalStyle() {
+        return FindingFirstNonRepeatedCharacter.firstNonRepeatedCharacterUsingFunctionalStyle(text);
+    }
+
+    @Benchmark
+    public int findFirstNonRepeatedCodePoint() {
+        return FindingFirstNonRepeatedCharacter.findFirstNonRepeatedCodePoint(text);
+    }
+
+    @Benchmark
+    public int findFirstNonRepeatedCodePointInCharArray() {
+        return FindingFirstNonRepeatedCharacter.findFirstNonRepeatedCodePoint(chars, 0, chars.length);
+    }
+
+    @Benchmark
+    public int findFirstNonRepeatedCodePointUsingTracker() {
+        tracker.clear();
+        tracker.accept(chars, 0, chars.length);
+        return tracker.firstNonRepeated();
+    }
+}
@@ -0,0 +1,79 @@
+package Benchmarks;
+
+import StringNumbersMath.FindingLongestCommonPrefix;
+import StringNumbersMath.PrefixIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class FindingLongestCommonPrefixBenchmark extends TextBenchmark {
+
+    /**
+     * size is the number of strings, they all share a 32 symbols prefix.
+     * findingLongestCommonPrefixUsingSorting() sorts its argument in place,
+     * so it works on a copy and the copy is part of its cost.
+     * The PrefixIndex is built once, its variants measure a query, and a
+     * remove and insert of one string followed by a query.
+     * */
+    private final FindingLongestCommonPrefix solution = new FindingLongestCommonPrefix();
+    private String[] strs;
+    private PrefixIndex index;
+
+    @Setup
+    public void setup() {
+        strs = Inputs.prefixed(size, 32, alphabet, skew);
+        index = PrefixIndex.of(strs);
+    }
+
+    @Benchmark
+    public String findingLongestCommonPrefixUsingCompare() {
+        return FindingLongestCommonPrefix.findingLongestCommonPrefixUsingCompare(strs);
+    }
+
+    @Benchmark
+    public String findingLongestCommonPrefixUsingDivideAndConquer() {
+        return FindingLongestCommonPrefix.findingLongestCommonPrefixUsingDivideAndConquer(strs);
+    }
+
+    @Benchmark
+    public String findingLongestCommonPrefixUsingTwoPointer() {
+        return solution.findingLongestCommonPrefixUsingTwoPointer(strs);
+    }
+
+    @Benchmark
+    public String findingLongestCommonPrefixUsingHorizontalScanning() {
+        return solution.findingLongestCommonPrefixUsingHorizontalScanning(strs);
+    }
+
+    @Benchmark
+    public String findingLongestCommonPrefixUsingVerticalScanning() {
+        return solution.findingLongestCommonPrefixUsingVerticalScanning(strs);
+    }
+
+    @Benchmark
+    public String findingLongestCommonPrefixUsingBinarySearch() {
+        return FindingLongestCommonPrefix.findingLongestCommonPrefixUsingBinarySearch(strs);
+    }
+
+    @Benchmark
+    public String findingLongestCommonPrefixUsingSorting() {
+        return FindingLongestCommonPrefix.findingLongestCommonPrefixUsingSorting(strs.clone());
+    }
+
+    @Benchmark
+    public String findingLongestCommonPrefixInParallel() {
+        return FindingLongestCommonPrefix.findingLongestCommonPrefixInParallel(strs);
+    }
+
+    @Benchmark
+    public String findingLongestCommonPrefixUsingIndex() {
+        return FindingLongestCommonPrefix.findingLongestCommonPrefixUsingIndex(index);
+    }
+
+    @Benchmark
+    public String findingLongestCommonPrefixUsingIndexAfterUpdate() {
+        String str = strs[strs.length / 2];
+        index.remove(str);
+        index.insert(str);
+        return FindingLongestCommonPrefix.findingLongestCommonPrefixUsingIndex(index);
+    }
+}
@@ -0,0 +1,73 @@
+package Benchmarks;
+
+import StringNumbersMath.GeneratingAllPermutations;
+import StringNumbersMath.Permutations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class GeneratingAllPermutationsBenchmark {
+
+    /**
+     * permuteAndPrint() and permuteAndPrintStream() write every permutation
+     * to System.out, so only permuteAndStoreUsingSet() is measured here, with the
+     * permutations generated in place (no String) and lazily (one String each).
+     * The size is kept small since there are n! permutations.
+     * */
+    @Param({"4", "6", "8"})
+    public int size;
+
+    @Param({"ASCII", "BMP", "SUPPLEMENTARY"})
+    public Inputs.Alphabet alphabet;
+
+    @Param({"UNIFORM", "ZIPF"})
+    public Inputs.Skew skew;
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = Inputs.text(size, alphabet, skew);
+    }
+
+    @Benchmark
+    public Set<String> permuteAndStoreUsingSet() {
+        return GeneratingAllPermutations.permuteAndStoreUsingSet(text);
+    }
+
+    @Benchmark
+    public long permuteInPlace() {
+        long sum = 0;
+        for (char[] permutation : Permutations.of(text)) {
+            sum += permutation[0];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long permuteLazily() {
+        return GeneratingAllPermutations.permuteLazily(text).mapToLong(String::hashCode).sum();
+    }
+
+    @Benchmark
+    public long permuteInParallel() {
+        return GeneratingAllPermutations.permuteInParallel(text).mapToLong(String::hashCode).sum();
+    }
+}
@@ -0,0 +1,224 @@
+package Benchmarks;
+
+import java.util.SplittableRandom;
+
+public final class Inputs {
+
+    /**
+     * Benchmark inputs
+     *
+     * Every harness builds its input from the same three knobs so that
+     * the variants of one problem are always measured on identical data:
+     *
+     * a. size     - number of code points (or strings) to generate
+     * b. alphabet - which part of Unicode the symbols are drawn from
+     * c. skew     - how the symbols are distributed over the alphabet
+     *
+     * The generator is seeded, so two runs (or two forks) see the same text.
+     * */
+    private static final long SEED = 0x5EED_CAFEL;
+
+    private Inputs() {
+    }
+
+    /**
+     * ASCII         - letters, digits and a space (1 byte per char in a compact String)
+     * BMP           - Greek, Cyrillic and CJK mixed with ASCII (UTF-16 String, no surrogates)
+     * SUPPLEMENTARY - emoji and mathematical letters mixed with ASCII (surrogate pairs)
+     *
+     * The non-ASCII blocks come first so that a ZIPF skew favours them.
+     * */
+    public enum Alphabet {
+        ASCII(asciiSymbols()),
+        BMP(concat(range(0x0391, 0x03A9), range(0x0410, 0x044F), range(0x4E00, 0x4E3F), asciiSymbols())),
+        SUPPLEMENTARY(concat(range(0x1F600, 0x1F63F), range(0x1D400, 0x1D433), asciiSymbols()));
+
+        private final int[] symbols;
+
+        Alphabet(int[] symbols) {
+            this.symbols = symbols;
+        }
+
+        public int[] symbols() {
+            return symbols.clone();
+        }
+    }
+
+    /**
+     * UNIFORM - every symbol is equally likely
+     * ZIPF    - the symbol of rank k has weight 1/k, a few symbols dominate the text
+     * */
+    public enum Skew {
+        UNIFORM,
+        ZIPF
+    }
+
+    /* Generate a string of the given number of code points */
+    public static String text(int codePoints, Alphabet alphabet, Skew skew) {
+        return text(codePoints, alphabet, skew, SEED);
+    }
+
+    public static String text(int codePoints, Alphabet alphabet, Skew skew, long seed) {
+        SymbolSource source = new SymbolSource(alphabet, skew, seed);
+        StringBuilder sb = new StringBuilder(codePoints * 2);
+
+        for (int i = 0; i < codePoints; i++) {
+            sb.appendCodePoint(source.next());
+        }
+
+        return sb.toString();
+    }
+
+    /* Generate a string made of decimal digits only */
+    public static String digits(int length) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        char[] chs = new char[length];
+
+        for (int i = 0; i < length; i++) {
+            chs[i] = (char) ('0' + random.nextInt(10));
+        }
+
+        return new String(chs);
+    }
+
+    /* Generate a text and append its reverse, the worst case for palindrome checks */
+    public static String palindrome(int codePoints, Alphabet alphabet, Skew skew) {
+        String half = text(codePoints / 2, alphabet, skew);
+        int[] cps = half.codePoints().toArray();
+        StringBuilder sb = new StringBuilder(half.length() * 2).append(half);
+
+        for (int i = cps.length - 1; i >= 0; i--) {
+            sb.appendCodePoint(cps[i]);
+        }
+
+        return sb.toString();
+    }
+
+    /* Generate count words (no white spaces inside a word) of about wordLength code points */
+    public static String[] words(int count, int wordLength, Alphabet alphabet, Skew skew) {
+        SymbolSource source = new SymbolSource(alphabet, skew, SEED);
+        String[] words = new String[count];
+
+        for (int i = 0; i < count; i++) {
+            int length = 1 + source.random.nextInt(wordLength * 2);
+            StringBuilder sb = new StringBuilder(length * 2);
+
+            while (sb.length() < length) {
+                int cp = source.next();
+                if (!Character.isWhitespace(cp)) {
+                    sb.appendCodePoint(cp);
+                }
+            }
+            words[i] = sb.toString();
+        }
+
+        return words;
+    }
+
+    /* Generate count strings sharing a common prefix of prefixLength code points */
+    public static String[] prefixed(int count, int prefixLength, Alphabet alphabet, Skew skew) {
+        String prefix = text(prefixLength, alphabet, skew);
+        String[] tails = words(count, 8, alphabet, skew);
+        String[] strs = new String[count];
+
+        for (int i = 0; i < count; i++) {
+            strs[i] = prefix + tails[i];
+        }
+
+        // Make sure the common prefix stops exactly at prefixLength,
+        // no generated tail starts with \u0000
+        if (count > 1) {
+            strs[count / 2] = prefix + "\u0000" + tails[count / 2];
+        }
+
+        return strs;
+    }
+
+    /* Pick a symbol that really occurs in the text, the most frequent one under ZIPF */
+    public static String firstSymbol(String text) {
+        return new String(Character.toChars(text.codePointAt(0)));
+    }
+
+    /* Take the last codePoints code points of the text */
+    public static String tail(String text, int codePoints) {
+        int n = Math.min(codePoints, text.codePointCount(0, text.length()));
+        return text.substring(text.offsetByCodePoints(text.length(), -n));
+    }
+
+    private static final class SymbolSource {
+        private final int[] symbols;
+        private final double[] cumulative;
+        private final SplittableRandom random;
+
+        SymbolSource(Alphabet alphabet, Skew skew, long seed) {
+            this.symbols = alphabet.symbols;
+            this.random = new SplittableRandom(seed);
+            this.cumulative = skew == Skew.ZIPF ? zipf(symbols.length) : null;
+        }
+
+        int next() {
+            if (cumulative == null) {
+                return symbols[random.nextInt(symbols.length)];
+            }
+
+            // Binary search the cumulative distribution
+            double u = random.nextDouble();
+            int low = 0;
+            int high = cumulative.length - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (cumulative[middle] < u) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return symbols[low];
+        }
+
+        private static double[] zipf(int n) {
+            double[] cumulative = new double[n];
+            double sum = 0;
+
+            for (int k = 1; k <= n; k++) {
+                sum += 1.0 / k;
+                cumulative[k - 1] = sum;
+            }
+            for (int k = 0; k < n; k++) {
+                cumulative[k] /= sum;
+            }
+
+            return cumulative;
+        }
+    }
+
+    private static int[] asciiSymbols() {
+        return concat(range('a', 'z'), range('A', 'Z'), range('0', '9'), new int[]{' '});
+    }
+
+    private static int[] range(int first, int last) {
+        int[] cps = new int[last - first + 1];
+
+        for (int i = 0; i < cps.length; i++) {
+            cps[i] = first + i;
+        }
+
+        return cps;
+    }
+
+    private static int[] concat(int[]... parts) {
+        int length = 0;
+        for (int[] part : parts) {
+            length += part.length;
+        }
+
+        int[] all = new int[length];
+        int position = 0;
+        for (int[] part : parts) {
+            System.arraycopy(part, 0, all, position, part.length);
+            position += part.length;
+        }
+
+        return all;
+    }
+}
@@ -0,0 +1,69 @@
+package Benchmarks;
+
+import StringNumbersMath.JoiningMultipleStringsWithDelimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class JoiningMultipleStringsWithDelimiterBenchmark extends TextBenchmark {
+
+    /**
+     * size is the number of strings to join here.
+     * The buffer variants write the UTF-8 bytes of the result to a ByteBuffer,
+     * through a String (String.join() then getBytes()) or directly.
+     * */
+    private String[] words;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        words = Inputs.words(size, 8, alphabet, skew);
+        buffer = ByteBuffer.allocate(String.join(",", words).getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Benchmark
+    public String joinByDelimiterBruteForce() {
+        return JoiningMultipleStringsWithDelimiter.joinByDelimiterBruteForce(',', words);
+    }
+
+    @Benchmark
+    public String joinByDelimiter() {
+        return JoiningMultipleStringsWithDelimiter.joinByDelimiter(',', words);
+    }
+
+    @Benchmark
+    public String joinByDelimiterUsingStringJoiner() {
+        return JoiningMultipleStringsWithDelimiter.joinByDelimiterUsingStringJoiner(',', words);
+    }
+
+    @Benchmark
+    public String joinByDelimiterUsingJoin() {
+        return JoiningMultipleStringsWithDelimiter.joinByDelimiterUsingJoin(",", words);
+    }
+
+    @Benchmark
+    public String joinByDelimiterUsingCollectorJoining() {
+        return JoiningMultipleStringsWithDelimiter.joinByDelimiterUsingCollectorJoining(',', words);
+    }
+
+    @Benchmark
+    public ByteBuffer joinByDelimiterUsingJoinToBuffer() {
+        buffer.clear();
+        return buffer.put(JoiningMultipleStringsWithDelimiter.joinByDelimiterUsingJoin(",", words).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public ByteBuffer joinByDelimiterToBuffer() {
+        buffer.clear();
+        return JoiningMultipleStringsWithDelimiter.joinByDelimiterToBuffer(',', buffer, words);
+    }
+
+    @Benchmark
+    public long joinByDelimiterToStream() throws IOException {
+        return JoiningMultipleStringsWithDelimiter.joinByDelimiterToStream(',', OutputStream.nullOutputStream(), words);
+    }
+}
@@ -0,0 +1,66 @@
+package Benchmarks;
+
+import StringNumbersMath.Needle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class NeedleBenchmark extends TextBenchmark {
+
+    /**
+     * Needle against String.indexOf()
+     *
+     * The needle is taken from the end of the text, so the whole text is scanned.
+     * PERIODIC replaces the text with aaa...ab and the needle with aa...ab, the
+     * worst case of the naive and Horspool searches
+     * */
+    @Param({"2", "8", "32"})
+    public int needleLength;
+
+    @Param({"TEXT", "PERIODIC"})
+    public String shape;
+
+    private String text;
+    private char[] chars;
+    private ByteBuffer bytes;
+    private String toFind;
+    private Needle needle;
+
+    @Setup
+    public void setup() {
+        if (shape.equals("PERIODIC")) {
+            text = "a".repeat(size - 1) + "b";
+            toFind = "a".repeat(needleLength - 1) + "b";
+        } else {
+            text = Inputs.text(size, alphabet, skew);
+            toFind = Inputs.tail(text, needleLength);
+        }
+
+        chars = text.toCharArray();
+        bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        needle = Needle.compile(toFind);
+    }
+
+    @Benchmark
+    public int stringIndexOf() {
+        return text.indexOf(toFind);
+    }
+
+    @Benchmark
+    public int needleIndexOf() {
+        return needle.indexOf(text);
+    }
+
+    @Benchmark
+    public int needleIndexOfCharArray() {
+        return needle.indexOf(chars, 0, chars.length);
+    }
+
+    @Benchmark
+    public int needleIndexOfByteBuffer() {
+        return needle.indexOf(bytes);
+    }
+}
@@ -0,0 +1,45 @@
+package Benchmarks;
+
+import StringNumbersMath.RemovingDuplicateCharacters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.List;
+
+public class RemovingDuplicateCharactersBenchmark extends TextBenchmark {
+
+    /* removeDuplicatesOfMany() deduplicates size words of 16 code points */
+    private String text;
+    private List<String> words;
+
+    @Setup
+    public void setup() {
+        text = Inputs.text(size, alphabet, skew);
+        words = List.of(Inputs.words(size, 16, alphabet, skew));
+    }
+
+    @Benchmark
+    public String removeDuplicates() {
+        return RemovingDuplicateCharacters.removeDuplicates(text);
+    }
+
+    @Benchmark
+    public String removeDuplicatesUsingHashSet() {
+        return RemovingDuplicateCharacters.removeDuplicatesUsingHashSet(text);
+    }
+
+    @Benchmark
+    public String removeDuplicatesUsingJavaStream() {
+        return RemovingDuplicateCharacters.removeDuplicatesUsingJavaStream(text);
+    }
+
+    @Benchmark
+    public String removeDuplicatesUsingBitSet() {
+        return RemovingDuplicateCharacters.removeDuplicatesUsingBitSet(text);
+    }
+
+    @Benchmark
+    public List<String> removeDuplicatesOfMany() {
+        return RemovingDuplicateCharacters.removeDuplicatesUsingBitSet(words);
+    }
+}
@@ -0,0 +1,49 @@
+package Benchmarks;
+
+import StringNumbersMath.RemovingGivenCharacter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class RemovingGivenCharacterBenchmark extends TextBenchmark {
+
+    private String text;
+    private String symbol;
+    private char ch;
+
+    @Setup
+    public void setup() {
+        text = Inputs.text(size, alphabet, skew);
+        symbol = Inputs.firstSymbol(text);
+        ch = symbol.charAt(0);
+    }
+
+    @Benchmark
+    public String removeCharacter() {
+        return RemovingGivenCharacter.removeCharacter(text, ch);
+    }
+
+    @Benchmark
+    public String removeCharacterUsingStringBuilder() {
+        return RemovingGivenCharacter.removeCharacterUsingStringBuilder(text, ch);
+    }
+
+    @Benchmark
+    public String removeCharacterUsingJavaStream() {
+        return RemovingGivenCharacter.removeCharacterUsingJavaStream(text, ch);
+    }
+
+    @Benchmark
+    public String removeUnicodeCharacter() {
+        return RemovingGivenCharacter.removeUnicodeCharacter(text, symbol);
+    }
+
+    @Benchmark
+    public String removeCharacterInSinglePass() {
+        return RemovingGivenCharacter.removeCharacterInSinglePass(text, ch);
+    }
+
+    @Benchmark
+    public String removeUnicodeCharacterInSinglePass() {
+        return RemovingGivenCharacter.removeUnicodeCharacterInSinglePass(text, symbol);
+    }
+}
@@ -0,0 +1,25 @@
+package Benchmarks;
+
+import StringNumbersMath.RemovingLeadingAndTrailingSpaces;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class RemovingLeadingAndTrailingSpacesBenchmark extends TextBenchmark {
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = "  \t " + Inputs.text(size, alphabet, skew) + " \t  ";
+    }
+
+    @Benchmark
+    public String removeLeadingAndTrailingSpacesUsingStringTrim() {
+        return RemovingLeadingAndTrailingSpaces.removeLeadingAndTrailingSpacesUsingStringTrim(text);
+    }
+
+    @Benchmark
+    public String removeLeadingAndTrailingSpacesUsingStrip() {
+        return RemovingLeadingAndTrailingSpaces.removeLeadingAndTrailingSpacesUsingStrip(text);
+    }
+}
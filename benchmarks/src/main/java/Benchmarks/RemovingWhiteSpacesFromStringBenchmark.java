@@ -0,0 +1,25 @@
+package Benchmarks;
+
+import StringNumbersMath.RemovingWhiteSpacesFromString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class RemovingWhiteSpacesFromStringBenchmark extends TextBenchmark {
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = Inputs.text(size, alphabet, skew);
+    }
+
+    @Benchmark
+    public String removeWhitespaces() {
+        return RemovingWhiteSpacesFromString.removeWhitespaces(text);
+    }
+
+    @Benchmark
+    public String removeWhitespacesInSinglePass() {
+        return RemovingWhiteSpacesFromString.removeWhitespacesInSinglePass(text);
+    }
+}
@@ -0,0 +1,42 @@
+package Benchmarks;
+
+import StringNumbersMath.ReversingLettersAndWords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+public class ReversingLettersAndWordsBenchmark extends TextBenchmark {
+
+    private final ReversingLettersAndWords solution = new ReversingLettersAndWords();
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = String.join(" ", Inputs.words(Math.max(1, size / 8), 8, alphabet, skew));
+    }
+
+    @Benchmark
+    public String reverseWordsUsingStringBuilder() {
+        return solution.reverseWordsUsingStringBuilder(text);
+    }
+
+    @Benchmark
+    public String reverseWordsUsingJavaStream() {
+        return solution.reverseWordsUsingJavaStream(text);
+    }
+
+    @Benchmark
+    public String reverseWordsInPlace() {
+        return solution.reverseWordsInPlace(text);
+    }
+
+    @Benchmark
+    public String reverseWordsStreaming() throws IOException {
+        StringWriter out = new StringWriter(text.length());
+        solution.reverseWordsStreaming(new StringReader(text), out);
+        return out.toString();
+    }
+}
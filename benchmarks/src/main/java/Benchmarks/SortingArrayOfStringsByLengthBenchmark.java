@@ -0,0 +1,35 @@
+package Benchmarks;
+
+import StringNumbersMath.SortingArrayOfStringsByLength;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class SortingArrayOfStringsByLengthBenchmark extends TextBenchmark {
+
+    /* size is the number of strings to sort, the in-place variants sort a copy each time */
+    private String[] words;
+
+    @Setup
+    public void setup() {
+        words = Inputs.words(size, 8, alphabet, skew);
+    }
+
+    @Benchmark
+    public String[] sortArrayByLength() {
+        String[] strs = words.clone();
+        SortingArrayOfStringsByLength.sortArrayByLength(strs, "ASC");
+        return strs;
+    }
+
+    @Benchmark
+    public String[] sortArrayByLengthUsingJavaStreamVoid() {
+        String[] strs = words.clone();
+        SortingArrayOfStringsByLength.sortArrayByLengthUsingJavaStreamVoid(strs, "ASC");
+        return strs;
+    }
+
+    @Benchmark
+    public String[] sortArrayByLengthUsingJavaStream() {
+        return SortingArrayOfStringsByLength.sortArrayByLengthUsingJavaStream(words, "ASC");
+    }
+}
@@ -0,0 +1,43 @@
+package Benchmarks;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "--add-modules=jdk.incubator.vector"})
+public abstract class TextBenchmark {
+
+    /**
+     * Common parameters of the string harnesses
+     *
+     * Every benchmark method of a subclass is one solution variant of the same
+     * problem, so BenchmarkReport can rank them against each other for each
+     * (size, alphabet, skew) combination.
+     *
+     * Note that some variants do not survive every input, for example the ones
+     * built on a 256 entries table (extended ASCII) throw
+     * ArrayIndexOutOfBoundsException on BMP and SUPPLEMENTARY input.
+     * JMH reports them as failed and BenchmarkReport lists them as such.
+     * */
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    @Param({"ASCII", "BMP", "SUPPLEMENTARY"})
+    public Inputs.Alphabet alphabet;
+
+    @Param({"UNIFORM", "ZIPF"})
+    public Inputs.Skew skew;
+}
@@ -0,0 +1,35 @@
+package Benchmarks;
+
+import StringNumbersMath.TransformingStrings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class TransformingStringsBenchmark extends TextBenchmark {
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = Inputs.text(size, alphabet, skew);
+    }
+
+    @Benchmark
+    public String transformingStringsUsingMap() {
+        return TransformingStrings.transformingStringsUsingMap(text);
+    }
+
+    @Benchmark
+    public String transformingStringsUsingMapLowerCase() {
+        return TransformingStrings.transformingStringsUsingMapLowerCase(text);
+    }
+
+    @Benchmark
+    public String transformingStringsUsingTransform() {
+        return TransformingStrings.transformingStringsUsingTransform(text);
+    }
+
+    @Benchmark
+    public String transformingStringsUsingTransformLowerCase() {
+        return TransformingStrings.transformingStringsUsingTransformLowerCase(text);
+    }
+}
@@ -0,0 +1,277 @@
+package StringNumbersMath;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+public final class AhoCorasick {
+
+    /**
+     * An Aho-Corasick automaton: finds all the occurrences of many keywords
+     * in a single pass over the text, instead of one indexOf() loop per keyword
+     *
+     * a. The keywords are inserted in a trie, every state is a prefix of a keyword
+     * b. Every state gets a failure link to the state of its longest proper suffix
+     * that is also in the trie, which is where the search continues on a mismatch
+     * c. Every state gets a dictionary link to the nearest state along its
+     * failure links that ends a keyword, so all the keywords ending at a
+     * position are enumerated without visiting the other states
+     *
+     * The automaton is built once by compile() and is immutable afterwards: the
+     * trie is frozen in flat arrays (sorted edges per state, plus a dense table
+     * for the root since most transitions fall back to it), so it can be shared
+     * by any number of threads.
+     * It works on UTF-16 chars, surrogate pairs included. Duplicate keywords are
+     * matched once, under the index of their first appearance.
+     *
+     * Overlapping: every occurrence of every keyword is reported
+     * Non-overlapping: the scan restarts after each match, and at each position
+     * the match ending first (the shortest one) wins, which gives the maximum
+     * number of non-overlapping occurrences (11 in 111 occurs 1 time)
+     * */
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final List<String> keywords;
+
+    private final int[] rootNext;
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+
+    private final int[] fail;
+    private final int[] keywordAt;
+    private final int[] dictionaryLink;
+    private final int[] matchCount;
+
+    /* Receives the matches of forEachMatch(), end is exclusive */
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(int keyword, int start, int end);
+    }
+
+    /* A match of the keyword of the given index in [start, end) */
+    public static final class Match {
+        private final int keyword;
+        private final int start;
+        private final int end;
+
+        Match(int keyword, int start, int end) {
+            this.keyword = keyword;
+            this.start = start;
+            this.end = end;
+        }
+
+        public int keyword() {
+            return keyword;
+        }
+
+        public int start() {
+            return start;
+        }
+
+        public int end() {
+            return end;
+        }
+
+        @Override
+        public String toString() {
+            return "Match{keyword=" + keyword + ", start=" + start + ", end=" + end + "}";
+        }
+    }
+
+    public static AhoCorasick compile(String... keywords) {
+        return compile(Arrays.asList(keywords));
+    }
+
+    public static AhoCorasick compile(Collection<String> keywords) {
+        return new AhoCorasick(List.copyOf(keywords));
+    }
+
+    private AhoCorasick(List<String> keywords) {
+        this.keywords = keywords;
+
+        // 1. Build the trie with maps, the edges come out sorted from a TreeMap
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> ends = new ArrayList<>();
+        children.add(new TreeMap<>());
+        ends.add(NONE);
+
+        for (int k = 0; k < keywords.size(); k++) {
+            String keyword = keywords.get(k);
+            if (keyword.isEmpty()) {
+                throw new IllegalArgumentException("Keyword " + k + " is empty");
+            }
+
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                Integer next = children.get(state).get(keyword.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(keyword.charAt(i), next);
+                    children.add(new TreeMap<>());
+                    ends.add(NONE);
+                }
+                state = next;
+            }
+
+            if (ends.get(state) == NONE) {
+                ends.set(state, k);
+            }
+        }
+
+        // 2. Freeze it in flat arrays
+        int states = children.size();
+        rootNext = new int[Character.MAX_VALUE + 1];
+        edgeStart = new int[states + 1];
+        keywordAt = new int[states];
+
+        int edges = 0;
+        for (int state = 0; state < states; state++) {
+            edgeStart[state] = edges;
+            edges += children.get(state).size();
+            keywordAt[state] = ends.get(state);
+        }
+        edgeStart[states] = edges;
+
+        edgeChars = new char[edges];
+        edgeTargets = new int[edges];
+        for (int state = 0; state < states; state++) {
+            int edge = edgeStart[state];
+            for (Map.Entry<Character, Integer> child : children.get(state).entrySet()) {
+                edgeChars[edge] = child.getKey();
+                edgeTargets[edge] = child.getValue();
+                edge++;
+            }
+        }
+        for (Map.Entry<Character, Integer> child : children.get(ROOT).entrySet()) {
+            rootNext[child.getKey()] = child.getValue();
+        }
+
+        // 3. Failure and dictionary links, breadth first so the links of the
+        // shorter prefixes are known first
+        fail = new int[states];
+        dictionaryLink = new int[states];
+        matchCount = new int[states];
+        dictionaryLink[ROOT] = NONE;
+
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int edge = edgeStart[ROOT]; edge < edgeStart[ROOT + 1]; edge++) {
+            int child = edgeTargets[edge];
+            fail[child] = ROOT;
+            link(child);
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+
+            for (int edge = edgeStart[state]; edge < edgeStart[state + 1]; edge++) {
+                int child = edgeTargets[edge];
+                fail[child] = next(fail[state], edgeChars[edge]);
+                link(child);
+                queue.add(child);
+            }
+        }
+    }
+
+    public List<String> keywords() {
+        return keywords;
+    }
+
+    /* Number of occurrences of all the keywords, overlapping ones included */
+    public long count(CharSequence text) {
+        long count = 0;
+        int state = ROOT;
+
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            count += matchCount[state];
+        }
+
+        return count;
+    }
+
+    /* Maximum number of non-overlapping occurrences of the keywords */
+    public long countNonOverlapping(CharSequence text) {
+        long count = 0;
+        int state = ROOT;
+
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (matchCount[state] > 0) {
+                count++;
+                state = ROOT;
+            }
+        }
+
+        return count;
+    }
+
+    public List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        forEachMatch(text, true, (keyword, start, end) -> matches.add(new Match(keyword, start, end)));
+        return matches;
+    }
+
+    public List<Match> findAllNonOverlapping(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        forEachMatch(text, false, (keyword, start, end) -> matches.add(new Match(keyword, start, end)));
+        return matches;
+    }
+
+    /* Report the matches in order of their end, without allocating */
+    public void forEachMatch(CharSequence text, boolean overlapping, MatchListener listener) {
+        int state = ROOT;
+
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (matchCount[state] == 0) {
+                continue;
+            }
+
+            // From the longest keyword ending here to the shortest
+            int match = keywordAt[state] != NONE ? state : dictionaryLink[state];
+            if (overlapping) {
+                for (; match != NONE; match = dictionaryLink[match]) {
+                    report(listener, match, i + 1);
+                }
+            } else {
+                while (dictionaryLink[match] != NONE) {
+                    match = dictionaryLink[match];
+                }
+                report(listener, match, i + 1);
+                state = ROOT;
+            }
+        }
+    }
+
+    private void report(MatchListener listener, int state, int end) {
+        int keyword = keywordAt[state];
+        listener.onMatch(keyword, end - keywords.get(keyword).length(), end);
+    }
+
+    private int next(int state, char ch) {
+        while (state != ROOT) {
+            int edge = Arrays.binarySearch(edgeChars, edgeStart[state], edgeStart[state + 1], ch);
+            if (edge >= 0) {
+                return edgeTargets[edge];
+            }
+            state = fail[state];
+        }
+
+        return rootNext[ch];
+    }
+
+    /* Dictionary link and number of keywords ending at a state whose failure link is set */
+    private void link(int state) {
+        int suffix = fail[state];
+        dictionaryLink[state] = keywordAt[suffix] != NONE ? suffix : dictionaryLink[suffix];
+        matchCount[state] = (keywordAt[state] != NONE ? 1 : 0) + matchCount[suffix];
+    }
+}
@@ -0,0 +1,265 @@
+package StringNumbersMath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+public final class AnagramIndex {
+
+    /**
+     * Groups words into anagram classes, for millions of words
+     *
+     * Two words are anagrams when they have the same multiset of code points,
+     * white spaces ignored, after case folding. Instead of sorting the chars of
+     * every word (a char[] and a String per word) to get a key, the multiset is
+     * summarized by a 128-bit signature, computed in one pass without allocation:
+     *
+     * a. Each folded code point is hashed by two independent 64-bit mixers, and
+     * the signature is the (wrapping) sum of these hashes over the word, so it
+     * does not depend on the order of the code points, only on their counts
+     * b. The signatures are the keys of an open-addressing hash table of two
+     * long[] arrays, the values are group numbers
+     * c. The words of a group are linked through an int[] in insertion order, so
+     * a group costs a few ints and a word one String reference and one int
+     *
+     * Two different multisets get the same signature with a probability of about
+     * 2^-128 for random words, the index does not compare the words themselves.
+     *
+     * Case folding is the full one of Unicode, as far as the JDK exposes it:
+     * a code point is mapped to upper case then to lower case (σ, ς and Σ all
+     * become σ, K and the Kelvin sign become k), and the code points whose upper
+     * case is longer (ß is SS, the ﬁ ligature is FI) are expanded first, so ß
+     * and ss are anagrams.
+     * Like the collections of java.util, an instance is not thread-safe.
+     * */
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY = -1;
+
+    private static final long SEED_LOW = 0x9E3779B97F4A7C15L;
+    private static final long SEED_HIGH = 0xC2B2AE3D27D4EB4FL;
+
+    // The groups: signature, first and last word, size
+    private long[] groupLow = new long[INITIAL_CAPACITY];
+    private long[] groupHigh = new long[INITIAL_CAPACITY];
+    private int[] groupFirst = new int[INITIAL_CAPACITY];
+    private int[] groupLast = new int[INITIAL_CAPACITY];
+    private int[] groupSize = new int[INITIAL_CAPACITY];
+    private int groups;
+
+    // The words, and the next word of the same group
+    private String[] words = new String[INITIAL_CAPACITY];
+    private int[] nextWord = new int[INITIAL_CAPACITY];
+    private int size;
+
+    // Open-addressing table of group numbers, at most half full
+    private int[] table = emptyTable(INITIAL_CAPACITY * 2);
+
+    /* The signature of the last call to sign(), to return two longs without allocating */
+    private long low;
+    private long high;
+
+    public int size() {
+        return size;
+    }
+
+    public int groups() {
+        return groups;
+    }
+
+    /* Adds the word and returns the number of its group (groups are numbered in order of creation) */
+    public int add(CharSequence word) {
+        sign(word);
+        int slot = find(low, high);
+        int group = table[slot];
+
+        if (group == EMPTY) {
+            group = newGroup(low, high);
+            table[slot] = group;
+            if (groups * 2 > table.length) {
+                rehash();
+            }
+        }
+
+        int index = newWord(word.toString());
+        if (groupSize[group] == 0) {
+            groupFirst[group] = index;
+        } else {
+            nextWord[groupLast[group]] = index;
+        }
+        groupLast[group] = index;
+        groupSize[group]++;
+        return group;
+    }
+
+    public void addAll(Iterable<? extends CharSequence> words) {
+        for (CharSequence word : words) {
+            add(word);
+        }
+    }
+
+    /* The words added so far that are anagrams of query, in the order they were added */
+    public List<String> anagramsOf(CharSequence query) {
+        int group = groupOf(query);
+        return group == EMPTY ? new ArrayList<>() : group(group);
+    }
+
+    public int countAnagramsOf(CharSequence query) {
+        int group = groupOf(query);
+        return group == EMPTY ? 0 : groupSize[group];
+    }
+
+    /* The words of the given group, in the order they were added */
+    public List<String> group(int group) {
+        List<String> anagrams = new ArrayList<>(groupSize[group]);
+        for (int word = groupFirst[group], i = 0; i < groupSize[group]; word = nextWord[word], i++) {
+            anagrams.add(words[word]);
+        }
+        return anagrams;
+    }
+
+    /* The groups of at least minSize words, in order of creation */
+    public List<List<String>> groups(int minSize) {
+        List<List<String>> result = new ArrayList<>();
+        for (int group = 0; group < groups; group++) {
+            if (groupSize[group] >= minSize) {
+                result.add(group(group));
+            }
+        }
+        return result;
+    }
+
+    private int groupOf(CharSequence query) {
+        sign(query);
+        return table[find(low, high)];
+    }
+
+    /* The slot of the signature, or the empty slot where it goes */
+    private int find(long low, long high) {
+        int mask = table.length - 1;
+        int slot = (int) (low ^ (low >>> 32)) & mask;
+
+        while (table[slot] != EMPTY) {
+            int group = table[slot];
+            if (groupLow[group] == low && groupHigh[group] == high) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        table = emptyTable(table.length * 2);
+        for (int group = 0; group < groups; group++) {
+            table[find(groupLow[group], groupHigh[group])] = group;
+        }
+    }
+
+    private static int[] emptyTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    private int newGroup(long low, long high) {
+        if (groups == groupLow.length) {
+            int capacity = groups * 2;
+            groupLow = Arrays.copyOf(groupLow, capacity);
+            groupHigh = Arrays.copyOf(groupHigh, capacity);
+            groupFirst = Arrays.copyOf(groupFirst, capacity);
+            groupLast = Arrays.copyOf(groupLast, capacity);
+            groupSize = Arrays.copyOf(groupSize, capacity);
+        }
+
+        groupLow[groups] = low;
+        groupHigh[groups] = high;
+        return groups++;
+    }
+
+    private int newWord(String word) {
+        if (size == words.length) {
+            words = Arrays.copyOf(words, size * 2);
+            nextWord = Arrays.copyOf(nextWord, size * 2);
+        }
+
+        words[size] = word;
+        nextWord[size] = EMPTY;
+        return size++;
+    }
+
+    /* Computes the signature of word into low and high */
+    private void sign(CharSequence word) {
+        long low = 0;
+        long high = 0;
+
+        for (int i = 0; i < word.length(); ) {
+            int cp = Character.codePointAt(word, i);
+            i += Character.charCount(cp);
+            if (Character.isWhitespace(cp)) {
+                continue;
+            }
+
+            int[] expansion = expansion(cp);
+            if (expansion == null) {
+                int folded = fold(cp);
+                low += mix(folded * SEED_LOW);
+                high += mix(folded * SEED_HIGH + SEED_LOW);
+            } else {
+                for (int folded : expansion) {
+                    low += mix(folded * SEED_LOW);
+                    high += mix(folded * SEED_HIGH + SEED_LOW);
+                }
+            }
+        }
+
+        this.low = low;
+        this.high = high;
+    }
+
+    /* The finalizer of MurmurHash3, every bit of the input changes about half of the output */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /* Simple case folding of a code point */
+    static int fold(int cp) {
+        return Character.toLowerCase(Character.toUpperCase(cp));
+    }
+
+    /* The folded code points of cp when its upper case has more than one, else null */
+    static int[] expansion(int cp) {
+        if (cp >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            return null;
+        }
+        int index = Expansions.INDEX.get(cp);
+        return index < 0 ? null : Expansions.FOLDED[index];
+    }
+
+    /* Built on first use: the BMP code points whose upper case is longer (about a hundred) */
+    private static final class Expansions {
+        static final CodePointIntMap INDEX = new CodePointIntMap(-1);
+        static final int[][] FOLDED;
+
+        static {
+            List<int[]> folded = new ArrayList<>();
+            for (int cp = 0; cp < Character.MIN_SUPPLEMENTARY_CODE_POINT; cp++) {
+                if (Character.isSurrogate((char) cp)) {
+                    continue;
+                }
+
+                String upper = String.valueOf((char) cp).toUpperCase(Locale.ROOT);
+                if (upper.length() > 1) {
+                    INDEX.put(cp, folded.size());
+                    folded.add(upper.codePoints().map(AnagramIndex::fold).toArray());
+                }
+            }
+            FOLDED = folded.toArray(new int[0][]);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package StringNumbersMath;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class CharacterHistogram {
+
+    /**
+     * The character histogram kernel shared by the counting problems
+     * (CountingDuplicateCharacters, FindingCharacterWithMostAppearances,
+     * CountingOccurrencesOfCertainCharacter and CountingVowelsAndConsonants)
+     *
+     * Instead of a Map<Character, Long>, the result is a primitive array indexed
+     * by the character code: histogram[ch] is the number of occurrences of ch.
+     *
+     * a. byte[] input (Latin-1 / ASCII bytes) gives an int[256]
+     * b. char[] input gives an int[256] when every char is Latin-1, which is
+     * checked with one vectorized pass, and an int[65536] otherwise
+     * c. accumulate() adds a range to a long[] histogram, for payloads that are
+     * counted chunk by chunk
+     * d. String input is copied by chunks of 4K chars (String.getChars()) to a
+     * per-thread buffer that stays in cache, and each chunk is counted as a
+     * char[]: the String is read once, without a copy of its whole length
+     *
+     * A histogram is a scatter of increments, which the Vector API cannot do, so it
+     * is counted by a scalar loop spreading the increments over 4 interleaved
+     * sub-histograms: consecutive equal characters do not wait on each other's
+     * store, and the loop runs at the speed of the memory.
+     * The passes that do vectorize (Latin-1 check, counting a single character)
+     * use jdk.incubator.vector when the module is present at runtime
+     * (--add-modules jdk.incubator.vector), with a scalar fallback otherwise.
+     * Surrogate pairs are counted as their two halves, like charAt() does.
+     * */
+    public static final int LATIN1_CODES = 256;
+    public static final int CHAR_CODES = Character.MAX_VALUE + 1;
+
+    private static final int STRIPES = 4;
+    private static final int CHUNK = 4096; // 8 KB of chars per buffer
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[CHUNK]);
+
+    /* Vector API is an incubator module, VectorKernels is only loaded when it is available */
+    static final boolean VECTORIZED =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && !Boolean.getBoolean("StringNumbersMath.scalar");
+
+    private CharacterHistogram() {
+    }
+
+    public static int[] histogram(byte[] bytes) {
+        return histogram(bytes, 0, bytes.length);
+    }
+
+    public static int[] histogram(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+
+        int[] stripes = new int[STRIPES * LATIN1_CODES];
+        int limit = offset + length;
+        int i = offset;
+
+        for (; i + STRIPES <= limit; i += STRIPES) {
+            stripes[bytes[i] & 0xFF]++;
+            stripes[LATIN1_CODES + (bytes[i + 1] & 0xFF)]++;
+            stripes[2 * LATIN1_CODES + (bytes[i + 2] & 0xFF)]++;
+            stripes[3 * LATIN1_CODES + (bytes[i + 3] & 0xFF)]++;
+        }
+        for (; i < limit; i++) {
+            stripes[bytes[i] & 0xFF]++;
+        }
+
+        return fold(stripes);
+    }
+
+    public static int[] histogram(char[] chs) {
+        return histogram(chs, 0, chs.length);
+    }
+
+    /* The returned array has LATIN1_CODES entries if every char is Latin-1, CHAR_CODES otherwise */
+    public static int[] histogram(char[] chs, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, chs.length);
+        int limit = offset + length;
+
+        if (!isLatin1(chs, offset, length)) {
+            int[] histogram = new int[CHAR_CODES];
+            for (int i = offset; i < limit; i++) {
+                histogram[chs[i]]++;
+            }
+            return histogram;
+        }
+
+        int[] stripes = new int[STRIPES * LATIN1_CODES];
+        stripe(chs, offset, limit, stripes);
+        return fold(stripes);
+    }
+
+    /* Same as histogram(char[]), the String is counted chunk by chunk */
+    public static int[] histogram(String s) {
+        char[] buffer = BUFFER.get();
+        int[] stripes = new int[STRIPES * LATIN1_CODES];
+        int[] histogram = null; // CHAR_CODES entries, from the first chunk that is not Latin-1
+
+        for (int i = 0, n = s.length(); i < n; i += CHUNK) {
+            int length = Math.min(CHUNK, n - i);
+            s.getChars(i, i + length, buffer, 0);
+
+            if (histogram == null && isLatin1(buffer, 0, length)) {
+                stripe(buffer, 0, length, stripes);
+            } else {
+                if (histogram == null) {
+                    histogram = new int[CHAR_CODES];
+                }
+                for (int k = 0; k < length; k++) {
+                    histogram[buffer[k]]++;
+                }
+            }
+        }
+
+        int[] latin1 = fold(stripes);
+        if (histogram == null) {
+            return latin1;
+        }
+        for (int code = 0; code < LATIN1_CODES; code++) {
+            histogram[code] += latin1[code];
+        }
+        return histogram;
+    }
+
+    /* Count the Latin-1 chars of [offset, limit) over the interleaved sub-histograms */
+    private static void stripe(char[] chs, int offset, int limit, int[] stripes) {
+        int i = offset;
+
+        for (; i + STRIPES <= limit; i += STRIPES) {
+            stripes[chs[i]]++;
+            stripes[LATIN1_CODES + chs[i + 1]]++;
+            stripes[2 * LATIN1_CODES + chs[i + 2]]++;
+            stripes[3 * LATIN1_CODES + chs[i + 3]]++;
+        }
+        for (; i < limit; i++) {
+            stripes[chs[i]]++;
+        }
+    }
+
+    /**
+     * Add the chars of the range to an int[] histogram of LATIN1_CODES or CHAR_CODES
+     * entries and return it, a LATIN1_CODES histogram is first widened (copied)
+     * to CHAR_CODES entries if the range is not Latin-1
+     * Meant for chunks small enough to stay in cache between the check and the count
+     * */
+    public static int[] accumulate(char[] chs, int offset, int length, int[] histogram) {
+        Objects.checkFromIndexSize(offset, length, chs.length);
+        if (histogram.length != LATIN1_CODES && histogram.length != CHAR_CODES) {
+            throw new IllegalArgumentException("The histogram must have " + LATIN1_CODES + " or "
+                    + CHAR_CODES + " entries: " + histogram.length);
+        }
+
+        if (histogram.length < CHAR_CODES && !isLatin1(chs, offset, length)) {
+            histogram = Arrays.copyOf(histogram, CHAR_CODES);
+        }
+
+        for (int i = offset; i < offset + length; i++) {
+            histogram[chs[i]]++;
+        }
+
+        return histogram;
+    }
+
+    /* Add the bytes of the range to a histogram of (at least) LATIN1_CODES entries */
+    public static void accumulate(byte[] bytes, int offset, int length, long[] histogram) {
+        Objects.checkFromIndexSize(0, LATIN1_CODES, histogram.length);
+        int[] counts = histogram(bytes, offset, length);
+
+        for (int code = 0; code < LATIN1_CODES; code++) {
+            histogram[code] += counts[code];
+        }
+    }
+
+    /* Add the chars of the range to a histogram of CHAR_CODES entries */
+    public static void accumulate(char[] chs, int offset, int length, long[] histogram) {
+        Objects.checkFromIndexSize(0, CHAR_CODES, histogram.length);
+        int[] counts = histogram(chs, offset, length);
+
+        for (int code = 0; code < counts.length; code++) {
+            histogram[code] += counts[code];
+        }
+    }
+
+    /* Occurrences of ch in a histogram returned by histogram() */
+    public static int occurrences(int[] histogram, char ch) {
+        return ch < histogram.length ? histogram[ch] : 0;
+    }
+
+    public static int count(byte[] bytes, int offset, int length, byte b) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+
+        if (VECTORIZED) {
+            return VectorKernels.count(bytes, offset, length, b);
+        }
+
+        int count = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (bytes[i] == b) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    public static int count(char[] chs, int offset, int length, char ch) {
+        Objects.checkFromIndexSize(offset, length, chs.length);
+
+        if (VECTORIZED) {
+            return VectorKernels.count(chs, offset, length, ch);
+        }
+
+        int count = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (chs[i] == ch) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /* Same as count(char[]), the String is counted chunk by chunk */
+    public static int count(String s, char ch) {
+        char[] buffer = BUFFER.get();
+        int count = 0;
+
+        for (int i = 0, n = s.length(); i < n; i += CHUNK) {
+            int length = Math.min(CHUNK, n - i);
+            s.getChars(i, i + length, buffer, 0);
+            count += count(buffer, 0, length, ch);
+        }
+
+        return count;
+    }
+
+    /* Absolute offset and length in the buffer (below its limit), the position is ignored */
+    public static long count(ByteBuffer buffer, int offset, int length, byte b) {
+        Objects.checkFromIndexSize(offset, length, buffer.limit());
+
+        if (VECTORIZED) {
+            return VectorKernels.count(buffer, offset, length, b);
+        }
+
+        long count = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (buffer.get(i) == b) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /* true if every char of the range is in 0..255 */
+    public static boolean isLatin1(char[] chs, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, chs.length);
+
+        if (VECTORIZED) {
+            return VectorKernels.isLatin1(chs, offset, length);
+        }
+
+        int bits = 0;
+        for (int i = offset; i < offset + length; i++) {
+            bits |= chs[i];
+        }
+
+        return bits < LATIN1_CODES;
+    }
+
+    /* Sum the interleaved sub-histograms */
+    private static int[] fold(int[] stripes) {
+        int[] histogram = new int[LATIN1_CODES];
+
+        for (int code = 0; code < LATIN1_CODES; code++) {
+            histogram[code] = stripes[code]
+                    + stripes[LATIN1_CODES + code]
+                    + stripes[2 * LATIN1_CODES + code]
+                    + stripes[3 * LATIN1_CODES + code];
+        }
+
+        return histogram;
+    }
+}
@@ -8,7 +8,7 @@ public class CheckingStringContainsSubstring {
      * String Manipulation
      * 15. Checking that a string contains a substring
      *
-     * SOLUTIONS: There are 3 solutions to this problem
+     * SOLUTIONS: There are 4 solutions to this problem
      * */
 
     /**
@@ -57,6 +57,27 @@ public class CheckingStringContainsSubstring {
         return str.matches("(?i).*" + Pattern.quote(subStr) + ".*");
     }
 
+    /**
+     * 4. The fourth solution is using a precompiled Needle
+     * When the same substring is searched in many strings, the work that depends
+     * on the substring only (shift table, factorization) is done once, and
+     * nothing is compiled or allocated per call, unlike the regular expression.
+     * In a String, the search jumps between the occurrences of the first
+     * character with String.indexOf(char), whatever the length of the
+     * substring, and switches to the Two-Way algorithm when the comparisons
+     * after these jumps add up to more than a linear scan (like "aaa...ab" in
+     * "aaaa..."). Like contains(), this search is case sensitive, and an empty
+     * substring is contained in every string
+     * This is shown in the following code:
+     *
+     * @param str
+     * @param subStr
+     * @return boolean
+     * */
+    public static boolean containsSubstringUsingNeedle(String str, Needle subStr) {
+        return subStr.contains(str);
+    }
+
     public static void main(String[] args) {
         CheckingStringContainsSubstring solution = new CheckingStringContainsSubstring();
 
@@ -68,5 +89,8 @@ public class CheckingStringContainsSubstring {
 
         // C3
         System.out.println(solution.containsSubstringUsingRegularExpression("hello world!", "orl"));
+
+        // C4
+        System.out.println(solution.containsSubstringUsingNeedle("hello world!", Needle.compile("orl")));
     }
 }
@@ -16,7 +16,7 @@ public class CheckingWhetherStringIsPalindrome {
      * For example, the word madam is a palindrome,
      * while the word madame is not
      *
-     * SOLUTIONS: There are 4 solutions to this problem
+     * SOLUTIONS: There are 7 solutions to this problem
      */
 
     /**
@@ -98,6 +98,70 @@ public class CheckingWhetherStringIsPalindrome {
                         .noneMatch(p -> str.charAt(p) != str.charAt(str.length() - p - 1));
     }
 
+    /**
+     * 5. The fifth solution covers Unicode (see Palindromes)
+     * The solutions above compare chars, so a string ending with an emoji is
+     * never a palindrome, even "\uD83D\uDE00a\uD83D\uDE00": the two halves
+     * of a surrogate pair come in the reverse order from the right.
+     * The meet-in-the-middle approach of the first solution is applied to code
+     * points instead, with no copy of the string. Long strings are compared by
+     * vectors when jdk.incubator.vector is available
+     * The second method ignores the case and the chars that are not letters
+     * or digits, without building a cleaned up string first
+     * This is shown in the following code:
+     *
+     * @param str
+     * */
+    public static boolean isPalindromeCoverUnicode(String str) {
+        return Palindromes.isPalindrome(str);
+    }
+
+    public static boolean isPalindromeIgnoringCaseAndNonAlphanumerics(String str) {
+        return Palindromes.isPalindrome(str, true);
+    }
+
+    /**
+     * 6. The sixth solution finds the palindromes inside the string (see Manacher)
+     * The longest palindromic substring, or the number of palindromic
+     * substrings, could be found by calling isPalindrome() on every substring,
+     * which is cubic. Manacher's algorithm computes, for every center, the
+     * radius of the longest palindrome around it in linear time, by reusing the
+     * radius of the mirror center inside the rightmost palindrome found so far
+     * Every palindromic substring is then a center and a radius up to the
+     * longest one:
+     *
+     * a. The longest palindromic substring is the center with the largest radius
+     * b. The count is the sum of the radii (aaa has 6: a, a, a, aa, aa, aaa)
+     * This is shown in the following code:
+     *
+     * @param str
+     * @return String / long
+     * */
+    public static String longestPalindromicSubstring(String str) {
+        return Manacher.of(str).longestPalindromicSubstring();
+    }
+
+    public static long countPalindromicSubstrings(String str) {
+        return Manacher.of(str).countPalindromicSubstrings();
+    }
+
+    /**
+     * 7. The seventh solution counts the distinct palindromes (see Eertree)
+     * The sixth solution counts a palindrome once per position. To count each
+     * palindrome once, an eertree keeps one node per distinct palindrome,
+     * linked to its longest palindromic suffix, and appending a code point adds
+     * at most one node, in amortized constant time
+     * The eertree is built by appending, so it also answers these questions
+     * for a string that is still growing, after each append
+     * This is shown in the following code:
+     *
+     * @param str
+     * @return int
+     * */
+    public static int countDistinctPalindromicSubstrings(String str) {
+        return Eertree.of(str).countDistinctPalindromes();
+    }
+
     public static void main(String[] args) {
         CheckingWhetherStringIsPalindrome solution = new CheckingWhetherStringIsPalindrome();
 
@@ -112,5 +176,16 @@ public class CheckingWhetherStringIsPalindrome {
 
         // C4
         System.out.println(solution.isPalindromeUsingNoneMatch("abba"));
+
+        // C5
+        System.out.println(solution.isPalindromeCoverUnicode("\uD83D\uDE00a\uD83D\uDE00"));
+        System.out.println(solution.isPalindromeIgnoringCaseAndNonAlphanumerics("A man, a plan, a canal: Panama"));
+
+        // C6
+        System.out.println(solution.longestPalindromicSubstring("forgeeksskeegfor"));
+        System.out.println(solution.countPalindromicSubstrings("aaa"));
+
+        // C7
+        System.out.println(solution.countDistinctPalindromicSubstrings("aaa"));
     }
 }
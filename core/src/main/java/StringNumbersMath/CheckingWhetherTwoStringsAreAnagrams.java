@@ -0,0 +1,171 @@
+package StringNumbersMath;
+
+import java.util.List;
+
+public class CheckingWhetherTwoStringsAreAnagrams {
+    /**
+     * String Manipulation
+     * 18. Checking Whether Two Strings Are Anagrams
+     *
+     * Two strings that have the same characters,
+     * but that are in a different order are anagrams.
+     *
+     * Some definitions impose that anagrams are case-insensitive
+     * and/or that white spaces (blanks) should be ignored.
+     *
+     * So, independent of the applied algorithm,
+     * the solution must convert the given string into lowercase
+     * and remove white spaces (blanks).
+     * Besides that, the first solution we mentioned
+     * sorts the arrays via Arrays.sort()
+     * and will check their equality via Arrays.equals().
+     * Once they are sorted, if they are anagrams, they will be equal
+     * The following diagram shows two words that are anagrams:
+     * Example:
+     * H e ll o -> hello
+     * oehLL -> oehll
+     * => hello and oehll are anagrams
+     *
+     * SOLUTIONS: There are 3 solutions to this problem
+     * */
+
+    /**
+     * 1. The first solution is pretty simple
+     * The algorithm as below:
+     *
+     * a. For each character from the first string, this solution increases the
+     * value in this array corresponding to the ASCII code by 1
+     * b. For each character from the second string, this solution
+     * decreases the value in this array corresponding to the ASCII code
+     * by 1
+     * At the end of this traversal, if the given strings are anagrams,
+     * then this array contains only 0
+     * This is shown in the following code:
+     *
+     * @param str1
+     * @param str2
+     * @return int
+     * */
+    private static final int EXTENDED_ASCII_CODES = 256;
+    public static boolean isAnagram(String str1, String str2) {
+        int[] chCounts = new int[EXTENDED_ASCII_CODES];
+
+        // Change to lowercase and remove whitespaces
+        char[] chStr1 = str1.replaceAll("\\s", "").toLowerCase().toCharArray();
+        char[] chStr2 = str2.replaceAll("\\s", "").toLowerCase().toCharArray();
+
+        if (chStr1.length != chStr2.length) {
+            return false;
+        }
+
+        for (int i = 0; i < chStr1.length; i++) {
+            // If the value is existed in chStr1,
+            // Increases the value to 1
+            chCounts[chStr1[i]]++;
+
+            // If the value is ALSO existed in chStr2,
+            // Now the value is 1, and we decrease the value from 1 to 0
+            chCounts[chStr2[i]]--;
+        }
+
+        // If the given strings are anagrams, the array just have 0 value only
+        for (int i = 0; i < chCounts.length; i++) {
+            if (chCounts[i] != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 2. The second solution covers Unicode
+     * The first solution only counts the chars of extended ASCII (a Cyrillic
+     * or CJK char is out of the array), and builds two new strings and two
+     * char[] through a regular expression and toLowerCase() on each call:
+     *
+     * a. The code points of the first string are counted in a CodePointIntMap
+     * (kept per thread and reused, so nothing is allocated on ASCII input),
+     * white spaces are skipped while reading, without a regular expression
+     * b. The code points of the second string are uncounted, the strings are not
+     * anagrams as soon as a count would go below 0
+     * c. They are anagrams if both strings have the same number of code points
+     *
+     * The code points are case folded like AnagramIndex does, so ß and SS, or
+     * σ, ς and Σ are the same letters
+     * This is shown in the following code:
+     *
+     * @param str1
+     * @param str2
+     * @return boolean
+     * */
+    private static final ThreadLocal<CodePointIntMap> COUNTS =
+            ThreadLocal.withInitial(() -> new CodePointIntMap(0));
+
+    public static boolean isAnagramCoverUnicode(String str1, String str2) {
+        CodePointIntMap counts = COUNTS.get();
+        counts.clear();
+
+        int length1 = countFolded(counts, str1, 1);
+        int length2 = countFolded(counts, str2, -1);
+
+        return length2 >= 0 && length1 == length2;
+    }
+
+    /* Adds delta to the count of each folded code point of str, returns their number, or -1 if a count goes below 0 */
+    private static int countFolded(CodePointIntMap counts, String str, int delta) {
+        int length = 0;
+
+        for (int i = 0; i < str.length(); ) {
+            int cp = str.codePointAt(i);
+            i += Character.charCount(cp);
+            if (Character.isWhitespace(cp)) {
+                continue;
+            }
+
+            int[] expansion = AnagramIndex.expansion(cp);
+            int n = expansion == null ? 1 : expansion.length;
+            for (int k = 0; k < n; k++) {
+                int folded = expansion == null ? AnagramIndex.fold(cp) : expansion[k];
+                int count = counts.get(folded) + delta;
+                if (count < 0) {
+                    return -1;
+                }
+                counts.put(folded, count);
+                length++;
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * 3. The third solution groups many words into anagram classes (see AnagramIndex)
+     * Comparing every pair of words is quadratic. Instead, each word gets an
+     * order-independent 128-bit signature of its folded code points, and the
+     * words with the same signature are grouped in a hash table keyed by it,
+     * in a single pass over the words
+     * This is shown in the following code:
+     *
+     * @param words
+     * @return List<List<String>>
+     * */
+    public static List<List<String>> groupAnagrams(Iterable<String> words) {
+        AnagramIndex index = new AnagramIndex();
+        index.addAll(words);
+        return index.groups(1);
+    }
+
+    public static void main(String[] args) {
+        CheckingWhetherTwoStringsAreAnagrams solution = new CheckingWhetherTwoStringsAreAnagrams();
+
+        // C1
+        System.out.println(solution.isAnagram("H e ll o", "oehLL"));
+
+        // C2
+        System.out.println(solution.isAnagramCoverUnicode("Straße", "tRASSES"));
+
+        // C3
+        System.out.println(solution.groupAnagrams(List.of("listen", "google", "Silent", "enlist", "gogole")));
+    }
+}
@@ -0,0 +1,164 @@
+package StringNumbersMath;
+
+import java.util.Arrays;
+
+public final class CodePointIntMap {
+
+    /**
+     * A map from Unicode code points to int values without boxing
+     *
+     * It is a two-level sparse index:
+     * a. a dense int[256] table for the Latin-1 code points (ASCII included),
+     * which is what most of the text we process is made of
+     * b. an open-addressing (linear probing) int to int hash map for the rest of
+     * the code point range, up to Character.MAX_CODE_POINT (1,114,111)
+     *
+     * The map is meant to be reused, clear() only resets the parts that were
+     * written, so on ASCII input no allocation happens once it is created.
+     * It is not thread-safe, keep one instance per thread.
+     * */
+    private static final int LATIN1_CODES = 256;
+    private static final int FREE = -1; // code points are never negative
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int missingValue;
+    private final int[] latin1 = new int[LATIN1_CODES];
+    private boolean latin1Touched;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    /* missingValue is returned by get() for code points that were never put */
+    public CodePointIntMap(int missingValue) {
+        this.missingValue = missingValue;
+        Arrays.fill(latin1, missingValue);
+    }
+
+    public int get(int codePoint) {
+        if (codePoint < LATIN1_CODES) {
+            return latin1[codePoint];
+        }
+
+        if (size == 0) {
+            return missingValue;
+        }
+
+        int slot = slotOf(codePoint, keys.length - 1);
+        return slot < 0 ? missingValue : values[slot];
+    }
+
+    public void put(int codePoint, int value) {
+        if (codePoint < LATIN1_CODES) {
+            latin1[codePoint] = value;
+            latin1Touched = true;
+            return;
+        }
+
+        if (keys == null) {
+            keys = new int[INITIAL_CAPACITY];
+            values = new int[INITIAL_CAPACITY];
+            Arrays.fill(keys, FREE);
+        }
+
+        int mask = keys.length - 1;
+        int slot = slotOf(codePoint, mask);
+        if (slot >= 0) {
+            values[slot] = value;
+            return;
+        }
+
+        // ~slot is the free slot where the probing stopped
+        keys[~slot] = codePoint;
+        values[~slot] = value;
+
+        // Keep the load factor under 1/2 so the probe sequences stay short
+        if (++size > keys.length >>> 1) {
+            grow();
+        }
+    }
+
+    public void remove(int codePoint) {
+        if (codePoint < LATIN1_CODES) {
+            latin1[codePoint] = missingValue;
+            return;
+        }
+
+        if (size == 0) {
+            return;
+        }
+
+        int mask = keys.length - 1;
+        int hole = slotOf(codePoint, mask);
+        if (hole < 0) {
+            return;
+        }
+
+        // Backward shift: pull back the following keys of the probe sequence
+        // that are allowed to sit in the hole, so no tombstone is needed
+        for (int slot = (hole + 1) & mask; keys[slot] != FREE; slot = (slot + 1) & mask) {
+            int home = mix(keys[slot]) & mask;
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                keys[hole] = keys[slot];
+                values[hole] = values[slot];
+                hole = slot;
+            }
+        }
+
+        keys[hole] = FREE;
+        size--;
+    }
+
+    /* Forget every mapping, the allocated tables are kept for the next use */
+    public void clear() {
+        if (latin1Touched) {
+            Arrays.fill(latin1, missingValue);
+            latin1Touched = false;
+        }
+
+        if (size > 0) {
+            Arrays.fill(keys, FREE);
+            size = 0;
+        }
+    }
+
+    /* Returns the slot of the code point, or ~slot of the free slot where it would go */
+    private int slotOf(int codePoint, int mask) {
+        int slot = mix(codePoint) & mask;
+
+        while (true) {
+            int key = keys[slot];
+            if (key == codePoint) {
+                return slot;
+            }
+            if (key == FREE) {
+                return ~slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+
+        keys = new int[oldKeys.length << 1];
+        values = new int[oldValues.length << 1];
+        Arrays.fill(keys, FREE);
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = ~slotOf(oldKeys[i], mask);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /* Fibonacci hashing, spreads the consecutive code points of a script over the table */
+    private static int mix(int codePoint) {
+        int h = codePoint * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,143 @@
+package StringNumbersMath;
+
+import java.util.Arrays;
+
+public final class CodePointSet {
+
+    /**
+     * A set of Unicode code points without boxing
+     *
+     * Like CodePointIntMap, it has two levels:
+     * a. a 64K-bit bitmap (a long[1024], 8 KB) for the BMP, so adding a char
+     * is a shift, a mask and an or. The bitmap goes on over the plane 1 (another
+     * 8 KB), where the emojis and the math letters are: text that mixes them with
+     * the BMP would otherwise alternate between a bit and a hash lookup, and the
+     * branch between the two costs more than the lookup itself
+     * b. an open-addressing (linear probing) int hash set for the other
+     * supplementary code points (rare CJK, private use), which are few
+     *
+     * The set is meant to be reused: the bitmap words that were written are
+     * remembered, so clear() only resets them, and clearing after a short
+     * string costs a few stores, not 2048.
+     * It is not thread-safe, keep one instance per thread.
+     * */
+    private static final int BITMAP_WORDS = 0x20000 >>> 6; // the BMP and the plane 1
+    private static final int FREE = -1; // code points are never negative
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final long[] bitmap = new long[BITMAP_WORDS];
+    private final int[] touched = new int[BITMAP_WORDS]; // indexes of the non-zero words
+    private int touchedCount;
+
+    private int[] keys;
+    private int shift; // 32 - log2(keys.length)
+    private int supplementary; // number of keys
+
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int codePoint) {
+        if (codePoint >>> 17 == 0) {
+            return (bitmap[codePoint >>> 6] & 1L << codePoint) != 0;
+        }
+        return supplementary > 0 && codePoint > 0 && slotOf(codePoint) >= 0;
+    }
+
+    /* Returns true if the code point was not in the set */
+    public boolean add(int codePoint) {
+        if (codePoint >>> 17 == 0) {
+            int index = codePoint >>> 6;
+            long word = bitmap[index];
+            long bit = 1L << codePoint;
+            if ((word & bit) != 0) {
+                return false;
+            }
+            if (word == 0) {
+                touched[touchedCount++] = index;
+            }
+            bitmap[index] = word | bit;
+            size++;
+            return true;
+        }
+
+        if (!Character.isValidCodePoint(codePoint)) {
+            throw new IllegalArgumentException("Not a code point: " + codePoint);
+        }
+        if (keys == null) {
+            keys = new int[INITIAL_CAPACITY];
+            shift = Integer.numberOfLeadingZeros(INITIAL_CAPACITY) + 1;
+            Arrays.fill(keys, FREE);
+        }
+
+        int slot = slotOf(codePoint);
+        if (slot >= 0) {
+            return false;
+        }
+
+        // ~slot is the free slot where the probing stopped
+        keys[~slot] = codePoint;
+        size++;
+
+        // Keep the load factor under 1/2 so the probe sequences stay short
+        if (++supplementary > keys.length >>> 1) {
+            grow();
+        }
+        return true;
+    }
+
+    /* Forget every code point, the allocated tables are kept for the next use */
+    public void clear() {
+        for (int i = 0; i < touchedCount; i++) {
+            bitmap[touched[i]] = 0;
+        }
+        touchedCount = 0;
+
+        if (supplementary > 0) {
+            Arrays.fill(keys, FREE);
+            supplementary = 0;
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns the slot of the code point, or ~slot of the free slot where it would go
+     * Fibonacci hashing: the top bits of the product are the slot, so the consecutive
+     * code points of a block (the emojis) land in distinct slots spread over the table
+     * */
+    private int slotOf(int codePoint) {
+        int mask = keys.length - 1;
+        int slot = (codePoint * 0x9E3779B9) >>> shift;
+
+        while (true) {
+            int key = keys[slot];
+            if (key == codePoint) {
+                return slot;
+            }
+            if (key == FREE) {
+                return ~slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+
+        keys = new int[oldKeys.length << 1];
+        shift--;
+        Arrays.fill(keys, FREE);
+
+        for (int key : oldKeys) {
+            if (key != FREE) {
+                keys[~slotOf(key)] = key;
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package StringNumbersMath;
+
+import java.util.Arrays;
+
+public final class CommonPrefix {
+
+    /**
+     * The prefix length primitive of FindingLongestCommonPrefix
+     *
+     * Every solution of the problem comes down to the length of the prefix
+     * shared by two strings. Comparing them char by char with charAt() tests
+     * one char (and the bounds and the coder of both strings) per step; here
+     * the length is found with Arrays.mismatch(), which the JVM vectorizes and
+     * which compares 16 to 64 bytes per step, depending on the CPU.
+     *
+     * a. The backing byte[] of a String is not reachable from outside java.base,
+     * so the strings are copied in chunks (growing up to 1K chars) into two
+     * small char[] buffers with getChars() (itself a vectorized copy, or
+     * inflation for Latin-1 strings), and the comparison stops at the first
+     * chunk that differs
+     * b. Under SHORT chars, the copies cost more than they save, and the
+     * strings are compared with charAt()
+     *
+     * The result is a length, the caller only creates a substring (once) if it needs one.
+     * */
+    static final int SHORT = 32;
+    private static final int CHUNK = 1024; // 2 KB of chars per buffer
+
+    private static final ThreadLocal<char[][]> BUFFERS =
+            ThreadLocal.withInitial(() -> new char[][]{new char[CHUNK], new char[CHUNK]});
+
+    private CommonPrefix() {
+    }
+
+    /* Length of the prefix shared by a and b */
+    public static int length(String a, String b) {
+        return length(a, b, Integer.MAX_VALUE);
+    }
+
+    /* Length of the prefix shared by a and b, up to limit chars */
+    public static int length(String a, String b, int limit) {
+        limit = Math.min(limit, Math.min(a.length(), b.length()));
+
+        if (limit <= SHORT) {
+            int i = 0;
+            while (i < limit && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+
+        // The chunks double from SHORT chars, a mismatch near the start copies little
+        char[][] buffers = BUFFERS.get();
+        int chunk;
+        for (int i = 0, size = SHORT * 2; i < limit; i += chunk, size = Math.min(CHUNK, size * 2)) {
+            chunk = Math.min(size, limit - i);
+            a.getChars(i, i + chunk, buffers[0], 0);
+            b.getChars(i, i + chunk, buffers[1], 0);
+
+            int mismatch = Arrays.mismatch(buffers[0], 0, chunk, buffers[1], 0, chunk);
+            if (mismatch >= 0) {
+                return i + mismatch;
+            }
+        }
+
+        return limit;
+    }
+
+    /* Length of the prefix shared by the chars of a from aFrom and the chars of b from bFrom, up to limit chars */
+    public static int length(char[] a, int aFrom, char[] b, int bFrom, int limit) {
+        limit = Math.min(limit, Math.min(a.length - aFrom, b.length - bFrom));
+        int mismatch = Arrays.mismatch(a, aFrom, aFrom + limit, b, bFrom, bFrom + limit);
+        return mismatch < 0 ? limit : mismatch;
+    }
+
+    /* Length of the prefix shared by the chars of a from aFrom and b, up to limit chars */
+    public static int length(char[] a, int aFrom, String b, int limit) {
+        limit = Math.min(limit, Math.min(a.length - aFrom, b.length()));
+        char[] buffer = BUFFERS.get()[1];
+
+        for (int i = 0; i < limit; i += CHUNK) {
+            int chunk = Math.min(CHUNK, limit - i);
+            b.getChars(i, i + chunk, buffer, 0);
+
+            int mismatch = Arrays.mismatch(a, aFrom + i, aFrom + i + chunk, buffer, 0, chunk);
+            if (mismatch >= 0) {
+                return i + mismatch;
+            }
+        }
+
+        return limit;
+    }
+
+    /* Length of the prefix shared by the bytes of a from aFrom and the bytes of b from bFrom, up to limit bytes */
+    public static int length(byte[] a, int aFrom, byte[] b, int bFrom, int limit) {
+        limit = Math.min(limit, Math.min(a.length - aFrom, b.length - bFrom));
+        int mismatch = Arrays.mismatch(a, aFrom, aFrom + limit, b, bFrom, bFrom + limit);
+        return mismatch < 0 ? limit : mismatch;
+    }
+}
@@ -2,6 +2,7 @@ package StringNumbersMath;
 
 import java.math.RoundingMode;
 import java.text.NumberFormat;
+import java.text.NumberFormat.Style;
 import java.util.Locale;
 
 public class CompactNumberFormatting {
@@ -0,0 +1,202 @@
+package StringNumbersMath;
+
+import java.util.Arrays;
+
+public final class Compaction {
+
+    /**
+     * Removal of chars from a string in a single pass, without regular expressions
+     *
+     * String.replaceAll() compiles a Pattern on every call, then runs a Matcher
+     * that appends the kept parts to a StringBuilder, which grows by copies.
+     * Here the kept chars are moved left in one char[] of the size of the input:
+     *
+     * a. The first match is searched first. If there is none, the string is
+     * returned as it is, so nothing is allocated for a string that has nothing
+     * to remove, which is the common case for white spaces
+     * b. Otherwise the whole string is copied at once to the char[] (String.getChars()
+     * is an intrinsic copy), then the runs of kept chars after the first match
+     * are found by a loop that only reads, and moved left in place by
+     * System.arraycopy(), the write index never passes the read index
+     * c. A single char or code point is searched with String.indexOf(), which the
+     * JVM vectorizes, and the runs between two matches are copied at once
+     *
+     * A set of symbols is tested with two longs for ASCII (a bit per char) and a
+     * binary search in the sorted symbols for the rest.
+     * The internal byte[] of a (Latin-1) String is not reachable from here, so
+     * the kernels work on chars and new String() compresses the result back.
+     * */
+    private static final int NOT_FOUND = -1;
+
+    private Compaction() {
+    }
+
+    public static String removeChar(String str, char ch) {
+        return removeCodePoint(str, ch);
+    }
+
+    /* A supplementary code point matches its surrogate pair, a surrogate matches that char alone */
+    public static String removeCodePoint(String str, int codePoint) {
+        int first = str.indexOf(codePoint);
+        if (first == NOT_FOUND) {
+            return str;
+        }
+
+        int n = str.length();
+        int skip = Character.charCount(codePoint);
+        char[] chs = new char[n];
+        int length = 0;
+        int start = 0;
+
+        // Copy the runs between two matches
+        for (int to = first; to != NOT_FOUND; to = str.indexOf(codePoint, start)) {
+            str.getChars(start, to, chs, length);
+            length += to - start;
+            start = to + skip;
+        }
+        str.getChars(start, n, chs, length);
+        length += n - start;
+
+        return new String(chs, 0, length);
+    }
+
+    /* Removes every char of str that is in chars, surrogates are matched one by one */
+    public static String removeChars(String str, CharSequence chars) {
+        SymbolSet set = SymbolSet.ofChars(chars);
+        int n = str.length();
+        int from = 0;
+        while (from < n && !set.contains(str.charAt(from))) {
+            from++;
+        }
+        if (from == n) {
+            return str;
+        }
+
+        char[] chs = new char[n];
+        str.getChars(0, n, chs, 0);
+        int length = from;
+
+        for (int i = from + 1; i < n; ) {
+            int start = i;
+            while (i < n && !set.contains(chs[i])) {
+                i++;
+            }
+            System.arraycopy(chs, start, chs, length, i - start);
+            length += i - start;
+            i++;
+        }
+
+        return new String(chs, 0, length);
+    }
+
+    /* Removes every code point of str that is in codePoints */
+    public static String removeCodePoints(String str, CharSequence codePoints) {
+        SymbolSet set = SymbolSet.ofCodePoints(codePoints);
+        int n = str.length();
+        int from = 0;
+        while (from < n && !set.contains(str.codePointAt(from))) {
+            from += Character.charCount(str.codePointAt(from));
+        }
+        if (from == n) {
+            return str;
+        }
+
+        char[] chs = new char[n];
+        str.getChars(0, n, chs, 0);
+        int length = from;
+
+        for (int i = from + Character.charCount(str.codePointAt(from)); i < n; ) {
+            int start = i;
+            int cp = 0;
+            while (i < n && !set.contains(cp = Character.codePointAt(chs, i))) {
+                i += Character.charCount(cp);
+            }
+            System.arraycopy(chs, start, chs, length, i - start);
+            length += i - start;
+            i += Character.charCount(cp);
+        }
+
+        return new String(chs, 0, length);
+    }
+
+    /* Removes the chars for which Character.isWhitespace() is true (no supplementary code point is) */
+    public static String removeWhitespaces(String str) {
+        int n = str.length();
+        int from = 0;
+        while (from < n && !isWhitespace(str.charAt(from))) {
+            from++;
+        }
+        if (from == n) {
+            return str;
+        }
+
+        char[] chs = new char[n];
+        str.getChars(0, n, chs, 0);
+        int length = from;
+
+        // White spaces are sparse, so the runs between them are found by a
+        // loop that only reads, and moved left at once
+        for (int i = from + 1; i < n; ) {
+            int start = i;
+            while (i < n && !isWhitespace(chs[i])) {
+                i++;
+            }
+            System.arraycopy(chs, start, chs, length, i - start);
+            length += i - start;
+            i++;
+        }
+
+        return new String(chs, 0, length);
+    }
+
+    /* Character.isWhitespace() without its table lookup outside of the Unicode spaces, U+1680 to U+3000 */
+    static boolean isWhitespace(char c) {
+        if (c > ' ' && (char) (c - '\u1680') > '\u3000' - '\u1680') {
+            return false;
+        }
+        return Character.isWhitespace(c);
+    }
+
+    /* A set of chars or code points: a bitmap for ASCII, sorted symbols for the rest */
+    private static final class SymbolSet {
+        private final long low; // 0 to 63
+        private final long high; // 64 to 127
+        private final int[] others;
+
+        private SymbolSet(int[] symbols) {
+            long low = 0;
+            long high = 0;
+            int ascii = 0;
+
+            Arrays.sort(symbols);
+            for (int symbol : symbols) {
+                if (symbol < 64) {
+                    low |= 1L << symbol;
+                    ascii++;
+                } else if (symbol < 128) {
+                    high |= 1L << symbol;
+                    ascii++;
+                }
+            }
+
+            this.low = low;
+            this.high = high;
+            this.others = Arrays.copyOfRange(symbols, ascii, symbols.length);
+        }
+
+        static SymbolSet ofChars(CharSequence chars) {
+            return new SymbolSet(chars.chars().toArray());
+        }
+
+        static SymbolSet ofCodePoints(CharSequence codePoints) {
+            return new SymbolSet(codePoints.codePoints().toArray());
+        }
+
+        boolean contains(int symbol) {
+            if (symbol < 128) {
+                return ((symbol < 64 ? low : high) & 1L << symbol) != 0;
+            }
+            return others.length != 0 && Arrays.binarySearch(others, symbol) >= 0;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package StringNumbersMath;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Collections;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -9,7 +11,7 @@ public class ConcatenatingSameStringNTimes {
      * String Manipulation
      * 20. Concatenating Same String N Times
      *
-     * SOLUTIONS: There are 6 solutions to this problem
+     * SOLUTIONS: There are 7 solutions to this problem
      * */
 
     /**
@@ -86,7 +88,6 @@ public class ConcatenatingSameStringNTimes {
      * @return String
      * */
     public static String concatRepeatUsingStringFormat(String str, int count) {
-        System.out.println(String.format("%0" + count + "d", 0));
         String result = String.format("%0" + count + "d", 0).replace("0", str);
         return result;
     }
@@ -105,31 +106,47 @@ public class ConcatenatingSameStringNTimes {
     }
 
     /**
-     * 7. The seventh solution to check whether a string
-     * is a sequence of the same substring,
-     * The solution loops half of the given string
-     * and progressively replaces it with "", a substring build,
-     * by appending the original string in StringBuilder, character by character.
-     * If these replacements result in an empty string,
-     * it means that the given string is a sequence of the same substring.
+     * 7. The seventh solution is lazy (see Rope)
+     * All the solutions above build the whole string, and some of them build
+     * intermediate strings of count chars first (String.format(), char[]).
+     * When the result is only written out (padding, test fixtures), it does
+     * not need to exist: a Rope remembers the string and the count, charAt(i)
+     * is the char at i modulo the length of the string, and writeTo() sends the
+     * chars to a Writer, or their bytes to a channel, block by block
+     * The count is a long, so the rope can be longer than a String can be,
+     * and it only becomes a String when toString() is called
+     * This is shown in the following code:
+     *
+     * @param str
+     * @param count
+     * @return Rope
+     * */
+    public static Rope concatRepeatLazily(String str, long count) {
+        return Rope.repeat(str, count);
+    }
+
+    /**
+     * 8. The eighth solution to check whether a string
+     * is a sequence of the same substring (see Periodicity)
+     * Replacing every prefix of the string with "" through replaceAll() compiles
+     * a regular expression per prefix and rewrites the whole string each time,
+     * which is quadratic at least, and a prefix such as a. or a* is not taken
+     * literally
+     * Instead, the prefix function of Knuth-Morris-Pratt gives the longest
+     * border of the string (a prefix that is also a suffix) in linear time,
+     * and n minus this border is the smallest period of the string.
+     * The string is a sequence of the same substring if and only if this
+     * period divides n and is less than n (abcabc has the period 3)
      * This is shown in the following code:
      *
      * @param str
      * @return boolean
      * */
     public static boolean checkSequenceOfSameSubstring(String str) {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < str.length() / 2; i++) {
-            sb.append(str.charAt(i));
-            String resultStr = str.replaceAll(sb.toString(), "");
-            if (resultStr.length() == 0) {
-                return true;
-            }
-        }
-        return false;
+        return Periodicity.of(str).isRepetition();
     }
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         ConcatenatingSameStringNTimes solution = new ConcatenatingSameStringNTimes();
 
         // C1
@@ -150,7 +167,21 @@ public class ConcatenatingSameStringNTimes {
         // C6
         System.out.println(solution.concatRepeatUsingCharArray("HELLO", 3));
 
+        // C7
+        Rope rope = solution.concatRepeatLazily("HELLO", 1_000_000_000_000L);
+        System.out.println(rope.size() + " " + rope.subRope(3, 13) + " " + solution.concatRepeatLazily("HELLO", 3));
+
+        // A rope appended to 100_000 times is a chain as deep, it is still written without recursion
+        Rope appended = Rope.of("");
+        for (int i = 0; i < 100_000; i++) {
+            appended = appended.concat("ab");
+        }
+        StringWriter out = new StringWriter();
+        appended.writeTo(out);
+        System.out.println(out.toString().equals("ab".repeat(100_000)) + " " + appended.subSequence(1, 5));
+
         // Other issue
         System.out.println(solution.checkSequenceOfSameSubstring("HELLO"));
+        System.out.println(solution.checkSequenceOfSameSubstring("a.a.a."));
     }
 }
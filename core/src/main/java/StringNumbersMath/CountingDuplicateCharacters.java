@@ -0,0 +1,356 @@
+package StringNumbersMath;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+
+public class CountingDuplicateCharacters {
+
+    /**
+     * String Manipulation
+     * 1. Counting Duplicate Characters
+     * Write a program that counts duplicate characters from a given string.
+     *
+     * SOLUTION: There are 6 solutions to this problem
+     * 
+     * KNOWLEDGE: Surrogate pair characters trong Java là một cặp ghép (pair)
+     * bao gồm 2 mã đại diện (Surrogate) là High surrogate (mã đại diện trên) và Low surrogates (mã đại diện dưới)
+     * ghép lại với nhau để biểu diễn các ký tự (characters)
+     *
+     * Example of Surrogate pair is emoji
+     *
+     * Calling codePointAt() instead of charAt(), codePoints() instead of
+     * chars(), and so on helps us to write solutions that cover ASCII and Unicode
+     * characters as well.
+     * */
+
+    /**
+     * 1. The first solution iterates the string characters and uses Set to store the
+     * characters. If the current character was never added to Set, then add it to Set
+     * If the current character exists in Set, then simply increase countDup variable
+     * This is shown in the following code:
+     *
+     * @param s
+     * @return int
+     */
+    public static int countingDuplicateCharactersUsingSet(String s) {
+        HashSet set = new HashSet();
+        int dupCount = 1;
+
+        for (int i = 0; i < s.length(); i++) {
+            if (!set.contains(s.charAt(i))) {
+                set.add(s.charAt(i));
+            } else {
+                dupCount++;
+            }
+        }
+
+        return dupCount;
+    }
+
+    /**
+     * 2. The second solution iterates the string characters and uses Map to store the
+     * characters as keys and the number of occurrences as values.
+     * If the current character was never added to Map, then add it as (character, 1).
+     * If the current character exists in Map, then simply increase its occurrences by 1,
+     * For example, (character, occurrences+1).
+     * This is shown in the following code:
+     *
+     * @param s
+     * @return Map<Character, Long>
+     * */
+    public static Map<Character, Integer> countingDuplicateCharactersUsingMap(String s) {
+        HashMap<Character, Integer> map = new HashMap();
+
+        for(char ch: s.toCharArray()) {
+            map.compute(ch, (k , v) -> (v == null) ? 1 : ++v);
+        }
+
+        return map;
+    }
+
+    // Rewrite countingDuplicateCharactersUsingMap with codePointAt() instead of charAt()
+    // It helps us to write solutions that cover ASCII and Unicode characters
+    public static Map<String, Integer> rewriteCountingDuplicateCharactersUsingMap(String s) {
+        HashMap<String, Integer> map = new HashMap();
+
+        for(int i = 0; i < s.length(); i++) {
+            int codePoint = s.codePointAt(i);
+
+            // Calling Character.toChars() returns 2 since two characters are needed
+            // to represent this code point being a Unicode surrogate pair
+
+            // To obtain a String object from this
+            // code point, call String str = String.valueOf(Character.toChars(128149)).
+            String ch = String.valueOf(Character.toChars(codePoint));
+
+            // If the specified character is valid supplementary character, then the method returns 2.
+            // Otherwise, the charCount() method returns 1.
+
+            // Supplementary characters are characters with code points in the range U+10000 to U+10FFFF,
+            // that is, those characters that could not be represented in the original 16-bit design of Unicode
+            if (Character.charCount(codePoint) == 2) {
+                i++;
+            }
+
+            map.compute(ch, (k , v) -> (v == null) ? 1 : ++v);
+        }
+
+        return map;
+    }
+
+    /**
+     * 3. The final solution relies on Java 8's stream feature.
+     * The first two steps are meant to transform the given string into
+     * Stream<Character>, while the last step is responsible for grouping and
+     * counting the characters.
+     *
+     * Here are the steps:
+     * a. Call the String.chars() method on the original string. This will
+     * return IntStream. This IntStream contains an integer
+     * representation of the characters from the given string.
+     * b. Transform IntStream into a stream of characters via
+     * the mapToObj() method (convert the integer representation into
+     * the human-friendly character form).
+     * c. Finally, group the characters (Collectors.groupingBy()) and count
+     * them (Collectors.counting()).
+     *
+     * This is shown in the following code:
+     *
+     * @param s
+     * @return Map<Character, Long>
+     * */
+
+    public static Map<Character, Long> countDuplicateCharactersUsingStream(String s) {
+        Map<Character, Long> map = s.chars()
+                                    .mapToObj(c -> (char) c)
+                                    .collect(Collectors.groupingBy(c -> c, Collectors.counting()));
+
+        return map;
+    }
+
+    // Rewrite countingDuplicateCharactersUsingMap with codePoints() instead of chars()
+    // It helps us to write solutions that cover ASCII and Unicode characters
+    public static Map<String, Long> rewriteCountDuplicateCharactersUsingStream(String s) {
+        Map<String, Long> map = s.codePoints()
+                .mapToObj(c -> String.valueOf(Character.toChars(c))) // now, c is code point, convert code point to string
+                .collect(Collectors.groupingBy(c -> c, Collectors.counting()));
+
+        return map;
+    }
+
+    /**
+     * 4. The fourth solution delegates to the CharacterHistogram kernel
+     * Instead of boxing every character into a Map<Character, Long>, the
+     * occurrences are counted in a primitive array indexed by the character code:
+     * histogram[ch] is the number of occurrences of ch
+     *
+     * The array has 256 entries when the text is Latin-1 (which includes ASCII)
+     * and 65,536 entries otherwise, use CharacterHistogram.occurrences() to read it.
+     * The char[] overload counts a range of a buffer without building a String.
+     * This is shown in the following code:
+     *
+     * @param s
+     * @return int[]
+     * */
+    public static int[] countDuplicateCharactersUsingHistogram(String s) {
+        return CharacterHistogram.histogram(s);
+    }
+
+    public static int[] countDuplicateCharactersUsingHistogram(char[] chs, int offset, int length) {
+        return CharacterHistogram.histogram(chs, offset, length);
+    }
+
+    /**
+     * 5. The fifth solution is the parallel version of the fourth solution, for
+     * very large strings (documents of hundreds of MB)
+     * The sequential solutions are stuck on one thread, this one scales with the cores:
+     *
+     * a. The input is split on a ForkJoinPool (the common pool by default) into
+     * about 4 ranges per thread, so the threads stay busy until the end
+     * b. Each range is counted into its own primitive histogram, walking it in
+     * cache-sized chunks (a String is copied chunk by chunk into a small buffer,
+     * never as a whole)
+     * c. The histograms are merged into a long[] while the tasks are joined
+     *
+     * Under PARALLEL_THRESHOLD chars, splitting costs more than it saves, and
+     * the input is counted sequentially by the calling thread.
+     * The result has 256 entries when the text is Latin-1, 65,536 otherwise
+     * This is shown in the following code:
+     *
+     * @param s
+     * @return long[]
+     * */
+    private static final int PARALLEL_THRESHOLD = 1 << 20;
+    private static final int CHUNK = 16 * 1024; // 32 KB of chars
+    private static final int RANGES_PER_THREAD = 4;
+
+    public static long[] countDuplicateCharactersInParallel(String s) {
+        return countDuplicateCharactersInParallel(s, ForkJoinPool.commonPool());
+    }
+
+    public static long[] countDuplicateCharactersInParallel(String s, ForkJoinPool pool) {
+        return countInParallel(new HistogramTask(s, null, 0, s.length(), leafSize(s.length(), pool)), pool);
+    }
+
+    public static long[] countDuplicateCharactersInParallel(char[] chs) {
+        return countDuplicateCharactersInParallel(chs, ForkJoinPool.commonPool());
+    }
+
+    public static long[] countDuplicateCharactersInParallel(char[] chs, ForkJoinPool pool) {
+        return countInParallel(new HistogramTask(null, chs, 0, chs.length, leafSize(chs.length, pool)), pool);
+    }
+
+    private static long[] countInParallel(HistogramTask task, ForkJoinPool pool) {
+        return task.to < PARALLEL_THRESHOLD ? task.compute() : pool.invoke(task);
+    }
+
+    /* Under PARALLEL_THRESHOLD the whole input is one leaf, which compute() counts without forking */
+    private static int leafSize(int length, ForkJoinPool pool) {
+        if (length < PARALLEL_THRESHOLD) {
+            return length;
+        }
+        return Math.max(PARALLEL_THRESHOLD / RANGES_PER_THREAD,
+                length / (pool.getParallelism() * RANGES_PER_THREAD) + 1);
+    }
+
+    /* Counts the range [from, to) of either s or chs */
+    private static final class HistogramTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final String s;
+        private final char[] chs;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        HistogramTask(String s, char[] chs, int from, int to, int leafSize) {
+            this.s = s;
+            this.chs = chs;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= leafSize) {
+                return countRange();
+            }
+
+            int middle = (from + to) >>> 1;
+            HistogramTask left = new HistogramTask(s, chs, from, middle, leafSize);
+            HistogramTask right = new HistogramTask(s, chs, middle, to, leafSize);
+
+            left.fork();
+            long[] rightHistogram = right.compute();
+            return merge(left.join(), rightHistogram);
+        }
+
+        private long[] countRange() {
+            int[] histogram = new int[CharacterHistogram.LATIN1_CODES];
+            char[] buffer = chs != null ? chs : new char[Math.min(CHUNK, to - from)];
+
+            for (int i = from; i < to; i += CHUNK) {
+                int length = Math.min(CHUNK, to - i);
+
+                if (chs != null) {
+                    histogram = CharacterHistogram.accumulate(chs, i, length, histogram);
+                } else {
+                    s.getChars(i, i + length, buffer, 0);
+                    histogram = CharacterHistogram.accumulate(buffer, 0, length, histogram);
+                }
+            }
+
+            long[] counts = new long[histogram.length];
+            for (int code = 0; code < histogram.length; code++) {
+                counts[code] = histogram[code];
+            }
+
+            return counts;
+        }
+
+        /* Add the smaller histogram into the larger one */
+        private static long[] merge(long[] a, long[] b) {
+            if (a.length < b.length) {
+                long[] swap = a;
+                a = b;
+                b = swap;
+            }
+
+            for (int code = 0; code < b.length; code++) {
+                a[code] += b[code];
+            }
+
+            return a;
+        }
+    }
+
+    /**
+     * 6. The sixth solution counts the characters of a file instead of a String,
+     * so a multi-GB file does not have to be read in the heap first
+     * The file is memory-mapped and its UTF-8 bytes are decoded and counted in
+     * parallel regions (see MappedFiles), each into its own primitive histogram,
+     * then the histograms are merged like in the fifth solution.
+     * A UTF-8 sequence cut by the end of a region is completed with the first
+     * bytes of the next region, which skips them.
+     *
+     * The long[] result has 256 entries when the file is Latin-1, 65,536
+     * otherwise. The Map flavor only boxes the characters that occur
+     * This is shown in the following code:
+     *
+     * @param file
+     * @return long[]
+     * */
+    public static long[] countDuplicateCharactersInParallel(Path file) throws IOException {
+        long[] counts = new long[CharacterHistogram.LATIN1_CODES];
+
+        for (int[] histogram : MappedFiles.scan(file, MappedFiles.UTF8_OVERLAP,
+                (region, start, length) -> MappedFiles.histogram(region, start, length, new int[CharacterHistogram.LATIN1_CODES]))) {
+            if (histogram.length > counts.length) {
+                counts = Arrays.copyOf(counts, histogram.length);
+            }
+            for (int code = 0; code < histogram.length; code++) {
+                counts[code] += histogram[code];
+            }
+        }
+
+        return counts;
+    }
+
+    public static Map<Character, Long> countingDuplicateCharactersUsingMap(Path file) throws IOException {
+        long[] counts = countDuplicateCharactersInParallel(file);
+        Map<Character, Long> map = new HashMap<>();
+
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                map.put((char) code, counts[code]);
+            }
+        }
+
+        return map;
+    }
+
+    public static void main(String[] args) {
+        CountingDuplicateCharacters countDup = new CountingDuplicateCharacters();
+        System.out.println("Number of duplicate character in string: " + countDup.countingDuplicateCharactersUsingSet("ssykjnshb"));
+
+        countDup.countingDuplicateCharactersUsingMap("ssykjnshb");
+        countDup.countDuplicateCharactersUsingStream("ssykjnshb");
+
+        countDup.rewriteCountingDuplicateCharactersUsingMap("ssykjnshb");
+        countDup.rewriteCountDuplicateCharactersUsingStream("ssykjnshb");
+
+        int[] histogram = countDup.countDuplicateCharactersUsingHistogram("ssykjnshb");
+        System.out.println("Occurrences of s: " + CharacterHistogram.occurrences(histogram, 's'));
+
+        long[] counts = countDup.countDuplicateCharactersInParallel("ssykjnshb".repeat(200_000));
+        System.out.println("Occurrences of s: " + counts['s']);
+    }
+}
\ No newline at end of file
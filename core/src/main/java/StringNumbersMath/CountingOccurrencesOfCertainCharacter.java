@@ -1,12 +1,15 @@
 package StringNumbersMath;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 public class CountingOccurrencesOfCertainCharacter {
 
     /**
      * String Manipulation
      * 6. Counting Occurrences Of A Certain Character
      *
-     * SOLUTION: There are 4 solutions to this problem
+     * SOLUTION: There are 6 solutions to this problem
      */
 
     /**
@@ -92,6 +95,71 @@ public class CountingOccurrencesOfCertainCharacter {
                 .count();
     }
 
+    /**
+     * 5. The fifth solution delegates to the CharacterHistogram kernel
+     * Counting one character is a comparison of every char with ch, which is
+     * done with the Vector API: a whole vector of chars is compared at once and
+     * the matching lanes are counted (with a scalar loop when the
+     * jdk.incubator.vector module is not available)
+     * The char[] overload counts a range of a buffer without building a String.
+     * The code for this method is as follows:
+     *
+     * @param str
+     * @param ch
+     * @return int
+     * */
+    public static int countOccurrencesOfACertainCharacterUsingKernel(String str, char ch) {
+        return CharacterHistogram.count(str, ch);
+    }
+
+    public static int countOccurrencesOfACertainCharacterUsingKernel(char[] chs, int offset, int length, char ch) {
+        return CharacterHistogram.count(chs, offset, length, ch);
+    }
+
+    /**
+     * 6. The sixth solution counts the character in a file, read as UTF-8
+     * Counting the line breaks or the separators of a large export needs no
+     * String of its text: the file is memory-mapped and scanned in parallel
+     * regions (see MappedFiles), and its bytes are counted where they are:
+     *
+     * a. An ASCII character is a single byte, which is counted by the
+     * CharacterHistogram kernel directly on the mapped bytes
+     * b. Any other character is the sequence of its UTF-8 bytes, counted with a
+     * Needle. UTF-8 is self-synchronizing (a sequence never starts inside another
+     * one), so every occurrence of the bytes is an occurrence of the character
+     *
+     * Like the second solution, ch can be a Unicode surrogate pair and the result
+     * is -1 if it is more than 1 character. A lone surrogate is never found.
+     * The code for this method is as follows:
+     *
+     * @param file
+     * @param ch
+     * @return long
+     * */
+    public static long countOccurrencesOfACertainCharacter(Path file, char ch) throws IOException {
+        return countOccurrencesOfACertainCharacterCoverUnicode(file, String.valueOf(ch));
+    }
+
+    public static long countOccurrencesOfACertainCharacterCoverUnicode(Path file, String ch) throws IOException {
+        if (ch.codePointCount(0, ch.length()) != 1) {
+            return -1;
+        }
+
+        int codePoint = ch.codePointAt(0);
+        if (Character.isSurrogate(ch.charAt(0)) && ch.length() == 1) {
+            // A decoded file never contains a lone surrogate
+            return 0;
+        }
+
+        if (codePoint < 0x80) {
+            return MappedFiles.scan(file, 0,
+                    (region, start, length) -> CharacterHistogram.count(region, 0, length, (byte) codePoint))
+                    .stream().mapToLong(Long::longValue).sum();
+        }
+
+        return CountingSubstringOccurrencesInString.countStringInFile(file, ch, true);
+    }
+
     public static void main(String[] args) {
         CountingOccurrencesOfCertainCharacter solution = new CountingOccurrencesOfCertainCharacter();
 
@@ -99,5 +167,6 @@ public class CountingOccurrencesOfCertainCharacter {
         System.out.println(solution.countOccurrencesOfACertainCharacterCoverUnicode("HOW ARE YOU HOW CAN YOU HOW DARE YOU", "H"));
         System.out.println(solution.countOccurrencesOfACertainCharacterSingleTraversal("HOW ARE YOU HOW CAN YOU HOW DARE YOU", 'H'));
         System.out.println(solution.countOccurrencesOfACertainCharacterUsingJavaStream("HOW ARE YOU HOW CAN YOU HOW DARE YOU", 'H'));
+        System.out.println(solution.countOccurrencesOfACertainCharacterUsingKernel("HOW ARE YOU HOW CAN YOU HOW DARE YOU", 'H'));
     }
 }
@@ -0,0 +1,288 @@
+package StringNumbersMath;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class CountingSubstringOccurrencesInString {
+
+    /**
+     * String Manipulation
+     * 17. Counting Substring Occurrences In A String
+     *
+     * Counting the number of occurrences of a string in another string is a
+     * problem that can have at least two interpretations:
+     *      11 in 111 occurs 1 time
+     *      11 in 111 occurs 2 times
+     *
+     * SOLUTIONS: There are 7 solutions to this problem
+     * */
+
+    /**
+     * 1. In the first case (11 in 111 occurs 1 time), the first solution use
+     * the String.indexOf() method.
+     *
+     * One of the flavors of this method allows us to obtain the index
+     * within this string of the first occurrence of the specified
+     * substring, starting at the specified index
+     * (or -1, if there is no such occurrence).
+     *
+     * Based on this method, the solution can simply traverse the
+     * given string and count the given substring occurrences.
+     * The traversal starts from position 0
+     * and continues until the substring is not found:
+     * This is shown in the following code:
+     *
+     * @param str
+     * @param toFind
+     * @return int
+     * */
+    public static int countStringInStringUsingIndexOf(String str, String toFind) {
+        int position = 0;
+        int count = 0;
+        int n = toFind.length();
+
+        // indexOf has param String toFind, int fromIndex position
+        while(str.indexOf(toFind, position) != -1) {
+            position = position + n;
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * 2. In the first case (11 in 111 occurs 1 time),
+     * the second solution use the String.split() method
+     *
+     * Basically, the solution can split the given string
+     * using the given substring as a delimiter.
+     * The length of the resulting String[] array
+     * should be equal to the number of expected occurrences:
+     * This is shown in the following code:
+     *
+     * @param str
+     * @param toFind
+     * @return int
+     * */
+    public static int countStringInStringUsingSplit(String str, String toFind) {
+        // \Q means "start of literal text" (i.e. regex "open quote")
+        // \E means "end of literal text" (i.e. regex "close quote")
+        // split(@String regex, int limit) to splits this string
+        // around matches of the given regular expression.
+        int result = str.split(Pattern.quote(toFind), -1).length - 1;
+        return result < 0 ? 0 : result;
+    }
+
+    /**
+     * 3. In the second case (11 in 111 occurs 2 times),
+     * the final solution use the Pattern and Matcher classes
+     * This is shown in the following code:
+     *
+     * @param str
+     * @param toFind
+     * @return int
+     * */
+    public static int countStringInStringUsingPattern(String str, String toFind) {
+        // Create a pattern from the regular expression
+        Pattern pattern = Pattern.compile(Pattern.quote(toFind));
+        Matcher matcher = pattern.matcher(str);
+
+        int position = 0;
+        int count = 0;
+
+        while (matcher.find(position)) {
+            position = matcher.start() + 1;
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * 4. The fourth solution counts many substrings at once, in both cases
+     * The three solutions above count one substring per call (and the split()
+     * and Pattern solutions build an array of fragments or compile a regular
+     * expression each time). When the text is scanned for thousands of keywords,
+     * an AhoCorasick automaton is compiled once from all of them and finds every
+     * occurrence in a single pass over the text:
+     *
+     *      overlapping = false: 11 in 111 occurs 1 time
+     *      overlapping = true:  11 in 111 occurs 2 times
+     *
+     * The automaton is immutable, so it can be shared by threads and reused
+     * This is shown in the following code:
+     *
+     * @param str
+     * @param toFind
+     * @param overlapping
+     * @return long
+     * */
+    public static long countStringsInStringUsingAhoCorasick(String str, AhoCorasick toFind, boolean overlapping) {
+        return overlapping ? toFind.count(str) : toFind.countNonOverlapping(str);
+    }
+
+    /**
+     * 5. The fifth solution counts one substring, in both cases, with a precompiled Needle
+     * Instead of starting a new String.indexOf() search for every occurrence, the
+     * shift table and the Two-Way factorization of the substring are computed
+     * once by Needle.compile() and reused for every occurrence and every string
+     *
+     *      overlapping = false: 11 in 111 occurs 1 time
+     *      overlapping = true:  11 in 111 occurs 2 times
+     *
+     * This is shown in the following code:
+     *
+     * @param str
+     * @param toFind
+     * @param overlapping
+     * @return int
+     * */
+    public static int countStringInStringUsingNeedle(String str, Needle toFind, boolean overlapping) {
+        return overlapping ? toFind.countOverlapping(str) : toFind.count(str);
+    }
+
+    /**
+     * 6. The sixth solution counts in a file, in both cases, the substring is
+     * searched as its UTF-8 bytes
+     * A log of several GB is not read in a String: the file is memory-mapped and
+     * scanned in parallel regions (see MappedFiles) with a Needle on the bytes
+     * of toFind, which are never copied in a String
+     *
+     * Every region is mapped with the first toFind.length - 1 bytes of the next
+     * one, so an occurrence straddling two regions is seen by the region where it starts:
+     *
+     *      overlapping = true:  11 in 111 occurs 2 times, each region counts the
+     *      occurrences starting in it, and the counts are summed
+     *      overlapping = false: 11 in 111 occurs 1 time, each region also returns where
+     *      its last occurrence ends. If that is past the start of the next region,
+     *      the next region is counted again from there, sequentially (this only
+     *      happens when an occurrence straddles the boundary)
+     *
+     * This is shown in the following code:
+     *
+     * @param file
+     * @param toFind
+     * @param overlapping
+     * @return long
+     * */
+    public static long countStringInFile(Path file, String toFind, boolean overlapping) throws IOException {
+        return countInFile(file, Needle.compile(toFind), overlapping);
+    }
+
+    /**
+     * 7. The seventh solution counts in a SuffixArray of the string, in both cases
+     * When the same large string is searched for many different substrings
+     * (deduplicating configuration blobs), the suffix array is built once in
+     * O(n), and each count takes two binary searches, O(m log n), whatever the
+     * length of the string:
+     *
+     *      overlapping = true:  11 in 111 occurs 2 times, the number of suffixes starting with 11
+     *      overlapping = false: 11 in 111 occurs 1 time, the start of these suffixes are
+     *      sorted and an occurrence is counted when it starts after the end of the previous one
+     *
+     * This is shown in the following code:
+     *
+     * @param str
+     * @param toFind
+     * @param overlapping
+     * @return int
+     * */
+    public static int countStringInStringUsingSuffixArray(SuffixArray str, String toFind, boolean overlapping) {
+        if (overlapping) {
+            return str.count(toFind);
+        }
+
+        int count = 0;
+        int end = 0;
+        for (int position : str.positions(toFind)) {
+            if (position >= end) {
+                count++;
+                end = position + toFind.length();
+            }
+        }
+
+        return count;
+    }
+
+    private static long countInFile(Path file, Needle toFind, boolean overlapping) throws IOException {
+        int m = toFind.byteLength();
+        if (m == 0) {
+            return 0;
+        }
+
+        if (overlapping) {
+            return MappedFiles.scan(file, m - 1, (region, start, length) -> {
+                region.limit(Math.min(region.limit(), length + m - 1));
+                return (long) toFind.countOverlapping(region);
+            }).stream().mapToLong(Long::longValue).sum();
+        }
+
+        List<long[]> regions = MappedFiles.scan(file, m - 1,
+                (region, start, length) -> countInRegion(toFind, region, start, length, 0));
+
+        long count = 0;
+        long end = 0;
+        for (long[] region : regions) {
+            if (end > region[0]) {
+                // The last occurrence of the previous region straddles the boundary
+                int from = (int) (end - region[0]);
+                region = MappedFiles.scan(file, region[0], (int) region[1], m - 1,
+                        (buffer, start, length) -> countInRegion(toFind, buffer, start, length, from));
+            }
+
+            count += region[2];
+            end = Math.max(end, region[3]);
+        }
+
+        return count;
+    }
+
+    /* Returns {start, length, non-overlapping occurrences from "from", end offset of the last one} */
+    private static long[] countInRegion(Needle toFind, ByteBuffer region, long start, int length, int from) {
+        int m = toFind.byteLength();
+        region.limit(Math.min(region.limit(), length + m - 1));
+
+        long count = 0;
+        int end = from;
+        for (int i = toFind.indexOf(region, from); i >= 0; i = toFind.indexOf(region, i + m)) {
+            count++;
+            end = i + m;
+        }
+
+        return new long[]{start, length, count, start + end};
+    }
+
+    public static void main(String[] args) {
+        CountingSubstringOccurrencesInString solution = new CountingSubstringOccurrencesInString();
+
+        // C1
+        System.out.println("Occurrence: " + solution.countStringInStringUsingIndexOf("1111", "1"));
+
+        // C2
+        System.out.println("Occurrence: " +  solution.countStringInStringUsingSplit("1111", "1"));
+
+        // C3
+        System.out.println("Occurrence: " +  solution.countStringInStringUsingPattern("1111", "1"));
+
+        // C4
+        AhoCorasick keywords = AhoCorasick.compile("he", "she", "his", "hers");
+        System.out.println("Occurrence: " + solution.countStringsInStringUsingAhoCorasick("ushers", keywords, true));
+        System.out.println("Occurrence: " + solution.countStringsInStringUsingAhoCorasick("ushers", keywords, false));
+        System.out.println(keywords.findAll("ushers"));
+
+        // C5
+        System.out.println("Occurrence: " + solution.countStringInStringUsingNeedle("111", Needle.compile("11"), false));
+        System.out.println("Occurrence: " + solution.countStringInStringUsingNeedle("111", Needle.compile("11"), true));
+
+        // C7
+        SuffixArray suffixes = SuffixArray.of("111");
+        System.out.println("Occurrence: " + solution.countStringInStringUsingSuffixArray(suffixes, "11", false));
+        System.out.println("Occurrence: " + solution.countStringInStringUsingSuffixArray(suffixes, "11", true));
+        SuffixArray banana = SuffixArray.of("banana");
+        System.out.println(banana.longestRepeatedSubstring() + " " + banana.distinctSubstrings());
+    }
+}
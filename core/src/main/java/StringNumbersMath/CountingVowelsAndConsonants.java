@@ -3,10 +3,9 @@ package StringNumbersMath;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
-import javafx.util.Pair;
-
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.partitioningBy;
 
@@ -16,7 +15,7 @@ public class CountingVowelsAndConsonants {
      * String Manipulation
      * 5.  Counting Vowels And Consonants
      *
-     * SOLUTION: There are 2 solutions to this problem
+     * SOLUTION: There are 3 solutions to this problem
      */
 
     /**
@@ -38,11 +37,11 @@ public class CountingVowelsAndConsonants {
      * The code for this solution is as follows:
      *
      * @param str
-     * @return Pair<Integer, Integer>
+     * @return Entry<Integer, Integer>
      */
     private static final Set<Character> allVowels = new HashSet<>(Arrays.asList('a', 'e', 'i', 'o', 'u'));
 
-    public static Pair<Integer, Integer> countVowelsAndConsonants(String str) {
+    public static Entry<Integer, Integer> countVowelsAndConsonants(String str) {
         // Convert to lowercase
         str = str.toLowerCase();
 
@@ -58,7 +57,7 @@ public class CountingVowelsAndConsonants {
             }
         }
 
-        return new Pair(vowels, consonants);
+        return Map.entry(vowels, consonants);
     }
 
     /**
@@ -70,9 +69,9 @@ public class CountingVowelsAndConsonants {
      * The code for this solution is as follows:
      *
      * @param str
-     * @return Pair<Long, Long>
+     * @return Entry<Long, Long>
      */
-    public static Pair<Long, Long> countVowelsAndConsonantsFunctionalStyle(String str) {
+    public static Entry<Long, Long> countVowelsAndConsonantsFunctionalStyle(String str) {
         // Using Collectors partitioningBy()
         // method to split the stream of elements into
         // contain only char from 'a' to 'z'
@@ -81,17 +80,52 @@ public class CountingVowelsAndConsonants {
                                        .filter(ch -> ch >= 'a' && ch <= 'z')
                                        .collect(partitioningBy(c -> allVowels.contains(c), counting()));
 
-        return new Pair<Long, Long>(result.get(true), result.get(false));
+        return Map.entry(result.get(true), result.get(false));
+    }
+
+    /**
+     * The third solution delegates to the CharacterHistogram kernel
+     * The string is counted once into a primitive histogram, then the vowels
+     * and the consonants are simply summed from the entries of 'a'..'z' and
+     * 'A'..'Z', so there is neither a lowercase copy of the string nor a
+     * Set<Character> lookup per character
+     * Like the first solution, only the English letters are counted
+     * The code for this solution is as follows:
+     *
+     * @param str
+     * @return Entry<Integer, Integer>
+     */
+    private static final String VOWELS = "aeiouAEIOU";
+
+    public static Entry<Integer, Integer> countVowelsAndConsonantsUsingHistogram(String str) {
+        int[] histogram = CharacterHistogram.histogram(str);
+
+        int letters = 0;
+        for (char ch = 'a'; ch <= 'z'; ch++) {
+            letters += CharacterHistogram.occurrences(histogram, ch)
+                    + CharacterHistogram.occurrences(histogram, Character.toUpperCase(ch));
+        }
+
+        int vowels = 0;
+        for (int i = 0; i < VOWELS.length(); i++) {
+            vowels += CharacterHistogram.occurrences(histogram, VOWELS.charAt(i));
+        }
+
+        return Map.entry(vowels, letters - vowels);
     }
 
     public static void main(String[] args) {
         CountingVowelsAndConsonants solution = new CountingVowelsAndConsonants();
-        Pair<Integer, Integer> firstPair = solution.countVowelsAndConsonants("fkhsdaklfashklyuhiu");
+        Entry<Integer, Integer> firstPair = solution.countVowelsAndConsonants("fkhsdaklfashklyuhiu");
         System.out.println("Num of vowels: " + firstPair.getKey());
         System.out.println("Num of consonants: " + firstPair.getValue());
 
-        Pair<Integer, Integer> secPair = solution.countVowelsAndConsonants("fkhsdaklfashklyuhiu");
+        Entry<Integer, Integer> secPair = solution.countVowelsAndConsonants("fkhsdaklfashklyuhiu");
         System.out.println("Num of vowels: " + secPair.getKey());
         System.out.println("Num of consonants: " + secPair.getValue());
+
+        Entry<Integer, Integer> thirdPair = solution.countVowelsAndConsonantsUsingHistogram("fkhsdaklfashklyuhiu");
+        System.out.println("Num of vowels: " + thirdPair.getKey());
+        System.out.println("Num of consonants: " + thirdPair.getValue());
     }
 }
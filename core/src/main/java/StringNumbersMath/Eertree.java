@@ -0,0 +1,205 @@
+package StringNumbersMath;
+
+import java.util.Arrays;
+
+public final class Eertree {
+
+    /**
+     * An eertree (palindromic tree): the distinct palindromes of a string that
+     * grows by appending code points, updated in amortized O(1) per append
+     *
+     * Manacher needs the whole string; here the text is given one code point
+     * at a time (a stream, an editor buffer) and the answers are kept up to date:
+     *
+     * a. Every node is a distinct palindrome, linked to its longest proper
+     * palindromic suffix (the suffix link). Two roots stand for the palindromes
+     * of length -1 and 0, so that a single code point c is -1 extended by c
+     * b. The node of the longest palindromic suffix of the text is kept. On
+     * append(c), its suffix links are followed until a palindrome X preceded
+     * by c is found, then cXc is the new longest palindromic suffix
+     * c. At most one new palindrome appears per append (cXc), and its suffix link
+     * is found the same way from the suffix link of X
+     *
+     * Every node also stores the number of palindromic suffixes it has (its depth
+     * in the suffix link tree), so the palindromic substrings ending at the
+     * last position, and so the total count, come for free on each append.
+     * The edges (node, code point) -> node are kept in a single open-addressing
+     * table of longs, so there is no map per node.
+     * Like the collections of java.util, an instance is not thread-safe.
+     * */
+    private static final int MINUS_ONE = 0; // root of length -1
+    private static final int EMPTY = 1; // root of length 0
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    // The text appended so far
+    private int[] text = new int[INITIAL_CAPACITY];
+    private int length;
+
+    // The nodes: length, suffix link, number of palindromic suffixes
+    private int[] palindromeLength = new int[INITIAL_CAPACITY];
+    private int[] suffixLink = new int[INITIAL_CAPACITY];
+    private int[] suffixes = new int[INITIAL_CAPACITY];
+    private int[] end = new int[INITIAL_CAPACITY]; // where the palindrome first ends
+    private int nodes;
+
+    // Open-addressing table of the edges, key is node << 21 | code point, at most half full
+    private long[] edgeKeys = emptyKeys(INITIAL_CAPACITY * 2);
+    private int[] edgeTargets = new int[INITIAL_CAPACITY * 2];
+    private int edges;
+
+    private int last = EMPTY; // longest palindromic suffix of the text
+    private int longest = EMPTY;
+    private long count;
+
+    public Eertree() {
+        newNode(-1, MINUS_ONE);
+        newNode(0, MINUS_ONE);
+    }
+
+    public static Eertree of(CharSequence s) {
+        Eertree tree = new Eertree();
+        tree.append(s);
+        return tree;
+    }
+
+    /* Appends a code point, returns true if it ends a palindrome that was not in the text before */
+    public boolean append(int codePoint) {
+        if (!Character.isValidCodePoint(codePoint)) {
+            throw new IllegalArgumentException("Not a code point: " + codePoint);
+        }
+        if (length == text.length) {
+            text = Arrays.copyOf(text, length * 2);
+        }
+        text[length++] = codePoint;
+
+        int parent = extensible(last, codePoint);
+        int node = edge(parent, codePoint);
+        boolean created = node == NONE;
+
+        if (created) {
+            node = newNode(palindromeLength[parent] + 2, parent == MINUS_ONE
+                    ? EMPTY
+                    : edge(extensible(suffixLink[parent], codePoint), codePoint));
+            putEdge(parent, codePoint, node);
+            if (palindromeLength[node] > palindromeLength[longest]) {
+                longest = node;
+            }
+        }
+
+        last = node;
+        count += suffixes[node];
+        return created;
+    }
+
+    public void append(CharSequence s) {
+        for (int i = 0; i < s.length(); ) {
+            int cp = Character.codePointAt(s, i);
+            i += Character.charCount(cp);
+            append(cp);
+        }
+    }
+
+    /* Number of code points appended */
+    public int length() {
+        return length;
+    }
+
+    public int countDistinctPalindromes() {
+        return nodes - 2;
+    }
+
+    /* Number of palindromic substrings, counted once per position (aaa has 6) */
+    public long countPalindromicSubstrings() {
+        return count;
+    }
+
+    /* Number of palindromic substrings ending at the last code point */
+    public int countPalindromicSuffixes() {
+        return suffixes[last];
+    }
+
+    /* Length in code points of the longest palindromic suffix */
+    public int longestPalindromicSuffix() {
+        return palindromeLength[last];
+    }
+
+    /* The leftmost longest palindromic substring */
+    public String longestPalindromicSubstring() {
+        int size = palindromeLength[longest];
+        return new String(text, end[longest] - size, size);
+    }
+
+    /* The first palindrome along the suffix links of node that the code point at the end extends */
+    private int extensible(int node, int codePoint) {
+        int i = length - 1;
+        while (i - palindromeLength[node] - 1 < 0 || text[i - palindromeLength[node] - 1] != codePoint) {
+            node = suffixLink[node];
+        }
+        return node;
+    }
+
+    private int newNode(int size, int link) {
+        if (nodes == palindromeLength.length) {
+            int capacity = nodes * 2;
+            palindromeLength = Arrays.copyOf(palindromeLength, capacity);
+            suffixLink = Arrays.copyOf(suffixLink, capacity);
+            suffixes = Arrays.copyOf(suffixes, capacity);
+            end = Arrays.copyOf(end, capacity);
+        }
+
+        palindromeLength[nodes] = size;
+        suffixLink[nodes] = link;
+        suffixes[nodes] = size <= 0 ? 0 : suffixes[link] + 1;
+        end[nodes] = length;
+        return nodes++;
+    }
+
+    private int edge(int node, int codePoint) {
+        long key = (long) node << 21 | codePoint;
+        int mask = edgeKeys.length - 1;
+
+        for (int slot = slot(key, mask); edgeKeys[slot] != NONE; slot = (slot + 1) & mask) {
+            if (edgeKeys[slot] == key) {
+                return edgeTargets[slot];
+            }
+        }
+        return NONE;
+    }
+
+    private void putEdge(int node, int codePoint, int target) {
+        if (++edges * 2 > edgeKeys.length) {
+            long[] keys = edgeKeys;
+            int[] targets = edgeTargets;
+            edgeKeys = emptyKeys(keys.length * 2);
+            edgeTargets = new int[keys.length * 2];
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != NONE) {
+                    insert(keys[slot], targets[slot]);
+                }
+            }
+        }
+        insert((long) node << 21 | codePoint, target);
+    }
+
+    private void insert(long key, int target) {
+        int mask = edgeKeys.length - 1;
+        int slot = slot(key, mask);
+        while (edgeKeys[slot] != NONE) {
+            slot = (slot + 1) & mask;
+        }
+        edgeKeys[slot] = key;
+        edgeTargets[slot] = target;
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static long[] emptyKeys(int capacity) {
+        long[] keys = new long[capacity];
+        Arrays.fill(keys, NONE);
+        return keys;
+    }
+}
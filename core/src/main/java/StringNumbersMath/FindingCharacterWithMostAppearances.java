@@ -0,0 +1,487 @@
+package StringNumbersMath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static java.util.Map.Entry.comparingByValue;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
+public class FindingCharacterWithMostAppearances {
+
+    /**
+     * String Manipulation
+     * 14. Finding the character with the most appearances
+     *
+     * SOLUTIONS: There are 5 solutions to this problem
+     * */
+
+    /**
+     * 1. The first solution is using HashMap
+     * This solution consists of 3 steps:
+     *
+     * a. First, loop the characters of the given string and put the pairs of
+     * the key-value in HashMap where the key is the current character
+     * and the value is the current number of occurrences
+     *
+     * b. Second, compute the maximum value in HashMap (for example,
+     * using Collections.max()) representing the maximum number of
+     * occurrences
+     *
+     * c. Finally, get the character that has the maximum number of
+     * occurrences by looping the HashMap entry set
+     *
+     * The utility method returns Entry<Character, Integer> containing the
+     * character with the most appearances and the number of appearances (notice
+     * that the white spaces are ignored). Instead of an extra Pair class
+     * (javafx.util.Pair is not part of the JDK anymore), we just rely on Map.Entry<K, V>:
+     * This is shown in the following code:
+     *
+     * @param str
+     * @return Entry<Character, Integer>
+     * */
+    public static Entry<Character, Integer> maxOccurenceCharacter(String str) {
+        Map<Character, Integer> map = new HashMap();
+        char[] arrStr = str.toCharArray();
+
+        for (int i = 0; i < str.length(); i++) {
+            char currentChar = arrStr[i];
+
+            if ((!Character.isWhitespace(currentChar))) {//ignore space
+                if (!map.containsKey(currentChar)) {
+                    map.put(currentChar, 1);
+                } else {
+                    map.put(currentChar, map.get(currentChar) + 1);
+                }
+            }
+        }
+
+        int maxOccurrences = Collections.max(map.values());
+        char maxCharacter = Character.MIN_VALUE;
+
+        for (Map.Entry<Character, Integer> entry : map.entrySet()) {
+            if (entry.getValue() == maxOccurrences) {
+                maxCharacter = entry.getKey();
+            }
+        }
+
+        return Map.entry(maxCharacter, maxOccurrences);
+    }
+
+    /**
+     * 2. The second solution is using the ASCII codes
+     * which little faster the first solution
+     * This solution starts with an empty array of 256 indexes
+     * (256 is the maximum number of extended ASCII table codes;
+     * more information can be found in the Finding the first nonrepeated character section)
+     *
+     * Furthermore, this solution loops the characters of the given string
+     * and keeps track of the number of appearances for each
+     * character by increasing the corresponding index in this array:
+     * This is shown in the following code:
+     *
+     * @param str
+     * @return Entry<Character, Integer>
+     * */
+    private static final int EXTENDED_ASCII_CODES = 256;
+    public static Entry<Character, Integer> maxOccurenceCharacterUsingArray(String str) {
+        int[] asciiCodes = new int[EXTENDED_ASCII_CODES];
+        char[] chStr = str.toCharArray();
+
+        int maxOccurrences = -1;
+        char maxCharacter = Character.MIN_VALUE;
+
+        for (int i = 0; i < chStr.length; i++) {
+            char currentCh = chStr[i];
+            if (!Character.isWhitespace(currentCh)) { // ignoring space
+                int code = (int) currentCh;
+                asciiCodes[code]++;
+
+                if (asciiCodes[code] > maxOccurrences) {
+                    maxOccurrences = asciiCodes[code];
+                    maxCharacter = currentCh;
+                }
+            }
+        }
+
+        return Map.entry(maxCharacter, maxOccurrences);
+    }
+
+    /**
+     * 3. The final solution relies on Java 8 functional style:
+     * To start, this solution collects distinct characters as keys in Map,
+     * along with their number of occurrences as values
+     * Furthermore, it uses the Java 8 Map.Entry.comparingByValue()
+     * and max() terminal operations to determine the entry
+     * in the map with the highest value (highest number of occurrences).
+     *
+     * Since max() is a terminal operation, the solution may return
+     * Optional<Entry<Character, Long>>, but this solution adds an extra step and
+     * maps this entry to an immutable Map.entry().
+     * This is shown in the following code:
+     *
+     * @param str
+     * @return Entry<Character, Long>
+     * */
+    public static Entry<Character, Long> maxOccurenceCharacterUsingJavaStream(String str) {
+        return str.chars()
+                  .filter(c -> Character.isWhitespace(c) == false)// ignoring space
+                  .mapToObj(c -> (char) c)
+                  .collect(groupingBy(c -> c, counting()))
+                  .entrySet()
+                  .stream()
+                  .max(comparingByValue())
+                  .map(p -> Map.entry(p.getKey(), p.getValue()))
+                  .orElse(Map.entry(Character.MIN_VALUE, -1L));
+    }
+
+    /**
+     * 4. The fourth solution delegates to the CharacterHistogram kernel
+     * It is the second solution without the limit of 256 codes: the histogram
+     * covers the whole char range (it has 256 entries when the text is Latin-1,
+     * 65,536 otherwise), and the maximum is searched once, after counting,
+     * instead of being updated for every character
+     *
+     * The white spaces are ignored and, on a tie, the character with the
+     * smallest code wins. If there is no character left, the result is
+     * (Character.MIN_VALUE, -1) like in the third solution
+     * This is shown in the following code:
+     *
+     * @param str
+     * @return Entry<Character, Integer>
+     * */
+    public static Entry<Character, Integer> maxOccurenceCharacterUsingHistogram(String str) {
+        int[] histogram = CharacterHistogram.histogram(str);
+
+        int maxOccurrences = -1;
+        char maxCharacter = Character.MIN_VALUE;
+
+        for (int code = 0; code < histogram.length; code++) {
+            if (histogram[code] > maxOccurrences && histogram[code] > 0 && !Character.isWhitespace(code)) {
+                maxOccurrences = histogram[code];
+                maxCharacter = (char) code;
+            }
+        }
+
+        return Map.entry(maxCharacter, maxOccurrences);
+    }
+
+    /**
+     * 5. The fifth solution returns the K characters with the most appearances
+     * instead of a single one, without sorting every distinct character:
+     *
+     * a. Count the code points (surrogate pairs included, white spaces ignored)
+     * in a primitive histogram: a CodePointIntMap plus the list of the distinct
+     * code points in order of first appearance
+     * b. Offer every distinct code point to a min-heap bounded to K entries,
+     * the root is the weakest leader and is replaced by any stronger candidate
+     * c. Return the heap content ranked from the most frequent
+     *
+     * The ranking is deterministic: on a tie, the smaller code point wins.
+     * It runs in O(n + d log K) for d distinct code points
+     * For inputs too large to be counted exactly, TopKSketch gives the same
+     * answer approximately, from a bounded amount of memory
+     * This is shown in the following code:
+     *
+     * @param str
+     * @param k
+     * @return List<Entry<Integer, Long>> (code point, occurrences)
+     * */
+    public static List<Entry<Integer, Long>> topK(String str, int k) {
+        TopKHeap heap = new TopKHeap(k, false);
+        CodePointIntMap counts = new CodePointIntMap(0);
+        int[] distinct = new int[16];
+        int size = 0;
+
+        for (int i = 0; i < str.length(); ) {
+            int cp = str.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (!Character.isWhitespace(cp)) { // ignoring space
+                int count = counts.get(cp);
+                if (count == 0) {
+                    if (size == distinct.length) {
+                        distinct = Arrays.copyOf(distinct, size << 1);
+                    }
+                    distinct[size++] = cp;
+                }
+                counts.put(cp, count + 1);
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            heap.offer(distinct[i], counts.get(distinct[i]));
+        }
+
+        return heap.ranked();
+    }
+
+    /**
+     * The streaming mode of the fifth solution, for inputs too large to be
+     * counted exactly (or that never end)
+     *
+     * a. A Count-Min Sketch (depth rows of width counters, one hash function per row)
+     * estimates the occurrences of every code point: an estimate is never below
+     * the real count, and is above it by at most 2 * n / width with a probability
+     * of 1 - (1/2)^depth. The conservative update (only the smallest counters
+     * are increased) keeps the estimates tight
+     * b. The same bounded min-heap as topK() keeps the K code points with the
+     * best estimates, a code point already in the heap is updated in place
+     *
+     * The memory is bounded by the sketch and K, whatever the size of the input.
+     * A surrogate pair split between two chunks is carried over to the next chunk,
+     * so finish() must be called after the last chunk to count a lone high
+     * surrogate that ends the input.
+     * It is not thread-safe.
+     * This is shown in the following code:
+     * */
+    public static final class TopKSketch {
+
+        private static final int DEFAULT_WIDTH = 1 << 12;
+        private static final int DEFAULT_DEPTH = 4;
+
+        private final long[] counters;
+        private final int depth;
+        private final int mask;
+        private final TopKHeap heap;
+
+        private char pendingHighSurrogate;
+        private boolean hasPendingHighSurrogate;
+
+        public TopKSketch(int k) {
+            this(k, DEFAULT_WIDTH, DEFAULT_DEPTH);
+        }
+
+        /* width is rounded up to a power of two */
+        public TopKSketch(int k, int width, int depth) {
+            if (width < 1 || depth < 1) {
+                throw new IllegalArgumentException("Invalid sketch size: " + width + " x " + depth);
+            }
+
+            int rowSize = Integer.highestOneBit(width) == width ? width : Integer.highestOneBit(width) << 1;
+            this.counters = new long[rowSize * depth];
+            this.depth = depth;
+            this.mask = rowSize - 1;
+            this.heap = new TopKHeap(k, true);
+        }
+
+        public void accept(int codePoint) {
+            if (Character.isWhitespace(codePoint)) { // ignoring space
+                return;
+            }
+
+            int row = mask + 1;
+            long estimate = Long.MAX_VALUE;
+            for (int r = 0; r < depth; r++) {
+                estimate = Math.min(estimate, counters[r * row + hash(codePoint, r)]);
+            }
+
+            // Conservative update: a counter is never raised above the new estimate
+            estimate++;
+            for (int r = 0; r < depth; r++) {
+                int counter = r * row + hash(codePoint, r);
+                counters[counter] = Math.max(counters[counter], estimate);
+            }
+
+            heap.offer(codePoint, estimate);
+        }
+
+        public void accept(CharSequence s) {
+            for (int i = 0; i < s.length(); i++) {
+                char ch = s.charAt(i);
+
+                if (hasPendingHighSurrogate) {
+                    hasPendingHighSurrogate = false;
+                    if (Character.isLowSurrogate(ch)) {
+                        accept(Character.toCodePoint(pendingHighSurrogate, ch));
+                        continue;
+                    }
+                    accept(pendingHighSurrogate);
+                }
+
+                if (Character.isHighSurrogate(ch)) {
+                    pendingHighSurrogate = ch;
+                    hasPendingHighSurrogate = true;
+                } else {
+                    accept(ch);
+                }
+            }
+        }
+
+        /**
+         * Signal the end of the input: a trailing lone high surrogate is counted,
+         * like topK() of the exact mode does
+         * The sketch can keep accepting input afterwards
+         * */
+        public void finish() {
+            if (hasPendingHighSurrogate) {
+                hasPendingHighSurrogate = false;
+                accept(pendingHighSurrogate);
+            }
+        }
+
+        /* The K leaders so far, with their estimated occurrences (a pending high surrogate is only counted by finish()) */
+        public List<Entry<Integer, Long>> topK() {
+            return heap.ranked();
+        }
+
+        /* murmur3 finalizer of the code point mixed with a per row seed */
+        private int hash(int codePoint, int row) {
+            int h = codePoint ^ (row * 0x9E3779B9 + 1);
+            h ^= h >>> 16;
+            h *= 0x85EBCA6B;
+            h ^= h >>> 13;
+            h *= 0xC2B2AE35;
+            h ^= h >>> 16;
+            return h & mask;
+        }
+    }
+
+    /* Min-heap of at most K (code point, count), the root ranks last */
+    private static final class TopKHeap {
+        private final int[] codePoints;
+        private final long[] counts;
+        private final CodePointIntMap positions; // only when counts of the heap entries are updated
+        private int size;
+
+        TopKHeap(int k, boolean updatable) {
+            if (k < 0) {
+                throw new IllegalArgumentException("k cannot be negative: " + k);
+            }
+
+            this.codePoints = new int[k];
+            this.counts = new long[k];
+            this.positions = updatable ? new CodePointIntMap(-1) : null;
+        }
+
+        /* The count of a code point already in the heap can only grow */
+        void offer(int codePoint, long count) {
+            if (positions != null) {
+                int position = positions.get(codePoint);
+                if (position >= 0) {
+                    counts[position] = count;
+                    siftDown(position);
+                    return;
+                }
+            }
+
+            if (size < codePoints.length) {
+                set(size, codePoint, count);
+                siftUp(size++);
+            } else if (size > 0 && ranksBefore(count, codePoint, counts[0], codePoints[0])) {
+                if (positions != null) {
+                    positions.remove(codePoints[0]);
+                }
+                set(0, codePoint, count);
+                siftDown(0);
+            }
+        }
+
+        List<Entry<Integer, Long>> ranked() {
+            List<Entry<Integer, Long>> ranked = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                ranked.add(Map.entry(codePoints[i], counts[i]));
+            }
+
+            ranked.sort((a, b) -> ranksBefore(a.getValue(), a.getKey(), b.getValue(), b.getKey()) ? -1 : 1);
+            return ranked;
+        }
+
+        /* More occurrences first, then the smaller code point */
+        private static boolean ranksBefore(long countA, int codePointA, long countB, int codePointB) {
+            return countA > countB || (countA == countB && codePointA < codePointB);
+        }
+
+        private boolean ranksBefore(int i, int j) {
+            return ranksBefore(counts[i], codePoints[i], counts[j], codePoints[j]);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!ranksBefore(parent, i)) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int last = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+
+                if (left < size && ranksBefore(last, left)) {
+                    last = left;
+                }
+                if (right < size && ranksBefore(last, right)) {
+                    last = right;
+                }
+                if (last == i) {
+                    return;
+                }
+
+                swap(i, last);
+                i = last;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int codePoint = codePoints[i];
+            long count = counts[i];
+            set(i, codePoints[j], counts[j]);
+            set(j, codePoint, count);
+        }
+
+        private void set(int i, int codePoint, long count) {
+            codePoints[i] = codePoint;
+            counts[i] = count;
+            if (positions != null) {
+                positions.put(codePoint, i);
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        FindingCharacterWithMostAppearances solution = new FindingCharacterWithMostAppearances();
+        Entry<Character, Integer> result = solution.maxOccurenceCharacter("HELLO LOLLIPOP!!!");
+        System.out.println("Character: " + result.getKey());
+        System.out.println("Occurrence: " + result.getValue());
+        System.out.println("==============");
+
+        Entry<Character, Integer> result1 = solution.maxOccurenceCharacterUsingArray("HELLO LOLLIPOP!!!");
+        System.out.println("Character: " + result.getKey());
+        System.out.println("Occurrence: " + result.getValue());
+        System.out.println("==============");
+
+        Entry<Character, Long> result2 = solution.maxOccurenceCharacterUsingJavaStream("HELLO LOLLIPOP!!!");
+        System.out.println("Character: " + result.getKey());
+        System.out.println("Occurrence: " + result.getValue());
+        System.out.println("==============");
+
+        Entry<Character, Integer> result3 = solution.maxOccurenceCharacterUsingHistogram("HELLO LOLLIPOP!!!");
+        System.out.println("Character: " + result3.getKey());
+        System.out.println("Occurrence: " + result3.getValue());
+        System.out.println("==============");
+
+        for (Entry<Integer, Long> leader : solution.topK("HELLO LOLLIPOP!!!", 3)) {
+            System.out.println(Character.toString(leader.getKey()) + ": " + leader.getValue());
+        }
+        System.out.println("==============");
+
+        TopKSketch sketch = new TopKSketch(3);
+        sketch.accept("HELLO LOL");
+        sketch.accept("LIPOP!!!");
+        sketch.finish();
+        for (Entry<Integer, Long> leader : sketch.topK()) {
+            System.out.println(Character.toString(leader.getKey()) + ": " + leader.getValue());
+        }
+    }
+}
@@ -0,0 +1,583 @@
+package StringNumbersMath;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class FindingFirstNonRepeatedCharacter {
+
+    /**
+     * String Manipulation
+     * 2. Finding the first non-repeated character in a string
+     *
+     * SOLUTION: There are 7 solutions to this problem
+     *
+     */
+
+    /**
+     * 1. The first solution is using single traversal approach
+     * In the single traversal approach, we populate an array that's meant to store
+     * the indexes of all the characters that appear exactly once in the string.
+     * With this array, simply return the smallest index containing a non-repeated
+     * character
+     *
+     * This solution assumes that every character from the string is part of the
+     * extended ASCII table (256 codes). Having codes greater than 256 requires us
+     * to increase the size of the array accordingly.
+     *
+     * The solution will work as long as the array size is not extended
+     * beyond the largest value of the char type, which
+     * is Character.MAX_VALUE, that is, 65,535.
+     * On the other hand, Character.MAX_CODE_POINT returns the maximum value of
+     * a Unicode code point, 1,114,111.
+     * To cover this range, we need another implementation based on
+     * codePointAt() and codePoints().
+     *
+     * This is shown in the following code:
+     *
+     * @param s
+     * @return char
+     * */
+    private static final int EXTENDED_ASCII_CODES = 256;
+    public static char findFirstNonRepeatedCharacterUsingSingleTraversal(String s) {
+        // Create arrays with size 256
+        int[] arraysOfStrIndex = new int[EXTENDED_ASCII_CODES];
+
+        for (int i = 0; i < arraysOfStrIndex.length; i++) {
+            arraysOfStrIndex[i] = -1;
+        }
+
+        for (int i = 0; i < s.length(); i++) {
+            // Get char from s based on ASCII table
+            // which is a equal to 97 and z equal to 122
+            char ch = s.charAt(i);
+            if (arraysOfStrIndex[ch] == -1) {
+                arraysOfStrIndex[ch] = i;
+            } else {
+                arraysOfStrIndex[ch] = -2;
+            }
+        }
+
+        int position = Integer.MAX_VALUE;
+
+        for (int i = 0; i < EXTENDED_ASCII_CODES; i++) {
+            if (arraysOfStrIndex[i] >= 0) {
+                // Get the smallest index of non-repeated character
+                // which is the first non-repeated character
+                position = Math.min(position, arraysOfStrIndex[i]);
+            }
+        }
+
+        return position == Integer.MAX_VALUE ? Character.MIN_VALUE : s.charAt(position);
+    }
+
+    /**
+     * 2. The second solution consists of looping the string
+     * for each character and counting the number of occurrences
+     * Every second occurrence (duplicate) simply breaks the loop,
+     * jumps to the next character, and repeats the algorithm
+     * If the end of the string is reached,
+     * then it returns the current character as the first non-repeatable character
+     *
+     * This is shown in the following code:
+     *
+     * @param s
+     * @return char
+     * */
+    public static char findFirstNonRepeatedCharacterUsingLinkedHashSet(String s) {
+        // Creating a HashMap containing char as a key and occurrences as  a value
+        HashMap<Character, Integer> charCountMap = new HashMap<Character, Integer>();
+        LinkedHashSet set = new LinkedHashSet();
+
+        for (int i = 0; i < s.length(); i++) {
+            if (set.contains(s.charAt(i))) {
+                set.remove(s.charAt(i));
+            } else {
+                charCountMap.put(s.charAt(i), 1);
+                set.add(s.charAt(i));
+            }
+        }
+
+        char firstNonRepeat = (char) set.stream().findFirst().orElse("");;
+
+        return firstNonRepeat;
+    }
+
+
+    /**
+     * 3. The final solution is using LinkedHashMap
+     * This Java map is an insertion-order map (it maintains the order in which the keys
+     * were inserted into the map) and is very convenient for this solution
+     * LinkedHashMap is populated with characters as keys and the number
+     * of occurrences as values. Once LinkedHashMap is complete, it will return the
+     * first key that has a value equal to 1
+     * Thanks to the insertion-order feature, this is the first non-repeatable character in the string:
+     *
+     * @param s
+     * @return char
+     */
+    public static char findFirstNonRepeatedCharacterUsingLinkedHashMap(String s) {
+        LinkedHashMap<Character, Integer> linkedMap = new LinkedHashMap();
+
+        for (char ch : s.toCharArray()) {
+            // Update value of key in HashMap and return
+            // If char not present in charCountMap, increase number of occurrences of duplicate character
+            // If char is not present in charCountMap,
+            // putting this char to charCountMap with 1 as it's value
+            linkedMap.compute(ch, (k,v) -> (v == null) ? 1: ++v);
+        }
+
+        for (Map.Entry<Character, Integer> entry: linkedMap.entrySet()) {
+            if (entry.getValue() == 1) {
+                return entry.getKey();
+            }
+        }
+
+        return Character.MIN_VALUE;
+    }
+    public static char findFirstNonRepeatedCharacterUsingStream(String s) {
+        // Creating a HashMap containing char as a key and occurrences as  a value
+        LinkedHashMap<Character, Integer> charCountMap = new LinkedHashMap<Character, Integer>();
+
+        for (char ch : s.toCharArray()) {
+            // Update value of key in HashMap and return
+            // If char not present in charCountMap, increase number of occurrences of duplicate character
+            // If char is not present in charCountMap,
+            // putting this char to charCountMap with 1 as it's value
+            charCountMap.compute(ch, (k,v) -> (v == null) ? 1: ++v);
+        }
+
+        char firstNonRepeat = charCountMap.entrySet()
+                .stream()
+                .filter(e -> e.getValue().equals(1))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElse(null);
+
+        return firstNonRepeat;
+    }
+
+    public static String firstNonRepeatedCharacterUsingFunctionalStyle(String str) {
+        Map<Integer, Long> chs = str.codePoints()
+                .mapToObj(cp -> cp)
+                .collect(Collectors.groupingBy(Function.identity(),
+                        LinkedHashMap::new, Collectors.counting()));
+
+        int cp = chs.entrySet().stream()
+                .filter(e -> e.getValue() == 1L)
+                .findFirst()
+                .map(Map.Entry::getKey)
+                .orElse(Integer.valueOf(Character.MIN_VALUE));
+
+        return String.valueOf(Character.toChars(cp));
+    }
+
+    /**
+     * 6. The sixth solution covers the whole code point range (surrogate pairs
+     * included) without boxing anything
+     * It is the single traversal approach of the first solution, but the array
+     * of 256 indexes is replaced by a CodePointIntMap, a two-level sparse index:
+     * a dense table for Latin-1 and an open-addressing int map for the other code points.
+     *
+     * a. The first traversal stores the index of the first occurrence of every
+     * code point, or REPEATED as soon as the code point appears again
+     * b. The second traversal returns the first code point whose stored index
+     * is its own index, meaning it was never repeated
+     *
+     * The map is kept per thread and reused, so a call on ASCII (Latin-1) input
+     * does not allocate anything. The char[] overload works on a range of a
+     * (pooled) buffer without copying it into a String.
+     * If every code point is repeated, Character.MIN_VALUE is returned
+     * This is shown in the following code:
+     *
+     * @param s
+     * @return int (code point)
+     * */
+    private static final int NOT_SEEN = -1;
+    private static final int REPEATED = -2;
+    private static final ThreadLocal<CodePointIntMap> FIRST_INDEXES =
+            ThreadLocal.withInitial(() -> new CodePointIntMap(NOT_SEEN));
+
+    public static int findFirstNonRepeatedCodePoint(CharSequence s) {
+        CodePointIntMap firstIndexes = FIRST_INDEXES.get();
+        firstIndexes.clear();
+        int length = s.length();
+
+        for (int i = 0; i < length; ) {
+            int cp = Character.codePointAt(s, i);
+            firstIndexes.put(cp, firstIndexes.get(cp) == NOT_SEEN ? i : REPEATED);
+            i += Character.charCount(cp);
+        }
+
+        for (int i = 0; i < length; ) {
+            int cp = Character.codePointAt(s, i);
+            if (firstIndexes.get(cp) == i) {
+                return cp;
+            }
+            i += Character.charCount(cp);
+        }
+
+        return Character.MIN_VALUE;
+    }
+
+    public static int findFirstNonRepeatedCodePoint(char[] chs, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, chs.length);
+        CodePointIntMap firstIndexes = FIRST_INDEXES.get();
+        firstIndexes.clear();
+        int limit = offset + length;
+
+        for (int i = offset; i < limit; ) {
+            int cp = Character.codePointAt(chs, i, limit);
+            firstIndexes.put(cp, firstIndexes.get(cp) == NOT_SEEN ? i : REPEATED);
+            i += Character.charCount(cp);
+        }
+
+        for (int i = offset; i < limit; ) {
+            int cp = Character.codePointAt(chs, i, limit);
+            if (firstIndexes.get(cp) == i) {
+                return cp;
+            }
+            i += Character.charCount(cp);
+        }
+
+        return Character.MIN_VALUE;
+    }
+
+    /**
+     * 7. The seventh solution works on input that never fits in one String
+     * (logs, sockets, files), the text is pushed chunk by chunk and the current
+     * answer can be queried at any moment in O(1)
+     *
+     * a. Every code point seen exactly once so far sits in a doubly-linked
+     * candidate list, in order of first appearance
+     * b. A CodePointIntMap indexes the code points: it gives the node of a
+     * candidate, or REPEATED once the code point showed up a second time
+     * c. When a candidate repeats, its node is unlinked in O(1) and recycled
+     * d. The head of the list is the first non-repeated code point so far
+     *
+     * The nodes live in parallel int/long arrays, so nothing is boxed and the
+     * memory is bounded by the number of distinct code points.
+     * Chunks may split a surrogate pair (chars) or a multi-byte sequence (bytes),
+     * the tracker carries the incomplete part over to the next chunk.
+     * Malformed bytes are replaced with U+FFFD.
+     * It is not thread-safe.
+     * This is shown in the following code:
+     * */
+    public static final class Tracker {
+
+        private static final int NOT_SEEN = -1;
+        private static final int REPEATED = -2;
+        private static final int NIL = -1;
+        private static final int INITIAL_NODES = 16;
+        private static final int BUFFER_SIZE = 8192;
+
+        private final CodePointIntMap nodeOf = new CodePointIntMap(NOT_SEEN);
+        private final CharsetDecoder decoder;
+
+        // Candidate list, node i holds a code point and the index of its only occurrence
+        private int[] codePoints = new int[INITIAL_NODES];
+        private long[] indexes = new long[INITIAL_NODES];
+        private int[] prev = new int[INITIAL_NODES];
+        private int[] next = new int[INITIAL_NODES];
+        private int head = NIL;
+        private int tail = NIL;
+        private int free = NIL;
+        private int used;
+
+        private long count;
+        private char pendingHighSurrogate;
+        private boolean hasPendingHighSurrogate;
+
+        // Created on the first Reader/byte input only
+        private char[] chars;
+        private ByteBuffer bytes;
+        private CharBuffer decoded;
+
+        public Tracker() {
+            this(StandardCharsets.UTF_8);
+        }
+
+        /* charset is used to decode the byte input */
+        public Tracker(Charset charset) {
+            this.decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        /* The first non-repeated code point so far, or Character.MIN_VALUE if there is none */
+        public int firstNonRepeated() {
+            return head == NIL ? Character.MIN_VALUE : codePoints[head];
+        }
+
+        /* The code point index of the first non-repeated code point so far, or -1 if there is none */
+        public long firstNonRepeatedIndex() {
+            return head == NIL ? -1 : indexes[head];
+        }
+
+        /* Number of code points pushed so far */
+        public long count() {
+            return count;
+        }
+
+        public void accept(int codePoint) {
+            int node = nodeOf.get(codePoint);
+
+            if (node == NOT_SEEN) {
+                nodeOf.put(codePoint, link(codePoint, count));
+            } else if (node != REPEATED) {
+                unlink(node);
+                nodeOf.put(codePoint, REPEATED);
+            }
+
+            count++;
+        }
+
+        public void accept(CharSequence s) {
+            for (int i = 0; i < s.length(); i++) {
+                acceptChar(s.charAt(i));
+            }
+        }
+
+        public void accept(char[] chs, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, chs.length);
+
+            for (int i = offset; i < offset + length; i++) {
+                acceptChar(chs[i]);
+            }
+        }
+
+        /* Push everything the reader returns until the end of the stream */
+        public void accept(Reader reader) throws IOException {
+            if (chars == null) {
+                chars = new char[BUFFER_SIZE];
+            }
+
+            int n;
+            while ((n = reader.read(chars)) != -1) {
+                accept(chars, 0, n);
+            }
+        }
+
+        /* Push a chunk of encoded bytes, the buffer is fully consumed */
+        public void accept(ByteBuffer in) {
+            ByteBuffer staged = stagingBuffer();
+
+            while (in.hasRemaining()) {
+                int n = Math.min(staged.remaining(), in.remaining());
+                staged.put(in.slice(in.position(), n));
+                in.position(in.position() + n);
+                decodeStaged(false);
+            }
+        }
+
+        /**
+         * Push the bytes the channel returns, until the end of the stream or,
+         * for a non-blocking channel, until no byte is available
+         * Returns -1 if the end of the stream was reached, 0 otherwise
+         * */
+        public int accept(ReadableByteChannel channel) throws IOException {
+            ByteBuffer staged = stagingBuffer();
+
+            int n;
+            while ((n = channel.read(staged)) > 0) {
+                decodeStaged(false);
+            }
+
+            return n < 0 ? -1 : 0;
+        }
+
+        /**
+         * Signal the end of the input: the incomplete bytes left by the last chunk
+         * are decoded (as U+FFFD) and a trailing lone high surrogate is counted
+         * The tracker can keep accepting input afterwards
+         * */
+        public void finish() {
+            if (bytes != null) {
+                decodeStaged(true);
+                decoder.flush(decoded);
+                drainDecoded();
+                decoder.reset();
+            }
+
+            if (hasPendingHighSurrogate) {
+                hasPendingHighSurrogate = false;
+                accept(pendingHighSurrogate);
+            }
+        }
+
+        /* Forget everything, the allocated arrays are kept */
+        public void clear() {
+            nodeOf.clear();
+            head = NIL;
+            tail = NIL;
+            free = NIL;
+            used = 0;
+            count = 0;
+            hasPendingHighSurrogate = false;
+
+            if (bytes != null) {
+                bytes.clear();
+                decoder.reset();
+            }
+        }
+
+        /* Join surrogate pairs, a lone surrogate counts as a code point of its own */
+        private void acceptChar(char ch) {
+            if (hasPendingHighSurrogate) {
+                hasPendingHighSurrogate = false;
+
+                if (Character.isLowSurrogate(ch)) {
+                    accept(Character.toCodePoint(pendingHighSurrogate, ch));
+                    return;
+                }
+                accept(pendingHighSurrogate);
+            }
+
+            if (Character.isHighSurrogate(ch)) {
+                pendingHighSurrogate = ch;
+                hasPendingHighSurrogate = true;
+            } else {
+                accept(ch);
+            }
+        }
+
+        private ByteBuffer stagingBuffer() {
+            if (bytes == null) {
+                bytes = ByteBuffer.allocate(BUFFER_SIZE);
+                decoded = CharBuffer.allocate(BUFFER_SIZE);
+            }
+
+            return bytes;
+        }
+
+        /* Decode the staged bytes, an incomplete sequence at the end stays staged */
+        private void decodeStaged(boolean endOfInput) {
+            bytes.flip();
+
+            CoderResult result;
+            do {
+                result = decoder.decode(bytes, decoded, endOfInput);
+                drainDecoded();
+            } while (result.isOverflow());
+
+            bytes.compact();
+        }
+
+        private void drainDecoded() {
+            decoded.flip();
+            while (decoded.hasRemaining()) {
+                acceptChar(decoded.get());
+            }
+            decoded.clear();
+        }
+
+        /* Append a node at the tail of the candidate list */
+        private int link(int codePoint, long index) {
+            int node;
+            if (free != NIL) {
+                node = free;
+                free = next[node];
+            } else {
+                if (used == codePoints.length) {
+                    int capacity = used << 1;
+                    codePoints = Arrays.copyOf(codePoints, capacity);
+                    indexes = Arrays.copyOf(indexes, capacity);
+                    prev = Arrays.copyOf(prev, capacity);
+                    next = Arrays.copyOf(next, capacity);
+                }
+                node = used++;
+            }
+
+            codePoints[node] = codePoint;
+            indexes[node] = index;
+            prev[node] = tail;
+            next[node] = NIL;
+
+            if (tail == NIL) {
+                head = node;
+            } else {
+                next[tail] = node;
+            }
+            tail = node;
+
+            return node;
+        }
+
+        /* Remove a node from the candidate list and put it on the free list */
+        private void unlink(int node) {
+            if (prev[node] == NIL) {
+                head = next[node];
+            } else {
+                next[prev[node]] = next[node];
+            }
+
+            if (next[node] == NIL) {
+                tail = prev[node];
+            } else {
+                prev[next[node]] = prev[node];
+            }
+
+            next[node] = free;
+            free = node;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        FindingFirstNonRepeatedCharacter solution = new FindingFirstNonRepeatedCharacter();
+        // Single Traversal
+        System.out.println(solution.findFirstNonRepeatedCharacterUsingSingleTraversal("dsadssre"));
+
+        // Looping and counting the number of occurrences
+        System.out.println(solution.findFirstNonRepeatedCharacterUsingLinkedHashSet("dsadssre"));
+
+        // Using Hashmap or LinkedHashMap
+        System.out.println(solution.findFirstNonRepeatedCharacterUsingStream("dsadssre"));
+        System.out.println(solution.findFirstNonRepeatedCharacterUsingLinkedHashMap("dsadssre"));
+        System.out.println(solution.firstNonRepeatedCharacterUsingFunctionalStyle("dsadssre"));
+
+        System.out.println("========");
+        // Single Traversal
+        System.out.println(solution.findFirstNonRepeatedCharacterUsingSingleTraversal("iooightk"));
+
+        // Looping and counting the number of occurrences
+        System.out.println(solution.findFirstNonRepeatedCharacterUsingLinkedHashSet("iooightk"));
+
+        // Using Hashmap or LinkedHashMap
+        System.out.println(solution.findFirstNonRepeatedCharacterUsingStream("iooightk"));
+        System.out.println(solution.findFirstNonRepeatedCharacterUsingLinkedHashMap("iooightk"));
+        System.out.println(solution.firstNonRepeatedCharacterUsingFunctionalStyle("iooightk"));
+
+        System.out.println("========");
+        // Whole code point range
+        System.out.println(Character.toChars(solution.findFirstNonRepeatedCodePoint("iooightk")));
+        System.out.println(Character.toChars(solution.findFirstNonRepeatedCodePoint("\uD83D\uDE00жж\uD83D\uDE00я")));
+        char[] buffer = "xxdsadssrexx".toCharArray();
+        System.out.println(Character.toChars(solution.findFirstNonRepeatedCodePoint(buffer, 2, 8)));
+
+        System.out.println("========");
+        // Streaming input
+        Tracker tracker = new Tracker();
+        tracker.accept("dsa");
+        System.out.println(Character.toChars(tracker.firstNonRepeated()));
+        tracker.accept(new StringReader("dss"));
+        System.out.println(Character.toChars(tracker.firstNonRepeated()));
+        byte[] utf8 = "re\uD83D\uDE00".getBytes(StandardCharsets.UTF_8);
+        tracker.accept(ByteBuffer.wrap(utf8, 0, utf8.length - 1));
+        tracker.accept(Channels.newChannel(new ByteArrayInputStream(utf8, utf8.length - 1, 1)));
+        tracker.finish();
+        System.out.println(new String(Character.toChars(tracker.firstNonRepeated())) + " at " + tracker.firstNonRepeatedIndex());
+    }
+}
@@ -1,6 +1,9 @@
 package StringNumbersMath;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class FindingLongestCommonPrefix {
 
@@ -8,7 +11,7 @@ public class FindingLongestCommonPrefix {
      * String Manipulation
      * 22. Finding The Longest Common Prefix
      *
-     * SOLUTIONS: There are 7 solutions to this problem
+     * SOLUTIONS: There are 9 solutions to this problem
      *
      * Example: Let's put these strings one below the other, as follows:
      * abc
@@ -19,6 +22,10 @@ public class FindingLongestCommonPrefix {
      * abcdef
      * A simple comparison of these strings reveals that
      * ab is the longest common prefix
+     *
+     * The solutions compare two strings with CommonPrefix.length(), which returns
+     * the length of their common prefix (with a vectorized Arrays.mismatch()),
+     * and create a substring only when they need one
      * */
 
     /**
@@ -36,6 +43,8 @@ public class FindingLongestCommonPrefix {
      * then the longest common prefix is the substring from 0 to the index of the
      * current character from the first string.
      * Otherwise, the longest common prefix is the first string from the array.
+     * The prefix is kept as a length, every string only needs to be compared
+     * with the first one up to the current length.
      * This is shown in the following code:
      *
      * @param strs
@@ -46,21 +55,14 @@ public class FindingLongestCommonPrefix {
             return strs[0];
         }
 
-        int firstLen = strs[0].length();
-
-        for (int prefixLen = 0; prefixLen < firstLen; prefixLen++) {
-            char currentCharOfFirstString = strs[0].charAt(prefixLen);
+        int prefixLen = strs[0].length();
 
-            for (int i = 1; i < strs.length; i++) {
-                // currentCharOfOtherString = strs[i].charAt(prefixLen);
-                // Stop looping
-                if (prefixLen >= strs[i].length() || (strs[i].charAt(prefixLen) != currentCharOfFirstString)) {
-                    return strs[i].substring(0, prefixLen);
-                }
-            }
+        // Stop looping once there is no common prefix left
+        for (int i = 1; i < strs.length && prefixLen > 0; i++) {
+            prefixLen = CommonPrefix.length(strs[0], strs[i], prefixLen);
         }
 
-        return strs[0];
+        return strs[0].substring(0, prefixLen);
     }
 
     /**
@@ -94,14 +96,7 @@ public class FindingLongestCommonPrefix {
 
     /* Find the match between left and right side */
     public static String commonPrefixLeftAndRight(String lcpLeft, String lcpRight) {
-        int min = Math.min(lcpLeft.length(), lcpRight.length());
-
-        for (int i = 0; i < min; i++) {
-            if (lcpLeft.charAt(i) != lcpRight.charAt(i)) {
-                return lcpLeft.substring(0, i);
-            }
-        }
-        return lcpLeft.substring(0, min);
+        return lcpLeft.substring(0, CommonPrefix.length(lcpLeft, lcpRight));
     }
     /**
      * 3. The third solution use Two pointers approach
@@ -118,11 +113,11 @@ public class FindingLongestCommonPrefix {
 
         String result = returnMatch(strs[0], strs[1]);
 
-        if(result == "") return "";
+        if(result.isEmpty()) return "";
 
         for(int i = 2; i < strs.length; i++){
             String currentResult = returnMatch(strs[i], result);
-            if(currentResult =="") return "";
+            if(currentResult.isEmpty()) return "";
             else result = currentResult;
         }
         return result;
@@ -130,17 +125,7 @@ public class FindingLongestCommonPrefix {
 
     /* Find the match between firstStr and secondStr */
     public String returnMatch(String firstStr, String secondStr){
-        StringBuilder sb =  new StringBuilder();
-        int p1 = 0, p2 = 0;
-        while(p1 < firstStr.length() && p2 < secondStr.length()){
-            if(firstStr.charAt(p1) == secondStr.charAt(p2)){
-                sb.append(firstStr.charAt(p1));
-                p1++;
-                p2++;
-            }
-            else break;
-        }
-        return sb.toString();
+        return firstStr.substring(0, CommonPrefix.length(firstStr, secondStr));
     }
 
     /**
@@ -159,12 +144,10 @@ public class FindingLongestCommonPrefix {
         String prefix = strs[0];
 
         for (int i = 1; i < strs.length; i++) {
-            // If strs[i].indexOf(prefix) = 0 means that strs[i] contains prefix
-            while (strs[i].indexOf(prefix) != 0) {
-                /* Remove one character in prefix */
-                prefix = prefix.substring(0, prefix.length() - 1);
-                if (prefix.isEmpty()) return "";
-            }
+            // Cut the prefix where it stops matching strs[i], instead of
+            // removing one character at a time until strs[i].indexOf(prefix) = 0
+            prefix = prefix.substring(0, CommonPrefix.length(prefix, strs[i]));
+            if (prefix.isEmpty()) return "";
         }
 
         return prefix;
@@ -261,11 +244,9 @@ public class FindingLongestCommonPrefix {
 
     /* Check if strs[i] contains common prefix or not*/
     public static boolean isCommonPrefix(String[] strs, int prefixLen) {
-        /* str1 is common prefix*/
-        String str1 = strs[0].substring(0, prefixLen);
-
+        /* The first prefixLen chars of strs[0] are the common prefix, no substring needed */
         for (int i = 1; i < strs.length; i++) {
-            if (!strs[i].startsWith(str1)) {
+            if (CommonPrefix.length(strs[0], strs[i], prefixLen) < prefixLen) {
                 return false;
             }
         }
@@ -278,6 +259,9 @@ public class FindingLongestCommonPrefix {
      * MAX is maximum number of characters in any string.
      * Please note that comparison of two strings would take at most O(MAX) time
      * and for sorting n strings, we would need O(MAX * n * log n ) time.
+     * The same idea applied to all the suffixes of one text (see SuffixArray)
+     * gives the longest repeated substring of the text: it is the longest
+     * common prefix of two suffixes next to each other in sorted order.
      * This is shown in the following code:
      *
      * @param strs
@@ -292,19 +276,134 @@ public class FindingLongestCommonPrefix {
         /* Sort array */
         Arrays.sort(strs);
 
-        /* Find minimum length from first and last string */
-        int minLen = Math.min(strs[0].length(), strs[strs.length-1].length());
-
         /* Find the common prefix between the first and last string */
-        int i = 0;
-        while (i < minLen && strs[0].charAt(i) == strs[strs.length-1].charAt(i)) {
-            i++;
-        }
+        int i = CommonPrefix.length(strs[0], strs[strs.length-1]);
 
         String longestPrefix = strs[0].substring(0, i);
         return longestPrefix;
     }
 
+    /**
+     * 8. The eighth solution use a compressed trie (see PrefixIndex)
+     * The solutions above scan all the strings again for every query.
+     * When the set of strings changes (route prefixes, SKU codes), we keep it
+     * in a PrefixIndex instead: insert() and remove() update it, and the longest
+     * common prefix of all the strings is the path from the root to the first
+     * node that ends a string or has more than one child.
+     * The index also answers the longest common prefix of a range of the sorted
+     * strings, or of the strings starting with a given prefix.
+     *
+     * Complexity Analysis
+     * •	Time complexity : O(L) per query, where L is the length of the common prefix
+     * (times the size of the alphabet to find a child), and O(m) to insert or remove
+     * a string of length m.
+     *
+     * •	Space complexity : O(n) nodes for n strings, plus their distinct chars.
+     * This is shown in the following code:
+     *
+     * @param index
+     * @return String
+     * */
+    public static String findingLongestCommonPrefixUsingIndex(PrefixIndex index) {
+        return index.longestCommonPrefix();
+    }
+
+    /**
+     * 9. The ninth solution is the parallel version of the second solution, for
+     * very large arrays (millions of strings)
+     * The second solution recurses on one thread and creates a substring at
+     * every level. Here the prefix is a length, the length of the prefix of the
+     * first string shared by all the others:
+     *
+     * a. The array is split on a ForkJoinPool (the common pool by default) into
+     * about 4 ranges per thread, each task only holds the (index, length) of its range
+     * b. Each range compares its strings with the first string (see CommonPrefix)
+     * c. The shortest length found so far is shared by all the tasks: the
+     * comparisons never go past it, and once it is 0 the remaining tasks return
+     * without looking at their strings
+     *
+     * Under PARALLEL_THRESHOLD strings the array is compared sequentially by the
+     * calling thread, and a single substring is created at the end
+     * This is shown in the following code:
+     *
+     * @param strs
+     * @return String
+     * */
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+    private static final int RANGES_PER_THREAD = 4;
+
+    public static String findingLongestCommonPrefixInParallel(String[] strs) {
+        return findingLongestCommonPrefixInParallel(strs, ForkJoinPool.commonPool());
+    }
+
+    public static String findingLongestCommonPrefixInParallel(String[] strs, ForkJoinPool pool) {
+        if (strs == null || strs.length == 0) return "";
+
+        char[] first = strs[0].toCharArray();
+        // Under PARALLEL_THRESHOLD the whole array is one leaf, which compute() compares without forking
+        int leafSize = strs.length < PARALLEL_THRESHOLD ? strs.length
+                : Math.max(PARALLEL_THRESHOLD / RANGES_PER_THREAD, strs.length / (pool.getParallelism() * RANGES_PER_THREAD) + 1);
+        PrefixTask task = new PrefixTask(strs, first, new AtomicInteger(first.length), 1, strs.length - 1, leafSize);
+
+        int prefixLen = strs.length < PARALLEL_THRESHOLD ? task.compute() : pool.invoke(task);
+        return strs[0].substring(0, prefixLen);
+    }
+
+    /* Shortens the shared prefix length to the strings of the range [index, index + length) */
+    private static final class PrefixTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] strs;
+        private final char[] first;
+        private final AtomicInteger prefixLen;
+        private final int index;
+        private final int length;
+        private final int leafSize;
+
+        PrefixTask(String[] strs, char[] first, AtomicInteger prefixLen, int index, int length, int leafSize) {
+            this.strs = strs;
+            this.first = first;
+            this.prefixLen = prefixLen;
+            this.index = index;
+            this.length = length;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (prefixLen.get() == 0) {
+                return 0;
+            }
+            if (length <= leafSize) {
+                return compareRange();
+            }
+
+            int half = length >>> 1;
+            PrefixTask left = new PrefixTask(strs, first, prefixLen, index, half, leafSize);
+            PrefixTask right = new PrefixTask(strs, first, prefixLen, index + half, length - half, leafSize);
+
+            left.fork();
+            int rightLen = right.compute();
+            return Math.min(left.join(), rightLen);
+        }
+
+        private int compareRange() {
+            int len = prefixLen.get();
+
+            for (int i = index; i < index + length && len > 0; i++) {
+                int found = CommonPrefix.length(first, 0, strs[i], len);
+                if (found < len) {
+                    len = prefixLen.accumulateAndGet(found, Math::min);
+                } else {
+                    // Another task may have shortened it meanwhile
+                    len = prefixLen.get();
+                }
+            }
+
+            return len;
+        }
+    }
+
     public static void main(String[] args) {
         FindingLongestCommonPrefix solution = new FindingLongestCommonPrefix();
         String[] texts = {"abc", "abcd", "abcde", "ab", "abcd", "abcdef"};
@@ -328,6 +427,16 @@ public class FindingLongestCommonPrefix {
         System.out.println(solution.findingLongestCommonPrefixUsingBinarySearch(texts));
 
         // C7
-        System.out.println(solution.findingLongestCommonPrefixUsingSorting(texts));
+        System.out.println(solution.findingLongestCommonPrefixUsingSorting(texts.clone()));
+
+        // C8
+        PrefixIndex index = PrefixIndex.of(texts);
+        System.out.println(solution.findingLongestCommonPrefixUsingIndex(index));
+        index.remove("ab");
+        System.out.println(solution.findingLongestCommonPrefixUsingIndex(index));
+        System.out.println(index.longestCommonPrefix(1, 3) + " " + index.keysWithPrefix("abcd"));
+
+        // C9
+        System.out.println(solution.findingLongestCommonPrefixInParallel(texts));
     }
 }
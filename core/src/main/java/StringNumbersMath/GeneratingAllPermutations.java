@@ -2,7 +2,9 @@ package StringNumbersMath;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class GeneratingAllPermutations {
 
@@ -11,7 +13,7 @@ public class GeneratingAllPermutations {
      * MUST READ PROBLEM
      * 10. Generating All Permutations
      *
-     * SOLUTIONS: There are 3 solutions to this problem
+     * SOLUTIONS: There are 5 solutions to this problem
      *
      * Problems that involve permutations commonly involve recursivity as well.
      * Basically, recursivity is defined as a process where some initial state is given
@@ -128,6 +130,50 @@ public class GeneratingAllPermutations {
         }
     }
 
+    /**
+     * 4. The fourth solution is iterative and lazy (see Permutations)
+     * The solutions above build new strings at every level of the recursion, and
+     * the second one keeps all the n! permutations in memory. Here the chars are
+     * sorted, then each permutation is rearranged into the next one in
+     * lexicographic order, in place, in a single char[]:
+     *
+     * a. permuteAndPrintIteratively() prints them without creating any String
+     * b. permuteLazily() returns a Stream, a String is only created when the
+     * stream pulls the next permutation, so limit() or findFirst() stop the generation
+     *
+     * Repeated chars are handled without a Set: AAB gives AAB, ABA, BAA
+     * The code for this solution is as follows:
+     *
+     * @param str
+     * */
+    public static void permuteAndPrintIteratively(String str) {
+        Permutations.of(str).forEach(System.out::println);
+    }
+
+    public static Stream<String> permuteLazily(String str) {
+        return Permutations.of(str).stream();
+    }
+
+    /**
+     * 5. The fifth solution is the parallel version of the fourth solution
+     * The third solution starts a parallel IntStream at every level of the
+     * recursion, which creates n + n(n - 1) + ... small tasks, and prints in
+     * no particular order. Here the permutations are numbered by their rank in
+     * lexicographic order (0 to n! - 1), and the stream splits this range of
+     * ranks in halves: each half starts at the permutation of its first rank
+     * (unrank), then steps in place like the fourth solution.
+     * The halves are balanced, and the stream keeps the lexicographic order.
+     *
+     * rank() and unrank() also let a job be sharded across processes: each
+     * one processes Permutations.of(str).stream(fromRank, toRank)
+     * The code for this solution is as follows:
+     *
+     * @param str
+     * */
+    public static Stream<String> permuteInParallel(String str) {
+        return Permutations.of(str).parallelStream();
+    }
+
     public static void main(String[] args) {
         GeneratingAllPermutations permutations = new GeneratingAllPermutations();
 
@@ -142,5 +188,17 @@ public class GeneratingAllPermutations {
 
         // C3
         permutations.permuteAndPrintStream("ABC");
+        System.out.println("=====================");
+
+        // C4
+        permutations.permuteAndPrintIteratively("AAB");
+        System.out.println(permutations.permuteLazily("ABCDEFGHIJKLMNOP").skip(1_000_000).findFirst().get());
+        System.out.println("=====================");
+
+        // C5
+        System.out.println(permutations.permuteInParallel("ABCD").collect(Collectors.joining(" ")));
+        Permutations abcd = Permutations.of("ABCD");
+        System.out.println(abcd.rank("BDCA") + " " + abcd.unrank(abcd.rank("BDCA")));
+        System.out.println(abcd.stream(12, 18).collect(Collectors.joining(" ")));
     }
 }
\ No newline at end of file
@@ -0,0 +1,247 @@
+package StringNumbersMath;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public final class Joiner {
+
+    /**
+     * Joins strings with a delimiter, to a String or straight to bytes
+     *
+     * A StringBuilder of the default capacity is copied every time it grows, and
+     * the joined String is built even when it is only written to a file:
+     *
+     * a. To a String: the parts are collected in a String[] and given to
+     * String.join(), which sums their lengths first, allocates the exact result
+     * once and copies the bytes of each part (one byte per char when all the
+     * parts are Latin-1)
+     * b. To bytes: the parts are taken by batches of 256 parts or about 8 K
+     * chars, each batch is joined by String.join() the same way and encoded
+     * by String.getBytes(UTF_8), which checks a Latin-1 batch for non-ASCII
+     * bytes with a vectorized loop and copies it at once. A CSV file or a log
+     * record is written to a ByteBuffer or an OutputStream batch by batch and
+     * never exists as a whole String
+     * c. To a ByteBuffer: the position is restored when the bytes do not fit
+     * (BufferOverflowException), encodedLength() tells the size to allocate
+     *
+     * Encoding each part char by char is slower than this for short words: the
+     * loop ends at a different length each time, and the branch is mispredicted.
+     * An unpaired surrogate is encoded as ?, like String.getBytes() does, and a
+     * pair split between two parts, or a part and the delimiter, is still a pair.
+     * Arrays, Iterables and Streams of parts are accepted, the Streams are only
+     * read once. An instance is immutable.
+     * */
+    private static final int BLOCK = 8192; // chars of a batch
+    private static final int BATCH = 256; // parts joined at once
+
+    private final String delimiter;
+    private final byte[] delimiterBytes;
+
+    private Joiner(String delimiter) {
+        this.delimiter = delimiter;
+        this.delimiterBytes = delimiter.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static Joiner on(CharSequence delimiter) {
+        return new Joiner(delimiter.toString());
+    }
+
+    public static Joiner on(char delimiter) {
+        return new Joiner(String.valueOf(delimiter));
+    }
+
+    public String join(CharSequence... parts) {
+        return String.join(delimiter, parts);
+    }
+
+    public String join(Iterable<? extends CharSequence> parts) {
+        return String.join(delimiter, toArray(parts));
+    }
+
+    public String join(Stream<? extends CharSequence> parts) {
+        return String.join(delimiter, parts.map(CharSequence::toString).toArray(String[]::new));
+    }
+
+    /* The number of chars of the joined string */
+    public long length(Iterable<? extends CharSequence> parts) {
+        long length = 0;
+        int count = 0;
+        for (CharSequence part : parts) {
+            length += part.length();
+            count++;
+        }
+        return count == 0 ? 0 : length + (long) (count - 1) * delimiter.length();
+    }
+
+    /* The number of UTF-8 bytes of the joined string */
+    public long encodedLength(Iterable<? extends CharSequence> parts) {
+        long length = 0;
+        int count = 0;
+        boolean high = false; // the chars so far end with a high surrogate
+        for (CharSequence part : parts) {
+            if (count++ > 0 && !delimiter.isEmpty()) {
+                length += delimiterBytes.length + pairedLength(high, delimiter);
+                high = endsWithHighSurrogate(delimiter);
+            }
+            if (part.length() > 0) {
+                length += utf8Length(part) + pairedLength(high, part);
+                high = endsWithHighSurrogate(part);
+            }
+        }
+        return length;
+    }
+
+    public ByteBuffer joinTo(ByteBuffer out, CharSequence... parts) {
+        return joinTo(out, Arrays.asList(parts));
+    }
+
+    /* Writes the UTF-8 bytes of the joined string at the position of out, which is left unchanged if they do not fit */
+    public ByteBuffer joinTo(ByteBuffer out, Iterable<? extends CharSequence> parts) {
+        int position = out.position();
+        try {
+            writeParts(new Utf8Sink(out), parts);
+        } catch (BufferOverflowException e) {
+            out.position(position);
+            throw e;
+        }
+        return out;
+    }
+
+    public ByteBuffer joinTo(ByteBuffer out, Stream<? extends CharSequence> parts) {
+        Iterable<CharSequence> once = parts.<CharSequence>map(part -> part)::iterator;
+        return joinTo(out, once);
+    }
+
+    public long joinTo(OutputStream out, CharSequence... parts) throws IOException {
+        return joinTo(out, Arrays.asList(parts));
+    }
+
+    /* Writes the UTF-8 bytes of the joined string, returns their number */
+    public long joinTo(OutputStream out, Iterable<? extends CharSequence> parts) throws IOException {
+        Utf8Sink sink = new Utf8Sink(out);
+        try {
+            writeParts(sink, parts);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return sink.written;
+    }
+
+    public long joinTo(OutputStream out, Stream<? extends CharSequence> parts) throws IOException {
+        Iterable<CharSequence> once = parts.<CharSequence>map(part -> part)::iterator;
+        return joinTo(out, once);
+    }
+
+    /* Joins the parts by batches of about BLOCK chars, each batch is encoded at once */
+    private void writeParts(Utf8Sink sink, Iterable<? extends CharSequence> parts) {
+        CharSequence[] batch = new CharSequence[BATCH];
+        int count = 0;
+        int chars = 0;
+
+        String carry = "";
+
+        for (CharSequence part : parts) {
+            if (count == BATCH || chars >= BLOCK) {
+                // The delimiter before the next part ends the batch
+                String joined = carry
+                        + String.join(delimiter, count == BATCH ? batch : Arrays.copyOf(batch, count))
+                        + delimiter;
+                count = 0;
+                chars = 0;
+
+                // A surrogate pair may be split between two batches (by a part or by the
+                // delimiter): the high surrogate is encoded with the next batch
+                int end = joined.length() - 1;
+                boolean split = end >= 0 && Character.isHighSurrogate(joined.charAt(end));
+                carry = split ? joined.substring(end) : "";
+                sink.write((split ? joined.substring(0, end) : joined).getBytes(StandardCharsets.UTF_8));
+            }
+            batch[count++] = part;
+            chars += part.length();
+        }
+
+        if (count > 0) {
+            sink.write((carry + String.join(delimiter, Arrays.copyOf(batch, count))).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String[] toArray(Iterable<? extends CharSequence> parts) {
+        List<String> strs = parts instanceof Collection
+                ? new ArrayList<>(((Collection<?>) parts).size())
+                : new ArrayList<>();
+        for (CharSequence part : parts) {
+            strs.add(part.toString());
+        }
+        return strs.toArray(new String[0]);
+    }
+
+    /* 2 more bytes when a high surrogate before s pairs with its first char: two ? of 1 byte make 4 bytes */
+    private static int pairedLength(boolean high, CharSequence s) {
+        return high && s.length() > 0 && Character.isLowSurrogate(s.charAt(0)) ? 2 : 0;
+    }
+
+    private static boolean endsWithHighSurrogate(CharSequence s) {
+        int n = s.length();
+        return n > 0 && Character.isHighSurrogate(s.charAt(n - 1));
+    }
+
+    /* UTF-8 length of s, an unpaired surrogate is one byte (?) */
+    private static long utf8Length(CharSequence s) {
+        int n = s.length();
+        long length = n;
+
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    length++;
+                } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    length += 2; // 4 bytes for 2 chars
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    length += 2;
+                }
+            }
+        }
+        return length;
+    }
+
+    /* Sends the bytes to a ByteBuffer or an OutputStream */
+    private static final class Utf8Sink {
+        private final ByteBuffer buffer;
+        private final OutputStream stream;
+        private long written;
+
+        Utf8Sink(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.stream = null;
+        }
+
+        Utf8Sink(OutputStream stream) {
+            this.buffer = null;
+            this.stream = stream;
+        }
+
+        void write(byte[] bytes) {
+            if (buffer != null) {
+                buffer.put(bytes);
+            } else {
+                try {
+                    stream.write(bytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            written += bytes.length;
+        }
+    }
+}
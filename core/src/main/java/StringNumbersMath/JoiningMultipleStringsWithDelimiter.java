@@ -1,5 +1,8 @@
 package StringNumbersMath;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.StringJoiner;
 import java.util.stream.Collectors;
@@ -10,7 +13,7 @@ public class JoiningMultipleStringsWithDelimiter {
      * String Manipulation
      * 9. Joining Multiple Strings With Delimiter
      *
-     * SOLUTIONS: There are 5 solutions to this problem
+     * SOLUTIONS: There are 6 solutions to this problem
      *
      * Note that:
      * Pay attention to concatenating strings via the += operator, and the concat() and String.format()
@@ -128,7 +131,31 @@ public class JoiningMultipleStringsWithDelimiter {
                      .collect(Collectors.joining(String.valueOf(delimiter)));
     }
 
-    public static void main(String[] args) {
+    /**
+     * 6. The sixth solution writes the joined string without building it (see Joiner)
+     * The first two solutions grow a StringBuilder of the default capacity,
+     * and the first one trims the trailing delimiter with two more copies. All
+     * of them build a String, even when it is only written to a file or a socket
+     * A Joiner gives the parts to String.join(), which sums their lengths first:
+     *
+     * a. A String is allocated once at its final length
+     * b. The UTF-8 bytes go to a ByteBuffer or to an OutputStream by batches of
+     * about 8 K chars, so the whole joined string never exists
+     * This is shown in the following code:
+     *
+     * @param delimiter
+     * @param args
+     * @return ByteBuffer / long
+     * */
+    public static ByteBuffer joinByDelimiterToBuffer(char delimiter, ByteBuffer out, String...args) {
+        return Joiner.on(delimiter).joinTo(out, args);
+    }
+
+    public static long joinByDelimiterToStream(char delimiter, OutputStream out, String...args) throws IOException {
+        return Joiner.on(delimiter).joinTo(out, args);
+    }
+
+    public static void main(String[] args) throws IOException {
         JoiningMultipleStringsWithDelimiter solution = new JoiningMultipleStringsWithDelimiter();
 
         // C1
@@ -145,5 +172,10 @@ public class JoiningMultipleStringsWithDelimiter {
 
         // C5
         System.out.println(solution.joinByDelimiterUsingCollectorJoining(',', new String[]{"Java ", "is ", "cool"}));
+
+        // C6
+        ByteBuffer buffer = solution.joinByDelimiterToBuffer(',', ByteBuffer.allocate(64), new String[]{"Java ", "is ", "cool"});
+        System.out.println(buffer.position());
+        solution.joinByDelimiterToStream(',', System.out, new String[]{"Java ", "is ", "cool\n"});
     }
 }
@@ -0,0 +1,141 @@
+package StringNumbersMath;
+
+import java.util.Objects;
+
+public final class Manacher {
+
+    /**
+     * Manacher's algorithm: the longest palindrome centered at every position
+     * of a string, in linear time
+     *
+     * Checking every substring with isPalindrome() is cubic. Instead, for each
+     * center, the radius of the longest palindrome around it is computed, and
+     * all the palindromes of the string follow from these radii:
+     *
+     * a. The centers are scanned from left to right, keeping the palindrome
+     * [left, right) that reaches the furthest to the right
+     * b. A center inside it starts from the radius of its mirror center, since
+     * the palindrome reflects the left half on the right half, and is only
+     * extended char by char beyond right, which moves right forward
+     * c. right only moves forward, so the extensions cost O(n) in total
+     *
+     * odd radius r at i: s[i - r + 1, i + r) is the longest palindrome of odd
+     * length centered at i, so r palindromes are centered there (r >= 1)
+     * even radius r at i: s[i - r, i + r) is the longest palindrome of even
+     * length centered between i - 1 and i (r >= 0)
+     *
+     * The positions are the ones of the code points (like Palindromes, a
+     * surrogate pair is one symbol), so they are char indexes on BMP text.
+     * The radii are computed once by of(), an instance is immutable.
+     * */
+    private final int[] codePoints;
+    private final int[] odd;
+    private final int[] even;
+
+    private Manacher(int[] codePoints) {
+        this.codePoints = codePoints;
+        this.odd = new int[codePoints.length];
+        this.even = new int[codePoints.length];
+        computeOdd();
+        computeEven();
+    }
+
+    public static Manacher of(CharSequence s) {
+        return new Manacher(s.codePoints().toArray());
+    }
+
+    /* Number of code points */
+    public int length() {
+        return codePoints.length;
+    }
+
+    public int oddRadius(int center) {
+        return odd[center];
+    }
+
+    public int evenRadius(int center) {
+        return even[center];
+    }
+
+    public int[] oddRadii() {
+        return odd.clone();
+    }
+
+    public int[] evenRadii() {
+        return even.clone();
+    }
+
+    /* Whether the code points [from, to) are a palindrome, in O(1) */
+    public boolean isPalindrome(int from, int to) {
+        Objects.checkFromToIndex(from, to, codePoints.length);
+        int half = (to - from) / 2;
+
+        if (from == to) {
+            return true;
+        }
+        return (to - from) % 2 == 1 ? odd[from + half] > half : even[from + half] >= half;
+    }
+
+    /* Number of palindromic substrings, counted once per position (aaa has 6) */
+    public long countPalindromicSubstrings() {
+        long count = 0;
+        for (int i = 0; i < codePoints.length; i++) {
+            count += odd[i] + even[i];
+        }
+        return count;
+    }
+
+    /* The leftmost longest palindromic substring */
+    public String longestPalindromicSubstring() {
+        int start = 0;
+        int length = 0;
+
+        for (int i = 0; i < codePoints.length; i++) {
+            if (2 * odd[i] - 1 > length) {
+                length = 2 * odd[i] - 1;
+                start = i - odd[i] + 1;
+            }
+            if (2 * even[i] > length) {
+                length = 2 * even[i];
+                start = i - even[i];
+            }
+        }
+
+        return new String(codePoints, start, length);
+    }
+
+    private void computeOdd() {
+        int n = codePoints.length;
+
+        for (int i = 0, left = 0, right = 0; i < n; i++) {
+            // [left, right) is the palindrome ending the furthest to the right
+            int r = i < right ? Math.min(odd[left + right - 1 - i], right - i) : 1;
+            while (i - r >= 0 && i + r < n && codePoints[i - r] == codePoints[i + r]) {
+                r++;
+            }
+
+            odd[i] = r;
+            if (i + r > right) {
+                left = i - r + 1;
+                right = i + r;
+            }
+        }
+    }
+
+    private void computeEven() {
+        int n = codePoints.length;
+
+        for (int i = 0, left = 0, right = 0; i < n; i++) {
+            int r = i < right ? Math.min(even[left + right - i], right - i) : 0;
+            while (i - r - 1 >= 0 && i + r < n && codePoints[i - r - 1] == codePoints[i + r]) {
+                r++;
+            }
+
+            even[i] = r;
+            if (i + r > right) {
+                left = i - r;
+                right = i + r;
+            }
+        }
+    }
+}
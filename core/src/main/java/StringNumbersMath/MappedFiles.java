@@ -0,0 +1,139 @@
+package StringNumbersMath;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+final class MappedFiles {
+
+    /**
+     * Scanning files that do not fit in the heap
+     *
+     * The counting problems take a String, which means reading the whole file in
+     * the heap first (twice its size in UTF-16). Here the file is memory-mapped
+     * with FileChannel.map() instead, and scanned in parallel regions:
+     *
+     * a. The file is cut in regions of 1 MB to 64 MB (about 4 per thread of the
+     * common pool), each mapped on its own, since a mapping cannot exceed 2 GB
+     * b. Each region is mapped with the first overlap bytes of the next one, so a
+     * match (or a UTF-8 sequence) that starts in the region and ends in the next
+     * one is still seen by the region where it starts
+     * c. The regions are scanned in parallel and their results are returned in
+     * file order, for the caller to combine
+     *
+     * The bytes are never copied into a String. The files are read as UTF-8
+     * (ASCII included), malformed bytes are decoded as U+FFFD.
+     * */
+    private static final int MIN_REGION_SIZE = 1 << 20;
+    private static final int MAX_REGION_SIZE = 1 << 26;
+
+    /* A UTF-8 sequence has at most 3 continuation bytes */
+    static final int UTF8_OVERLAP = 3;
+
+    private static final int REGIONS_PER_THREAD = 4;
+    private static final int CHUNK = 16 * 1024;
+
+    private MappedFiles() {
+    }
+
+    /* Scans one region: its first length bytes, followed by up to overlap bytes of the next region */
+    @FunctionalInterface
+    interface RegionScanner<R> {
+        R scan(ByteBuffer region, long start, int length);
+    }
+
+    static <R> List<R> scan(Path file, int overlap, RegionScanner<R> scanner) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long regionSize = regionSize(size);
+            int regions = (int) ((size + regionSize - 1) / regionSize);
+
+            return IntStream.range(0, regions)
+                    .parallel()
+                    .mapToObj(region -> {
+                        long start = region * regionSize;
+                        int length = (int) Math.min(regionSize, size - start);
+                        return scanner.scan(map(channel, start, length, overlap), start, length);
+                    })
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /* Scans a single range of the file, sequentially */
+    static <R> R scan(Path file, long start, int length, int overlap, RegionScanner<R> scanner) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return scanner.scan(map(channel, start, length, overlap), start, length);
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, long start, int length, int overlap) {
+        try {
+            long mapped = Math.min((long) length + overlap, channel.size() - start);
+            return channel.map(FileChannel.MapMode.READ_ONLY, start, mapped);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long regionSize(long size) {
+        long perThread = size / ((long) ForkJoinPool.getCommonPoolParallelism() * REGIONS_PER_THREAD);
+        return Math.max(MIN_REGION_SIZE, Math.min(MAX_REGION_SIZE, perThread));
+    }
+
+    /**
+     * Decodes the UTF-8 sequences that start in the first length bytes of the
+     * region and adds their chars to an int[] histogram (see CharacterHistogram),
+     * which is returned, possibly widened
+     * The continuation bytes at the start of a region (but the first) belong to
+     * the sequence started by the previous region, so they are skipped here;
+     * the last sequence is completed with the bytes of the overlap
+     * */
+    static int[] histogram(ByteBuffer region, long start, int length, int[] histogram) {
+        int from = 0;
+        if (start > 0) {
+            while (from < Math.min(length, UTF8_OVERLAP) && isContinuation(region.get(from))) {
+                from++;
+            }
+        }
+
+        int to = length;
+        while (to < Math.min(region.limit(), length + UTF8_OVERLAP) && isContinuation(region.get(to))) {
+            to++;
+        }
+
+        region.position(from).limit(to);
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        char[] chunk = new char[CHUNK];
+        CharBuffer decoded = CharBuffer.wrap(chunk);
+
+        CoderResult result;
+        do {
+            result = decoder.decode(region, decoded, true);
+            histogram = CharacterHistogram.accumulate(chunk, 0, decoded.position(), histogram);
+            decoded.clear();
+        } while (result.isOverflow());
+
+        decoder.flush(decoded);
+        return CharacterHistogram.accumulate(chunk, 0, decoded.position(), histogram);
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+}
@@ -0,0 +1,533 @@
+package StringNumbersMath;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public final class Needle {
+
+    /**
+     * A precompiled substring (the needle) to search in many texts (the haystacks)
+     *
+     * Everything that depends on the needle only is computed once by compile():
+     * the Horspool shift tables and the Two-Way critical factorization, for the
+     * chars of the needle and for its UTF-8 bytes (used on ByteBuffer haystacks).
+     *
+     * a. Short needles (up to 3 symbols) rarely give a shift longer than 1, so the
+     * search jumps from one occurrence of the first symbol to the next and checks
+     * the rest. On a ByteBuffer the jump is a SWAR scan testing 8 bytes per step.
+     * On a String the jump is String.indexOf(char), which the JVM vectorizes, and
+     * it beats the shifts of Horspool for every needle length
+     * b. Longer needles on other texts use Boyer-Moore-Horspool: the last symbol of the window
+     * tells how far the window can slide (the table is indexed by the low byte of
+     * a char, a collision only gives a shorter, still safe, shift)
+     * c. Both are fast on real text but quadratic on periodic inputs
+     * (aaa...a in aaa...aaa), so they count the symbols they compare and switch
+     * to Two-Way as soon as this goes over a linear budget. Two-Way is linear
+     * in the worst case and uses constant extra memory
+     *
+     * The instances are immutable and can be shared by threads.
+     * count() does not count overlapping occurrences (11 in 111 occurs 1 time),
+     * countOverlapping() does (11 in 111 occurs 2 times). An empty needle is
+     * found at every index but never counted.
+     * */
+    private static final int FILTER_MAX_LENGTH = 3;
+    private static final int SHIFTS = 256;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+
+    private final String pattern;
+
+    private final char[] chars;
+    private final int[] charShifts;
+    private final Factorization charFactorization;
+
+    private final byte[] bytes;
+    private final int[] byteShifts;
+    private final Factorization byteFactorization;
+
+    /* Two-Way parameters: the needle is split at suffix, and slides by period after a match of its right part */
+    private static final class Factorization {
+        final int suffix;
+        final int period;
+        final boolean periodic;
+
+        Factorization(int[] x) {
+            int m = x.length;
+
+            // Maximal suffix for the natural order, then for the reversed order
+            int maxSuffix = -1;
+            int period = 1;
+            for (int j = 0, k = 1; j + k < m; ) {
+                int a = x[j + k];
+                int b = x[maxSuffix + k];
+                if (a < b) {
+                    j += k;
+                    k = 1;
+                    period = j - maxSuffix;
+                } else if (a == b) {
+                    if (k != period) {
+                        k++;
+                    } else {
+                        j += period;
+                        k = 1;
+                    }
+                } else {
+                    maxSuffix = j++;
+                    k = period = 1;
+                }
+            }
+
+            int maxSuffixReversed = -1;
+            int periodReversed = 1;
+            for (int j = 0, k = 1; j + k < m; ) {
+                int a = x[j + k];
+                int b = x[maxSuffixReversed + k];
+                if (b < a) {
+                    j += k;
+                    k = 1;
+                    periodReversed = j - maxSuffixReversed;
+                } else if (a == b) {
+                    if (k != periodReversed) {
+                        k++;
+                    } else {
+                        j += periodReversed;
+                        k = 1;
+                    }
+                } else {
+                    maxSuffixReversed = j++;
+                    k = periodReversed = 1;
+                }
+            }
+
+            // The later of the two is a critical factorization
+            int suffix = Math.max(maxSuffix, maxSuffixReversed) + 1;
+            period = maxSuffixReversed < maxSuffix ? period : periodReversed;
+
+            // Is the left part repeated one period later ?
+            boolean periodic = suffix + period <= m;
+            for (int i = 0; periodic && i < suffix; i++) {
+                periodic = x[i] == x[i + period];
+            }
+
+            this.suffix = suffix;
+            this.period = periodic ? period : Math.max(suffix, m - suffix) + 1;
+            this.periodic = periodic;
+        }
+    }
+
+    private Needle(String pattern) {
+        this.pattern = pattern;
+
+        this.chars = pattern.toCharArray();
+        int[] symbols = new int[chars.length];
+        for (int i = 0; i < chars.length; i++) {
+            symbols[i] = chars[i];
+        }
+        this.charShifts = shifts(symbols);
+        this.charFactorization = new Factorization(symbols);
+
+        this.bytes = pattern.getBytes(StandardCharsets.UTF_8);
+        symbols = new int[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            symbols[i] = bytes[i] & 0xFF;
+        }
+        this.byteShifts = shifts(symbols);
+        this.byteFactorization = new Factorization(symbols);
+    }
+
+    public static Needle compile(String pattern) {
+        return new Needle(pattern);
+    }
+
+    public String pattern() {
+        return pattern;
+    }
+
+    /* Length of the needle in UTF-8, as searched in a ByteBuffer */
+    public int byteLength() {
+        return bytes.length;
+    }
+
+    // String and any other CharSequence
+
+    public boolean contains(CharSequence text) {
+        return indexOf(text, 0) >= 0;
+    }
+
+    public int indexOf(CharSequence text) {
+        return indexOf(text, 0);
+    }
+
+    public int indexOf(CharSequence text, int fromIndex) {
+        int n = text.length();
+        int m = chars.length;
+        int from = Math.max(fromIndex, 0);
+
+        if (m == 0) {
+            return from <= n ? from : -1;
+        }
+        if (from > n - m) {
+            return -1;
+        }
+
+        return m <= FILTER_MAX_LENGTH || text instanceof String ? filterSearch(text, from, n) : horspool(text, from, n);
+    }
+
+    public int count(CharSequence text) {
+        return count(text, chars.length);
+    }
+
+    public int countOverlapping(CharSequence text) {
+        return count(text, 1);
+    }
+
+    private int count(CharSequence text, int step) {
+        if (chars.length == 0) {
+            return 0;
+        }
+
+        int count = 0;
+        for (int i = indexOf(text, 0); i >= 0; i = indexOf(text, i + step)) {
+            count++;
+        }
+
+        return count;
+    }
+
+    // A range of a char[], the returned indexes are array indexes
+
+    public boolean contains(char[] chs, int offset, int length) {
+        return indexOf(chs, offset, length) >= 0;
+    }
+
+    public int indexOf(char[] chs, int offset, int length) {
+        int i = indexOf(CharBuffer.wrap(chs, offset, length), 0);
+        return i < 0 ? -1 : offset + i;
+    }
+
+    public int count(char[] chs, int offset, int length) {
+        return count(CharBuffer.wrap(chs, offset, length));
+    }
+
+    public int countOverlapping(char[] chs, int offset, int length) {
+        return countOverlapping(CharBuffer.wrap(chs, offset, length));
+    }
+
+    // The remaining bytes of a UTF-8 (or ASCII) ByteBuffer
+
+    /* Absolute index of the first occurrence at or after the position, the position is not moved */
+    public int indexOf(ByteBuffer buffer) {
+        return indexOf(buffer, buffer.position());
+    }
+
+    public boolean contains(ByteBuffer buffer) {
+        return indexOf(buffer) >= 0;
+    }
+
+    public int count(ByteBuffer buffer) {
+        return count(buffer, bytes.length);
+    }
+
+    public int countOverlapping(ByteBuffer buffer) {
+        return count(buffer, 1);
+    }
+
+    private int count(ByteBuffer buffer, int step) {
+        if (bytes.length == 0) {
+            return 0;
+        }
+
+        int count = 0;
+        for (int i = indexOf(buffer, buffer.position()); i >= 0; i = indexOf(buffer, i + step)) {
+            count++;
+        }
+
+        return count;
+    }
+
+    /* Absolute index of the first occurrence at or after fromIndex, up to the limit */
+    public int indexOf(ByteBuffer buffer, int fromIndex) {
+        int n = buffer.limit();
+        int from = Math.max(fromIndex, buffer.position());
+        int m = bytes.length;
+
+        if (m == 0) {
+            return from <= n ? from : -1;
+        }
+        if (from > n - m) {
+            return -1;
+        }
+
+        return m <= FILTER_MAX_LENGTH ? filterSearch(buffer, from, n) : horspool(buffer, from, n);
+    }
+
+    // Search engines
+
+    /* The work allowed to the sublinear engines before falling back to Two-Way */
+    private static boolean overBudget(long work, int scanned, int m) {
+        return work > 2L * scanned + 4L * m;
+    }
+
+    private int filterSearch(CharSequence text, int from, int n) {
+        int m = chars.length;
+        char first = chars[0];
+        long work = 0;
+
+        for (int i = from; ; i++) {
+            if (text instanceof String) {
+                i = ((String) text).indexOf(first, i);
+            } else {
+                while (i < n && text.charAt(i) != first) {
+                    i++;
+                }
+            }
+            if (i < 0 || i > n - m) {
+                return -1;
+            }
+
+            int j = 1;
+            while (j < m && text.charAt(i + j) == chars[j]) {
+                j++;
+            }
+            if (j == m) {
+                return i;
+            }
+
+            work += j;
+            if (overBudget(work, i - from, m)) {
+                return twoWay(text, i, n);
+            }
+        }
+    }
+
+    private int horspool(CharSequence text, int from, int n) {
+        int m = chars.length;
+        char last = chars[m - 1];
+        long work = 0;
+
+        for (int i = from; i <= n - m; ) {
+            char ch = text.charAt(i + m - 1);
+
+            if (ch == last) {
+                int j = 0;
+                while (j < m - 1 && text.charAt(i + j) == chars[j]) {
+                    j++;
+                }
+                if (j == m - 1) {
+                    return i;
+                }
+
+                work += j + 1;
+                if (overBudget(work, i - from, m)) {
+                    return twoWay(text, i, n);
+                }
+            }
+
+            i += charShifts[ch & 0xFF];
+        }
+
+        return -1;
+    }
+
+    private int twoWay(CharSequence text, int from, int n) {
+        int m = chars.length;
+        int suffix = charFactorization.suffix;
+        int period = charFactorization.period;
+
+        if (charFactorization.periodic) {
+            // After a match of the right part, the first m - period symbols are known to match
+            int memory = 0;
+            for (int j = from; j <= n - m; ) {
+                int i = Math.max(suffix, memory);
+                while (i < m && chars[i] == text.charAt(i + j)) {
+                    i++;
+                }
+
+                if (i < m) {
+                    j += i - suffix + 1;
+                    memory = 0;
+                } else {
+                    i = suffix - 1;
+                    while (i >= memory && chars[i] == text.charAt(i + j)) {
+                        i--;
+                    }
+                    if (i < memory) {
+                        return j;
+                    }
+                    j += period;
+                    memory = m - period;
+                }
+            }
+        } else {
+            for (int j = from; j <= n - m; ) {
+                int i = suffix;
+                while (i < m && chars[i] == text.charAt(i + j)) {
+                    i++;
+                }
+
+                if (i < m) {
+                    j += i - suffix + 1;
+                } else {
+                    i = suffix - 1;
+                    while (i >= 0 && chars[i] == text.charAt(i + j)) {
+                        i--;
+                    }
+                    if (i < 0) {
+                        return j;
+                    }
+                    j += period;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    private int filterSearch(ByteBuffer buffer, int from, int n) {
+        int m = bytes.length;
+        long work = 0;
+
+        for (int i = from; ; i++) {
+            i = findByte(buffer, i, n - m + 1, bytes[0]);
+            if (i < 0) {
+                return -1;
+            }
+
+            int j = 1;
+            while (j < m && buffer.get(i + j) == bytes[j]) {
+                j++;
+            }
+            if (j == m) {
+                return i;
+            }
+
+            work += j;
+            if (overBudget(work, i - from, m)) {
+                return twoWay(buffer, i, n);
+            }
+        }
+    }
+
+    /* SWAR: XOR 8 bytes with the searched byte, then find the first zero byte of the word */
+    private static int findByte(ByteBuffer buffer, int from, int to, byte b) {
+        long pattern = ONES * (b & 0xFF);
+        int i = from;
+
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long word = (long) LONGS.get(buffer, i) ^ pattern;
+            long found = (word - ONES) & ~word & HIGHS;
+            if (found != 0) {
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (buffer.get(i) == b) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private int horspool(ByteBuffer buffer, int from, int n) {
+        int m = bytes.length;
+        byte last = bytes[m - 1];
+        long work = 0;
+
+        for (int i = from; i <= n - m; ) {
+            byte b = buffer.get(i + m - 1);
+
+            if (b == last) {
+                int j = 0;
+                while (j < m - 1 && buffer.get(i + j) == bytes[j]) {
+                    j++;
+                }
+                if (j == m - 1) {
+                    return i;
+                }
+
+                work += j + 1;
+                if (overBudget(work, i - from, m)) {
+                    return twoWay(buffer, i, n);
+                }
+            }
+
+            i += byteShifts[b & 0xFF];
+        }
+
+        return -1;
+    }
+
+    private int twoWay(ByteBuffer buffer, int from, int n) {
+        int m = bytes.length;
+        int suffix = byteFactorization.suffix;
+        int period = byteFactorization.period;
+
+        if (byteFactorization.periodic) {
+            int memory = 0;
+            for (int j = from; j <= n - m; ) {
+                int i = Math.max(suffix, memory);
+                while (i < m && bytes[i] == buffer.get(i + j)) {
+                    i++;
+                }
+
+                if (i < m) {
+                    j += i - suffix + 1;
+                    memory = 0;
+                } else {
+                    i = suffix - 1;
+                    while (i >= memory && bytes[i] == buffer.get(i + j)) {
+                        i--;
+                    }
+                    if (i < memory) {
+                        return j;
+                    }
+                    j += period;
+                    memory = m - period;
+                }
+            }
+        } else {
+            for (int j = from; j <= n - m; ) {
+                int i = suffix;
+                while (i < m && bytes[i] == buffer.get(i + j)) {
+                    i++;
+                }
+
+                if (i < m) {
+                    j += i - suffix + 1;
+                } else {
+                    i = suffix - 1;
+                    while (i >= 0 && bytes[i] == buffer.get(i + j)) {
+                        i--;
+                    }
+                    if (i < 0) {
+                        return j;
+                    }
+                    j += period;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /* Horspool bad symbol shifts, indexed by the low byte of the symbol */
+    private static int[] shifts(int[] x) {
+        int m = x.length;
+        int[] shifts = new int[SHIFTS];
+
+        Arrays.fill(shifts, Math.max(m, 1));
+        for (int i = 0; i < m - 1; i++) {
+            shifts[x[i] & 0xFF] = m - 1 - i;
+        }
+
+        return shifts;
+    }
+}
@@ -0,0 +1,256 @@
+package StringNumbersMath;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+public final class Palindromes {
+
+    /**
+     * Palindrome checks without allocation, for CharSequence, char[] ranges
+     * and UTF-8 bytes
+     *
+     * The solutions of CheckingWhetherStringIsPalindrome compare chars, so a
+     * surrogate pair (an emoji) is only a palindrome when its two halves are
+     * swapped, which is not the same emoji. Here the two ends are compared
+     * code point by code point, and the input is never copied or normalized:
+     *
+     * a. Strict mode: the code points must be equal. The bulk of the input is
+     * compared with jdk.incubator.vector when it is available: a vector from
+     * the left against the reversed vector at the same distance from the right,
+     * until a surrogate (or, in UTF-8, a non-ASCII byte) stops it, then the
+     * scalar loop takes over for a while. A String is copied to a small
+     * per-thread buffer in chunks from both ends for this
+     * b. Lenient mode (ignoreCaseAndNonAlphanumerics): the code points that are
+     * not letters or digits are skipped on both sides, and the others are
+     * compared case folded, so "A man, a plan, a canal: Panama" is a palindrome
+     *
+     * UTF-8 bytes are decoded from both ends, a malformed byte is a code point
+     * of its own that only equals the same byte.
+     * */
+    private static final int CHUNK = 128; // chars compared at each end per vector pass
+    private static final int MALFORMED = 0x110000; // above Character.MAX_CODE_POINT
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[2 * CHUNK]);
+
+    private Palindromes() {
+    }
+
+    public static boolean isPalindrome(CharSequence s) {
+        return isPalindrome(s, false);
+    }
+
+    public static boolean isPalindrome(CharSequence s, boolean ignoreCaseAndNonAlphanumerics) {
+        int left = 0;
+        int right = s.length();
+
+        while (right - left > 1) {
+            if (!ignoreCaseAndNonAlphanumerics && CharacterHistogram.VECTORIZED
+                    && s instanceof String && right - left >= 2 * CHUNK) {
+                // Copy CHUNK chars from each end next to each other: the buffer
+                // is mirrored if and only if the two ends are
+                char[] buffer = BUFFER.get();
+                ((String) s).getChars(left, left + CHUNK, buffer, 0);
+                ((String) s).getChars(right - CHUNK, right, buffer, CHUNK);
+
+                int matched = VectorKernels.mirrored(buffer, 0, 2 * CHUNK);
+                left += matched;
+                right -= matched;
+                if (matched == CHUNK) {
+                    continue;
+                }
+            }
+
+            // Scalar, code point by code point, for at most a chunk
+            int until = left + CHUNK;
+            while (left < until) {
+                if (ignoreCaseAndNonAlphanumerics) {
+                    while (left < right && !isAlphanumeric(Character.codePointAt(s, left))) {
+                        left += Character.charCount(Character.codePointAt(s, left));
+                    }
+                    while (left < right && !isAlphanumeric(Character.codePointBefore(s, right))) {
+                        right -= Character.charCount(Character.codePointBefore(s, right));
+                    }
+                }
+                if (left >= right) {
+                    return true;
+                }
+
+                int first = Character.codePointAt(s, left);
+                int last = Character.codePointBefore(s, right);
+                int firstEnd = left + Character.charCount(first);
+                int lastStart = right - Character.charCount(last);
+                if (firstEnd > lastStart) {
+                    // One code point left in the middle
+                    return true;
+                }
+                if (!same(first, last, ignoreCaseAndNonAlphanumerics)) {
+                    return false;
+                }
+
+                left = firstEnd;
+                right = lastStart;
+            }
+        }
+
+        return true;
+    }
+
+    public static boolean isPalindrome(char[] chs, int from, int to) {
+        return isPalindrome(chs, from, to, false);
+    }
+
+    /* The chars of [from, to) */
+    public static boolean isPalindrome(char[] chs, int from, int to, boolean ignoreCaseAndNonAlphanumerics) {
+        Objects.checkFromToIndex(from, to, chs.length);
+        int left = from;
+        int right = to;
+
+        while (right - left > 1) {
+            if (!ignoreCaseAndNonAlphanumerics && CharacterHistogram.VECTORIZED) {
+                int matched = VectorKernels.mirrored(chs, left, right);
+                left += matched;
+                right -= matched;
+            }
+
+            int until = left + CHUNK;
+            while (left < until) {
+                if (ignoreCaseAndNonAlphanumerics) {
+                    while (left < right && !isAlphanumeric(Character.codePointAt(chs, left, right))) {
+                        left += Character.charCount(Character.codePointAt(chs, left, right));
+                    }
+                    while (left < right && !isAlphanumeric(Character.codePointBefore(chs, right, left))) {
+                        right -= Character.charCount(Character.codePointBefore(chs, right, left));
+                    }
+                }
+                if (left >= right) {
+                    return true;
+                }
+
+                int first = Character.codePointAt(chs, left, right);
+                int last = Character.codePointBefore(chs, right, left);
+                int firstEnd = left + Character.charCount(first);
+                int lastStart = right - Character.charCount(last);
+                if (firstEnd > lastStart) {
+                    return true;
+                }
+                if (!same(first, last, ignoreCaseAndNonAlphanumerics)) {
+                    return false;
+                }
+
+                left = firstEnd;
+                right = lastStart;
+            }
+        }
+
+        return true;
+    }
+
+    public static boolean isPalindrome(ByteBuffer utf8) {
+        return isPalindrome(utf8, false);
+    }
+
+    /* The UTF-8 bytes from the position to the limit of the buffer, which are left unchanged */
+    public static boolean isPalindrome(ByteBuffer utf8, boolean ignoreCaseAndNonAlphanumerics) {
+        int left = utf8.position();
+        int right = utf8.limit();
+
+        while (right - left > 1) {
+            if (!ignoreCaseAndNonAlphanumerics && CharacterHistogram.VECTORIZED) {
+                int matched = VectorKernels.mirrored(utf8, left, right);
+                left += matched;
+                right -= matched;
+            }
+
+            int until = left + CHUNK;
+            while (left < until) {
+                if (ignoreCaseAndNonAlphanumerics) {
+                    while (left < right) {
+                        int length = sequenceLength(utf8, left, right);
+                        if (isAlphanumeric(decode(utf8, left, length))) {
+                            break;
+                        }
+                        left += length;
+                    }
+                    while (left < right) {
+                        int start = sequenceStart(utf8, left, right);
+                        if (isAlphanumeric(decode(utf8, start, right - start))) {
+                            break;
+                        }
+                        right = start;
+                    }
+                }
+                if (left >= right) {
+                    return true;
+                }
+
+                int firstEnd = left + sequenceLength(utf8, left, right);
+                int lastStart = sequenceStart(utf8, left, right);
+                if (firstEnd > lastStart) {
+                    return true;
+                }
+
+                int first = decode(utf8, left, firstEnd - left);
+                int last = decode(utf8, lastStart, right - lastStart);
+                if (!same(first, last, ignoreCaseAndNonAlphanumerics)) {
+                    return false;
+                }
+
+                left = firstEnd;
+                right = lastStart;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean same(int first, int last, boolean ignoreCase) {
+        return first == last || ignoreCase && AnagramIndex.fold(first) == AnagramIndex.fold(last);
+    }
+
+    private static boolean isAlphanumeric(int cp) {
+        return Character.isLetterOrDigit(cp);
+    }
+
+    /* Length of the UTF-8 sequence starting at i, 1 for a malformed byte */
+    private static int sequenceLength(ByteBuffer utf8, int i, int limit) {
+        int lead = utf8.get(i) & 0xFF;
+        int length = lead < 0x80 ? 1 : lead < 0xC2 ? 0 : lead < 0xE0 ? 2 : lead < 0xF0 ? 3 : lead < 0xF5 ? 4 : 0;
+        if (length <= 1 || i + length > limit) {
+            return 1;
+        }
+
+        for (int k = 1; k < length; k++) {
+            if (!isContinuation(utf8.get(i + k))) {
+                return 1;
+            }
+        }
+        return length;
+    }
+
+    /* Start of the UTF-8 sequence ending at end (exclusive) */
+    private static int sequenceStart(ByteBuffer utf8, int start, int end) {
+        int i = end - 1;
+        while (i > start && end - i < 4 && isContinuation(utf8.get(i))) {
+            i--;
+        }
+        return sequenceLength(utf8, i, end) == end - i ? i : end - 1;
+    }
+
+    /* The code point of the sequence of the given length at i, overlong or surrogate forms are not rejected */
+    private static int decode(ByteBuffer utf8, int i, int length) {
+        int lead = utf8.get(i) & 0xFF;
+        if (length == 1) {
+            return lead < 0x80 ? lead : MALFORMED + lead;
+        }
+
+        int cp = lead & (0x7F >> length);
+        for (int k = 1; k < length; k++) {
+            cp = cp << 6 | utf8.get(i + k) & 0x3F;
+        }
+        return cp;
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+}
@@ -0,0 +1,137 @@
+package StringNumbersMath;
+
+import java.util.Objects;
+
+public final class Periodicity {
+
+    /**
+     * The periods and borders of a string (or of bytes), in linear time
+     *
+     * A border of s is a proper prefix of s that is also a suffix of s (ab in
+     * abcab). p is a period of s when s[i] == s[i + p] for every i, and the
+     * periods are exactly the n - b for the borders b, so the longest border
+     * gives the smallest period. All of them come from the prefix function of
+     * Knuth-Morris-Pratt:
+     *
+     * a. border[i] is the length of the longest border of the prefix of i + 1
+     * symbols. It is computed from left to right, a candidate border that
+     * cannot be extended falls back to its own longest border
+     * b. Every fall back shortens the candidate, which only grows by one per
+     * symbol, so there are at most n of them: O(n) in total
+     * c. The borders of s are border[n - 1], then the border of this border,
+     * and so on down to 0
+     *
+     * s is a sequence of the same substring (abcabcabc) when its smallest period
+     * p divides n and p is less than n, the substring is then s[0, p).
+     * The symbols are UTF-16 chars or bytes, and the only memory used is the
+     * int[] of the prefix function, kept to answer for every prefix of s.
+     * An instance is immutable.
+     * */
+    private final int[] border;
+
+    private Periodicity(int[] border) {
+        this.border = border;
+    }
+
+    public static Periodicity of(CharSequence s) {
+        int n = s.length();
+        int[] border = new int[n];
+
+        for (int i = 1; i < n; i++) {
+            char c = s.charAt(i);
+            int k = border[i - 1];
+            while (k > 0 && s.charAt(k) != c) {
+                k = border[k - 1];
+            }
+            border[i] = s.charAt(k) == c ? k + 1 : 0;
+        }
+
+        return new Periodicity(border);
+    }
+
+    public static Periodicity of(byte[] bytes) {
+        return of(bytes, 0, bytes.length);
+    }
+
+    /* The bytes of [from, to) */
+    public static Periodicity of(byte[] bytes, int from, int to) {
+        Objects.checkFromToIndex(from, to, bytes.length);
+        int n = to - from;
+        int[] border = new int[n];
+
+        for (int i = 1; i < n; i++) {
+            byte b = bytes[from + i];
+            int k = border[i - 1];
+            while (k > 0 && bytes[from + k] != b) {
+                k = border[k - 1];
+            }
+            border[i] = bytes[from + k] == b ? k + 1 : 0;
+        }
+
+        return new Periodicity(border);
+    }
+
+    public int length() {
+        return border.length;
+    }
+
+    /* The smallest p such that s[i] == s[i + p] for every i, the length for no period, 0 for an empty s */
+    public int minimalPeriod() {
+        return minimalPeriod(border.length);
+    }
+
+    /* The same for the prefix of the given length */
+    public int minimalPeriod(int prefixLength) {
+        Objects.checkIndex(prefixLength, border.length + 1);
+        return prefixLength == 0 ? 0 : prefixLength - border[prefixLength - 1];
+    }
+
+    /* Whether s is the same substring repeated at least twice */
+    public boolean isRepetition() {
+        return repetitions() > 1;
+    }
+
+    /* How many times s[0, minimalPeriod()) is repeated to make s, 1 if it does not divide s, 0 for an empty s */
+    public int repetitions() {
+        int n = border.length;
+        if (n == 0) {
+            return 0;
+        }
+
+        int period = minimalPeriod();
+        return n % period == 0 ? n / period : 1;
+    }
+
+    /* The length of the longest border of the prefix of the given length */
+    public int longestBorder(int prefixLength) {
+        Objects.checkIndex(prefixLength, border.length + 1);
+        return prefixLength == 0 ? 0 : border[prefixLength - 1];
+    }
+
+    /* The lengths of all the borders of s, longest first (the empty border is not included) */
+    public int[] borders() {
+        int count = 0;
+        for (int k = longestBorder(border.length); k > 0; k = border[k - 1]) {
+            count++;
+        }
+
+        int[] borders = new int[count];
+        int i = 0;
+        for (int k = longestBorder(border.length); k > 0; k = border[k - 1]) {
+            borders[i++] = k;
+        }
+        return borders;
+    }
+
+    /* All the periods of s, smallest first, s itself included */
+    public int[] periods() {
+        int[] borders = borders();
+        int[] periods = new int[borders.length + 1];
+
+        for (int i = 0; i < borders.length; i++) {
+            periods[i] = border.length - borders[i];
+        }
+        periods[borders.length] = border.length;
+        return periods;
+    }
+}
@@ -0,0 +1,344 @@
+package StringNumbersMath;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class Permutations implements Iterable<char[]> {
+
+    /**
+     * The distinct permutations of the chars of a string, generated lazily
+     *
+     * The recursive solutions of GeneratingAllPermutations concatenate new
+     * strings at every level, and the Set one keeps all the n! permutations
+     * in memory (the heap is gone around n = 11). Here the permutations are
+     * generated one at a time, in place, in a single char[]:
+     *
+     * a. The chars are sorted, which is the first permutation in lexicographic order
+     * b. The next one is found from the right (Narayana Pandita): the longest
+     * non-increasing suffix is already the last arrangement of its chars, so the
+     * char just before it is swapped with the smallest greater char of the
+     * suffix, and the suffix is reversed to its first arrangement
+     * c. Equal chars are never swapped with each other (the comparisons are
+     * strict), so a string with repeated chars (a multiset) gives each distinct
+     * permutation exactly once, AAB gives AAB, ABA, BAA
+     *
+     * A step takes O(1) amortized time and allocates nothing: the iterator and
+     * the spliterator return the same char[] every time, updated in place, so a
+     * consumer that keeps a permutation must copy it. stream() creates one
+     * String per permutation, only when the stream pulls it.
+     * Like the other solutions, a surrogate pair is permuted as two chars.
+     *
+     * Every permutation also has a rank, its index in lexicographic order (the
+     * factorial number system, generalized to repeated chars): rank() and
+     * unrank() convert between the two in O(n * k) for k distinct chars. The
+     * spliterator covers a range of ranks and splits it in halves, unranking
+     * the start of the second half, so a parallel stream gets balanced,
+     * independent ranges, and a job can be sharded across processes by giving
+     * each one a range of ranks.
+     * */
+    private static final long UNKNOWN = Long.MAX_VALUE;
+
+    private final char[] sorted;
+    private final char[] symbols;
+    private final int[] counts;
+
+    private Permutations(char[] sorted) {
+        this.sorted = sorted;
+
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                distinct++;
+            }
+        }
+
+        this.symbols = new char[distinct];
+        this.counts = new int[distinct];
+        for (int i = 0, k = -1; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                symbols[++k] = sorted[i];
+            }
+            counts[k]++;
+        }
+    }
+
+    public static Permutations of(CharSequence str) {
+        char[] chs = new char[str.length()];
+        for (int i = 0; i < chs.length; i++) {
+            chs[i] = str.charAt(i);
+        }
+        Arrays.sort(chs);
+        return new Permutations(chs);
+    }
+
+    /**
+     * Number of distinct permutations, the multinomial n! / (k1! k2! ...) where
+     * k1, k2, ... are the counts of the distinct chars
+     * Throws ArithmeticException when it does not fit in a long
+     * */
+    public long count() {
+        long count = 1;
+        int run = 0;
+
+        // Multiply by i / (number of chars equal to sorted[i - 1] so far), an exact division at every step
+        for (int i = 1; i <= sorted.length; i++) {
+            run = i > 1 && sorted[i - 1] == sorted[i - 2] ? run + 1 : 1;
+            count = divideExactly(count, i, run);
+        }
+
+        return count;
+    }
+
+    /* count * numerator / denominator, knowing that the result is an integer */
+    private static long divideExactly(long count, int numerator, int denominator) {
+        long gcd = gcd(count, denominator);
+        return Math.multiplyExact(count / gcd, numerator / (denominator / gcd));
+    }
+
+    /**
+     * Index of permutation in lexicographic order, from 0 to count() - 1
+     * Every symbol smaller than the char at i, in the remaining chars, is the first
+     * char of (permutations of the remaining chars) * (its count) / (remaining chars)
+     * permutations that come before
+     * Throws IllegalArgumentException if it is not a permutation of the chars
+     * */
+    public long rank(CharSequence permutation) {
+        if (permutation.length() != sorted.length) {
+            throw new IllegalArgumentException("Not a permutation of " + new String(sorted) + ": " + permutation);
+        }
+
+        int[] left = counts.clone();
+        long permutations = count();
+        long rank = 0;
+
+        for (int i = 0; i < sorted.length; i++) {
+            int remaining = sorted.length - i;
+            int k = Arrays.binarySearch(symbols, permutation.charAt(i));
+            if (k < 0 || left[k] == 0) {
+                throw new IllegalArgumentException("Not a permutation of " + new String(sorted) + ": " + permutation);
+            }
+
+            for (int smaller = 0; smaller < k; smaller++) {
+                rank += divideExactly(permutations, left[smaller], remaining);
+            }
+            permutations = divideExactly(permutations, left[k], remaining);
+            left[k]--;
+        }
+
+        return rank;
+    }
+
+    /* The permutation of the given rank in lexicographic order */
+    public String unrank(long rank) {
+        return new String(unrank(rank, new char[sorted.length]));
+    }
+
+    private char[] unrank(long rank, char[] permutation) {
+        long permutations = count();
+        if (rank < 0 || rank >= permutations) {
+            throw new IndexOutOfBoundsException("Rank " + rank + " out of bounds for " + permutations + " permutations");
+        }
+
+        int[] left = counts.clone();
+        for (int i = 0; i < sorted.length; i++) {
+            int remaining = sorted.length - i;
+
+            // Skip the blocks of permutations starting with a smaller symbol
+            int k = 0;
+            while (true) {
+                long block = left[k] == 0 ? 0 : divideExactly(permutations, left[k], remaining);
+                if (rank < block) {
+                    permutations = block;
+                    break;
+                }
+                rank -= block;
+                k++;
+            }
+
+            permutation[i] = symbols[k];
+            left[k]--;
+        }
+
+        return permutation;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long r = a % b;
+            a = b;
+            b = r;
+        }
+        return a;
+    }
+
+    /**
+     * Rearranges chs into the next permutation in lexicographic order
+     * Returns false (and leaves chs unchanged) when chs is the last one
+     * */
+    public static boolean nextPermutation(char[] chs) {
+        int i = chs.length - 2;
+        while (i >= 0 && chs[i] >= chs[i + 1]) {
+            i--;
+        }
+        if (i < 0) {
+            return false;
+        }
+
+        int j = chs.length - 1;
+        while (chs[j] <= chs[i]) {
+            j--;
+        }
+        swap(chs, i, j);
+
+        for (int left = i + 1, right = chs.length - 1; left < right; left++, right--) {
+            swap(chs, left, right);
+        }
+        return true;
+    }
+
+    private static void swap(char[] chs, int i, int j) {
+        char tmp = chs[i];
+        chs[i] = chs[j];
+        chs[j] = tmp;
+    }
+
+    /* The permutations in lexicographic order, all in the same char[] */
+    @Override
+    public Iterator<char[]> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public void forEach(Consumer<? super char[]> action) {
+        spliterator().forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<char[]> spliterator() {
+        long size = sizeOrUnknown();
+        return new PermutationSpliterator(this, sorted.clone(), 0, size, size != UNKNOWN);
+    }
+
+    /* The permutations of rank fromRank (inclusive) to toRank (exclusive), all in the same char[] per split */
+    public Spliterator<char[]> spliterator(long fromRank, long toRank) {
+        long size = count();
+        if (fromRank < 0 || fromRank > toRank || toRank > size) {
+            throw new IndexOutOfBoundsException("Range [" + fromRank + ", " + toRank + ") out of bounds for " + size + " permutations");
+        }
+
+        char[] first = fromRank < toRank ? unrank(fromRank, new char[sorted.length]) : sorted.clone();
+        return new PermutationSpliterator(this, first, fromRank, toRank, true);
+    }
+
+    /* The permutations in lexicographic order, as Strings */
+    public Stream<String> stream() {
+        return StreamSupport.stream(spliterator(), false).map(String::new);
+    }
+
+    public Stream<String> stream(long fromRank, long toRank) {
+        return StreamSupport.stream(spliterator(fromRank, toRank), false).map(String::new);
+    }
+
+    /* The permutations as Strings, the ranges of ranks are processed in parallel, in encounter order */
+    public Stream<String> parallelStream() {
+        return StreamSupport.stream(spliterator(), true).map(String::new);
+    }
+
+    private long sizeOrUnknown() {
+        try {
+            return count();
+        } catch (ArithmeticException e) {
+            return UNKNOWN;
+        }
+    }
+
+    /**
+     * Steps through the permutations of rank next to end in place
+     * current holds the permutation of rank next when positioned, else the one
+     * before it (the one given to the consumer, which may still be reading it)
+     * Without a known size (more than Long.MAX_VALUE permutations), it goes up
+     * to the last permutation and does not split
+     * */
+    private static final class PermutationSpliterator implements Spliterator<char[]> {
+        private final Permutations permutations;
+        private final boolean sized;
+        private char[] current;
+        private boolean positioned;
+        private long next;
+        private final long end;
+
+        PermutationSpliterator(Permutations permutations, char[] current, long next, long end, boolean sized) {
+            this.permutations = permutations;
+            this.current = current;
+            this.positioned = true;
+            this.next = next;
+            this.end = end;
+            this.sized = sized;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super char[]> action) {
+            if (!advance()) {
+                return false;
+            }
+
+            action.accept(current);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super char[]> action) {
+            while (advance()) {
+                action.accept(current);
+            }
+        }
+
+        /* Positions current on the permutation of rank next, and moves next past it */
+        private boolean advance() {
+            if (sized && next >= end) {
+                return false;
+            }
+            if (!positioned && !nextPermutation(current)) {
+                next = end;
+                return false;
+            }
+
+            positioned = false;
+            next++;
+            return true;
+        }
+
+        @Override
+        public Spliterator<char[]> trySplit() {
+            long size = end - next;
+            if (!sized || size < 2) {
+                return null;
+            }
+
+            // The prefix keeps the current state, this one starts again at the middle
+            long middle = next + size / 2;
+            PermutationSpliterator prefix = new PermutationSpliterator(permutations, current, next, middle, true);
+            prefix.positioned = positioned;
+
+            current = permutations.unrank(middle, new char[current.length]);
+            positioned = true;
+            next = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return sized ? end - next : UNKNOWN;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | (sized ? SIZED | SUBSIZED : 0);
+        }
+    }
+}
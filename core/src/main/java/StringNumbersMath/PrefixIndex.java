@@ -0,0 +1,504 @@
+package StringNumbersMath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+public final class PrefixIndex {
+
+    /**
+     * A set of strings kept in a compressed trie (radix tree), to answer the
+     * longest common prefix of a changing set of keys without rescanning them
+     *
+     * a. Every edge is labeled with a non-empty substring, and every node but the
+     * root either ends a key or has at least two children, so the trie has less
+     * than 2 nodes per key whatever the length of the keys
+     * b. Every node counts the keys of its subtree, which gives the rank of the
+     * keys in sorted order, and the number of keys under a prefix
+     * c. The keys sharing a prefix are all under the node where the prefix ends,
+     * and the longest common prefix of a set of keys is the path to the node
+     * where they split
+     *
+     * The nodes are packed in parallel arrays (first child, next sibling in
+     * sorted order, key count, label start and length in int arrays, whether a
+     * key ends there in a boolean array) and the labels are ranges of a single
+     * char[] pool, so a node costs 5 ints and a boolean (21 bytes) and no
+     * object header.
+     * Splitting an edge reuses the range of its label, the chars freed by
+     * remove() are reclaimed once they are half of the pool.
+     *
+     * Finding a child walks the siblings, so the operations take a time
+     * proportional to the length of the prefix times the size of the alphabet
+     * (small for route prefixes or SKU codes), not to the number of keys.
+     * Like the collections of java.util, an instance is not thread-safe.
+     * */
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final int INITIAL_NODES = 16;
+    private static final int INITIAL_LABELS = 64;
+
+    private int[] firstChild = new int[INITIAL_NODES];
+    private int[] nextSibling = new int[INITIAL_NODES];
+    private int[] count = new int[INITIAL_NODES];
+    private int[] labelStart = new int[INITIAL_NODES];
+    private int[] labelLength = new int[INITIAL_NODES];
+    private boolean[] terminal = new boolean[INITIAL_NODES];
+    private int nodes;
+    private int freeNode = NONE;
+
+    private char[] labels = new char[INITIAL_LABELS];
+    private int labelsSize;
+    private int garbage;
+
+    /* The nodes from the root to the current one, reused by insert() and remove() */
+    private int[] path = new int[INITIAL_NODES];
+
+    public PrefixIndex() {
+        nodes = 1;
+        firstChild[ROOT] = NONE;
+        nextSibling[ROOT] = NONE;
+    }
+
+    public static PrefixIndex of(String... keys) {
+        PrefixIndex index = new PrefixIndex();
+        for (String key : keys) {
+            index.insert(key);
+        }
+        return index;
+    }
+
+    public int size() {
+        return count[ROOT];
+    }
+
+    public boolean isEmpty() {
+        return count[ROOT] == 0;
+    }
+
+    public boolean contains(String key) {
+        int node = ROOT;
+        int i = 0;
+
+        while (i < key.length()) {
+            int child = child(node, key.charAt(i));
+            if (child == NONE || matchLabel(child, key, i) != labelLength[child]) {
+                return false;
+            }
+            i += labelLength[child];
+            node = child;
+        }
+
+        return terminal[node];
+    }
+
+    /* Adds the key, returns false if it was already there */
+    public boolean insert(String key) {
+        int node = ROOT;
+        int depth = 0;
+        int i = 0;
+        path[depth++] = ROOT;
+
+        while (i < key.length()) {
+            char ch = key.charAt(i);
+            int previous = NONE;
+            int child = firstChild[node];
+            while (child != NONE && firstChar(child) < ch) {
+                previous = child;
+                child = nextSibling[child];
+            }
+
+            if (child == NONE || firstChar(child) != ch) {
+                // No edge starts with ch, the rest of the key becomes a leaf
+                int leaf = newNode(appendLabel(key, i, key.length()), key.length() - i);
+                terminal[leaf] = true;
+                link(node, previous, leaf, child);
+                addCount(depth, 1);
+                count[leaf] = 1;
+                return true;
+            }
+
+            int matched = matchLabel(child, key, i);
+            if (matched < labelLength[child]) {
+                // The key leaves the edge in its middle, split it there
+                int middle = newNode(labelStart[child], matched);
+                link(node, previous, middle, nextSibling[child]);
+                labelStart[child] += matched;
+                labelLength[child] -= matched;
+                firstChild[middle] = child;
+                nextSibling[child] = NONE;
+                count[middle] = count[child];
+                child = middle;
+            }
+
+            i += matched;
+            node = child;
+            if (depth == path.length) {
+                path = Arrays.copyOf(path, depth * 2);
+            }
+            path[depth++] = node;
+        }
+
+        if (terminal[node]) {
+            return false;
+        }
+        terminal[node] = true;
+        addCount(depth, 1);
+        return true;
+    }
+
+    /* Removes the key, returns false if it was not there */
+    public boolean remove(String key) {
+        int node = ROOT;
+        int depth = 0;
+        int i = 0;
+        path[depth++] = ROOT;
+
+        while (i < key.length()) {
+            int child = child(node, key.charAt(i));
+            if (child == NONE || matchLabel(child, key, i) != labelLength[child]) {
+                return false;
+            }
+            i += labelLength[child];
+            node = child;
+            if (depth == path.length) {
+                path = Arrays.copyOf(path, depth * 2);
+            }
+            path[depth++] = node;
+        }
+
+        if (!terminal[node]) {
+            return false;
+        }
+        terminal[node] = false;
+        addCount(depth, -1);
+
+        // Keep the trie compressed: drop the leaf, and merge a node left
+        // with a single child (that does not end a key) into this child
+        if (node != ROOT) {
+            int parent = path[depth - 2];
+            if (firstChild[node] == NONE) {
+                unlink(parent, node);
+                node = parent;
+            }
+            if (node != ROOT && !terminal[node] && hasSingleChild(node)) {
+                merge(node);
+            }
+        }
+
+        if (garbage > labelsSize / 2 && labelsSize > INITIAL_LABELS) {
+            compact();
+        }
+        return true;
+    }
+
+    /* Longest common prefix of all the keys, "" for an empty index */
+    public String longestCommonPrefix() {
+        return longestCommonPrefix(ROOT, new StringBuilder());
+    }
+
+    /* Longest common prefix of the keys starting with prefix, "" if there is none */
+    public String longestCommonPrefixStartingWith(String prefix) {
+        StringBuilder sb = new StringBuilder();
+        int node = locate(prefix, sb);
+        return node == NONE ? "" : longestCommonPrefix(node, sb);
+    }
+
+    /**
+     * Longest common prefix of the keys from rank from (inclusive) to rank to
+     * (exclusive) in sorted order, "" for an empty range
+     * The keys of a range all start with the prefix shared by the first and
+     * the last one, so it is the path to the node where their ranks fall in
+     * different subtrees
+     * */
+    public String longestCommonPrefix(int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        StringBuilder sb = new StringBuilder();
+        if (from == to) {
+            return "";
+        }
+
+        int node = ROOT;
+        int first = from;
+        int last = to - 1;
+
+        while (true) {
+            if (terminal[node]) {
+                if (first == 0) {
+                    // The key of this node is the first of the range
+                    return sb.toString();
+                }
+                first--;
+                last--;
+            }
+
+            int child = firstChild[node];
+            while (first >= count[child]) {
+                first -= count[child];
+                last -= count[child];
+                child = nextSibling[child];
+            }
+            if (last >= count[child]) {
+                return sb.toString();
+            }
+
+            appendLabel(sb, child);
+            node = child;
+        }
+    }
+
+    /* The key of the given rank in sorted order */
+    public String key(int rank) {
+        Objects.checkIndex(rank, size());
+        StringBuilder sb = new StringBuilder();
+        int node = ROOT;
+
+        while (true) {
+            if (terminal[node]) {
+                if (rank == 0) {
+                    return sb.toString();
+                }
+                rank--;
+            }
+
+            int child = firstChild[node];
+            while (rank >= count[child]) {
+                rank -= count[child];
+                child = nextSibling[child];
+            }
+
+            appendLabel(sb, child);
+            node = child;
+        }
+    }
+
+    public int countKeysWithPrefix(String prefix) {
+        int node = locate(prefix, null);
+        return node == NONE ? 0 : count[node];
+    }
+
+    /* The keys starting with prefix, in sorted order */
+    public List<String> keysWithPrefix(String prefix) {
+        StringBuilder sb = new StringBuilder();
+        int node = locate(prefix, sb);
+        List<String> keys = new ArrayList<>(node == NONE ? 0 : count[node]);
+        if (node != NONE) {
+            collect(node, sb, keys);
+        }
+        return keys;
+    }
+
+    public List<String> keys() {
+        return keysWithPrefix("");
+    }
+
+    /* Descends while the path is shared by all the keys of the subtree */
+    private String longestCommonPrefix(int node, StringBuilder sb) {
+        while (!terminal[node] && hasSingleChild(node)) {
+            node = firstChild[node];
+            appendLabel(sb, node);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The highest node whose path starts with prefix, NONE if there is none
+     * The path of the node is appended to sb (when not null)
+     * */
+    private int locate(String prefix, StringBuilder sb) {
+        int node = ROOT;
+        int i = 0;
+
+        while (i < prefix.length()) {
+            int child = child(node, prefix.charAt(i));
+            if (child == NONE) {
+                return NONE;
+            }
+
+            int matched = matchLabel(child, prefix, i);
+            if (matched < labelLength[child] && i + matched < prefix.length()) {
+                return NONE;
+            }
+
+            if (sb != null) {
+                appendLabel(sb, child);
+            }
+            i += matched;
+            node = child;
+        }
+
+        return count[node] == 0 ? NONE : node;
+    }
+
+    private void collect(int node, StringBuilder sb, List<String> keys) {
+        if (terminal[node]) {
+            keys.add(sb.toString());
+        }
+
+        int length = sb.length();
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            appendLabel(sb, child);
+            collect(child, sb, keys);
+            sb.setLength(length);
+        }
+    }
+
+    /* The child of node whose label starts with ch, NONE if there is none */
+    private int child(int node, char ch) {
+        int child = firstChild[node];
+        while (child != NONE && firstChar(child) < ch) {
+            child = nextSibling[child];
+        }
+        return child != NONE && firstChar(child) == ch ? child : NONE;
+    }
+
+    private char firstChar(int node) {
+        return labels[labelStart[node]];
+    }
+
+    /* Number of chars of the label of node matching key from index i */
+    private int matchLabel(int node, String key, int i) {
+        int start = labelStart[node];
+        int length = Math.min(labelLength[node], key.length() - i);
+        int matched = 0;
+
+        while (matched < length && labels[start + matched] == key.charAt(i + matched)) {
+            matched++;
+        }
+        return matched;
+    }
+
+    private boolean hasSingleChild(int node) {
+        return firstChild[node] != NONE && nextSibling[firstChild[node]] == NONE;
+    }
+
+    private void addCount(int depth, int delta) {
+        for (int d = 0; d < depth; d++) {
+            count[path[d]] += delta;
+        }
+    }
+
+    /* Puts child between the siblings previous and next of parent */
+    private void link(int parent, int previous, int child, int next) {
+        nextSibling[child] = next;
+        if (previous == NONE) {
+            firstChild[parent] = child;
+        } else {
+            nextSibling[previous] = child;
+        }
+    }
+
+    private void unlink(int parent, int child) {
+        int previous = NONE;
+        for (int node = firstChild[parent]; node != child; node = nextSibling[node]) {
+            previous = node;
+        }
+        if (previous == NONE) {
+            firstChild[parent] = nextSibling[child];
+        } else {
+            nextSibling[previous] = nextSibling[child];
+        }
+        freeNode(child);
+    }
+
+    /* Node absorbs its single child: concatenated label, children and key of the child */
+    private void merge(int node) {
+        int child = firstChild[node];
+        int length = labelLength[node] + labelLength[child];
+
+        if (labelStart[node] + labelLength[node] != labelStart[child]) {
+            // The labels are not adjacent in the pool (the child was added after a split)
+            int start = reserveLabels(length);
+            System.arraycopy(labels, labelStart[node], labels, start, labelLength[node]);
+            System.arraycopy(labels, labelStart[child], labels, start + labelLength[node], labelLength[child]);
+            garbage += length;
+            labelStart[node] = start;
+        }
+
+        labelLength[node] = length;
+        firstChild[node] = firstChild[child];
+        terminal[node] = terminal[child];
+        labelLength[child] = 0;
+        freeNode(child);
+    }
+
+    private int newNode(int start, int length) {
+        int node;
+        if (freeNode != NONE) {
+            node = freeNode;
+            freeNode = nextSibling[node];
+        } else {
+            if (nodes == count.length) {
+                int capacity = nodes * 2;
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                nextSibling = Arrays.copyOf(nextSibling, capacity);
+                count = Arrays.copyOf(count, capacity);
+                labelStart = Arrays.copyOf(labelStart, capacity);
+                labelLength = Arrays.copyOf(labelLength, capacity);
+                terminal = Arrays.copyOf(terminal, capacity);
+            }
+            node = nodes++;
+        }
+
+        firstChild[node] = NONE;
+        nextSibling[node] = NONE;
+        count[node] = 0;
+        labelStart[node] = start;
+        labelLength[node] = length;
+        terminal[node] = false;
+        return node;
+    }
+
+    private void freeNode(int node) {
+        garbage += labelLength[node];
+        labelLength[node] = 0;
+        nextSibling[node] = freeNode;
+        freeNode = node;
+    }
+
+    private int appendLabel(String key, int from, int to) {
+        int start = reserveLabels(to - from);
+        key.getChars(from, to, labels, start);
+        return start;
+    }
+
+    private int reserveLabels(int length) {
+        if (labelsSize + length > labels.length) {
+            labels = Arrays.copyOf(labels, Math.max(labels.length * 2, labelsSize + length));
+        }
+        int start = labelsSize;
+        labelsSize += length;
+        return start;
+    }
+
+    private void appendLabel(StringBuilder sb, int node) {
+        sb.append(labels, labelStart[node], labelLength[node]);
+    }
+
+    /* Copies the labels of the live nodes in a new pool, in depth-first order */
+    private void compact() {
+        char[] compacted = new char[Math.max(INITIAL_LABELS, (labelsSize - garbage) * 2)];
+        int size = 0;
+
+        int[] stack = new int[INITIAL_NODES];
+        int top = 0;
+        stack[top++] = ROOT;
+        while (top > 0) {
+            int node = stack[--top];
+            System.arraycopy(labels, labelStart[node], compacted, size, labelLength[node]);
+            labelStart[node] = size;
+            size += labelLength[node];
+
+            for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top * 2);
+                }
+                stack[top++] = child;
+            }
+        }
+
+        labels = compacted;
+        labelsSize = size;
+        garbage = 0;
+    }
+}
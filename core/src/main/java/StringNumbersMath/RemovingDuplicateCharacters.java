@@ -1,7 +1,9 @@
 package StringNumbersMath;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -11,7 +13,7 @@ public class RemovingDuplicateCharacters {
      * String Manipulation
      * 12. Removing Duplicate Characters
      *
-     * SOLUTIONS: There are 3 solutions to this problem
+     * SOLUTIONS: There are 4 solutions to this problem
      * */
 
     /**
@@ -106,6 +108,83 @@ public class RemovingDuplicateCharacters {
                 .collect(Collectors.joining());
     }
 
+    /**
+     * 4. The fourth solution is linear and covers Unicode (see CodePointSet)
+     * The first solution searches the StringBuilder for every char (quadratic),
+     * the second one boxes every char into a Character, and the third one builds
+     * a String per char. All of them split surrogate pairs, so an emoji loses
+     * its second half as soon as another emoji of the same block was seen:
+     *
+     * a. The code points seen so far are kept in a CodePointSet, a 128K-bit
+     * bitmap for the BMP and the plane 1 (where the emojis are) and a small
+     * hash set for the rest
+     * b. A code point seen for the first time is written to a char[] as long as
+     * the string, which is the most the result can need, so it never grows
+     * c. If nothing was removed, the string itself is returned
+     *
+     * The set and the char[] are kept per thread and reused, so the second
+     * method deduplicates many strings with no allocation but the results.
+     * A string longer than 64K chars gets a char[] of its own, so one huge
+     * string does not leave a huge char[] behind on every thread
+     * This is shown in the following code:
+     *
+     * @param str
+     * */
+    private static final int MAX_RETAINED = 1 << 16; // chars of the largest char[] kept per thread
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    /* The state reused from one string to the next */
+    private static final class Scratch {
+        final CodePointSet seen = new CodePointSet();
+        char[] chars = new char[64];
+    }
+
+    public static String removeDuplicatesUsingBitSet(String str) {
+        return removeDuplicates(str, SCRATCH.get());
+    }
+
+    public static List<String> removeDuplicatesUsingBitSet(List<String> strs) {
+        Scratch scratch = SCRATCH.get();
+        List<String> result = new ArrayList<>(strs.size());
+
+        for (String str : strs) {
+            result.add(removeDuplicates(str, scratch));
+        }
+
+        return result;
+    }
+
+    private static String removeDuplicates(String str, Scratch scratch) {
+        int n = str.length();
+        char[] chars;
+        if (n > MAX_RETAINED) {
+            chars = new char[n];
+        } else {
+            if (scratch.chars.length < n) {
+                scratch.chars = new char[Math.min(Math.max(n, scratch.chars.length * 2), MAX_RETAINED)];
+            }
+            chars = scratch.chars;
+        }
+
+        CodePointSet seen = scratch.seen;
+        int length = 0;
+        seen.clear();
+
+        for (int i = 0; i < n; ) {
+            int cp = str.codePointAt(i);
+            if (seen.add(cp)) {
+                chars[length++] = str.charAt(i);
+                if (cp > Character.MAX_VALUE) {
+                    chars[length++] = str.charAt(i + 1);
+                }
+            }
+            i += Character.charCount(cp);
+        }
+
+        return length == n ? str : new String(chars, 0, length);
+    }
+
     public static void main(String[] args) {
         RemovingDuplicateCharacters solution = new RemovingDuplicateCharacters();
 
@@ -117,5 +196,9 @@ public class RemovingDuplicateCharacters {
 
         // C3
         System.out.println(solution.removeDuplicatesUsingJavaStream("LELLO MYMYKKYHNH!!!"));
+
+        // C4
+        System.out.println(solution.removeDuplicatesUsingBitSet("LELLO MYMYKKYHNH!!! \uD83D\uDE00\uD83D\uDE01\uD83D\uDE00"));
+        System.out.println(solution.removeDuplicatesUsingBitSet(List.of("LELLO", "MYMY", "KKYHNH!!!")));
     }
 }
@@ -1,5 +1,6 @@
 package StringNumbersMath;
 
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class RemovingGivenCharacter {
@@ -8,7 +9,7 @@ public class RemovingGivenCharacter {
      * String Manipulation
      * 13. Removing a given character
      *
-     * SOLUTIONS: There are 4 solutions to this problem
+     * SOLUTIONS: There are 5 solutions to this problem
      * */
 
     /**
@@ -33,7 +34,7 @@ public class RemovingGivenCharacter {
      * @param ch
      * */
     public static String removeCharacter(String str, char ch) {
-        return str.replaceAll(String.valueOf(ch), "");
+        return str.replaceAll(Pattern.quote(String.valueOf(ch)), "");
     }
 
     /**
@@ -100,6 +101,32 @@ public class RemovingGivenCharacter {
                   .collect(Collectors.joining());
     }
 
+    /**
+     * 5. The fifth solution removes chars in a single pass, without regular
+     * expressions or streams (see Compaction)
+     * The first occurrence is searched with String.indexOf(), which the JVM
+     * vectorizes: if there is none, the string is returned as it is. Otherwise
+     * the runs of chars between two occurrences are copied at once to a char[]
+     * of the length of the string, so nothing grows on the way
+     * The same works for a code point (its surrogate pair is removed), and for
+     * a set of chars or code points, tested with a bitmap for ASCII
+     * This is shown in the following code:
+     *
+     * @param str
+     * @param ch
+     * */
+    public static String removeCharacterInSinglePass(String str, char ch) {
+        return Compaction.removeChar(str, ch);
+    }
+
+    public static String removeUnicodeCharacterInSinglePass(String str, String ch) {
+        return Compaction.removeCodePoint(str, ch.codePointAt(0));
+    }
+
+    public static String removeCharacters(String str, String chs) {
+        return Compaction.removeCodePoints(str, chs);
+    }
+
     public static void main(String[] args) {
         RemovingGivenCharacter solution = new RemovingGivenCharacter();
 
@@ -117,5 +144,10 @@ public class RemovingGivenCharacter {
 
         // C4
         System.out.println(solution.removeUnicodeCharacter("HELLO WORLD!!!", "L"));
+
+        // C5
+        System.out.println(solution.removeCharacterInSinglePass("HELLO WORLD!!!", 'L'));
+        System.out.println(solution.removeUnicodeCharacterInSinglePass("HELLO \uD83D\uDE00WORLD!!!", "\uD83D\uDE00"));
+        System.out.println(solution.removeCharacters("HELLO WORLD!!!", "LO!"));
     }
 }
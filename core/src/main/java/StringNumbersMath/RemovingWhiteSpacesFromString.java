@@ -6,7 +6,7 @@ public class RemovingWhiteSpacesFromString {
      * String Manipulation
      * 8. Removing White Spaces From A String
      *
-     * SOLUTIONS: There is 1 solution to this problem
+     * SOLUTIONS: There are 2 solutions to this problem
      *
      * Note that:
      * Starting with JDK 11, String.isBlank() checks
@@ -28,8 +28,33 @@ public class RemovingWhiteSpacesFromString {
         return str.replaceAll("\\s", "");
     }
 
+    /**
+     * 2. The second solution avoids regular expressions (see Compaction)
+     * replaceAll() compiles the \s pattern on every call and builds the result in
+     * a StringBuilder. Instead, the string is scanned once:
+     *
+     * a. If it has no white space, it is returned as it is, without any allocation
+     * b. Otherwise it is copied to a char[] of the same length, and the chars that
+     * are not white spaces are moved left in place
+     *
+     * Note that Character.isWhitespace() is used, which knows more white spaces
+     * than \s (the Unicode space separators, except the non-breaking ones,
+     * and the file, group, record and unit separators)
+     * This is shown in the following code:
+     *
+     * @param str
+     * */
+    public static String removeWhitespacesInSinglePass(String str) {
+        return Compaction.removeWhitespaces(str);
+    }
+
     public static void main(String[] args) {
         RemovingWhiteSpacesFromString solution = new RemovingWhiteSpacesFromString();
+
+        // C1
         System.out.println(solution.removeWhitespaces("HELLO !!! MY NAME IS HANG"));
+
+        // C2
+        System.out.println(solution.removeWhitespacesInSinglePass("HELLO !!! MY NAME IS HANG"));
     }
 }
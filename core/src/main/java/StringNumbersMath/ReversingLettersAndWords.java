@@ -1,5 +1,10 @@
 package StringNumbersMath;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -8,7 +13,7 @@ public class ReversingLettersAndWords {
      * String Manipulation
      * 3. Reversing Letters And Words
      *
-     * SOLUTION: There are 2 solutions to this problem
+     * SOLUTION: There are 3 solutions to this problem
      * */
 
     private static final String WHITESPACE = " ";
@@ -70,12 +75,54 @@ public class ReversingLettersAndWords {
                       .collect(Collectors.joining(" "));
     }
 
-    public static void main(String[] args) {
+    /**
+     * 3. The third solution reverses in place, without splitting (see WordReversal)
+     * The two preceding solutions allocate a String and a StringBuilder per
+     * word, and lose the runs of white spaces. Here the chars of the string
+     * are copied once to a char[], in which:
+     *
+     * a. Each word (a run of chars that are not white spaces) is reversed by
+     * swapping, by grapheme cluster, so a surrogate pair, an accent or an emoji
+     * sequence is not broken apart
+     * b. The white spaces are left where they are
+     *
+     * The order of the words can be reversed the same way. A Reader can be
+     * written to a Writer with a buffer of 8 K chars, so a large file is never
+     * in memory as a whole
+     * This is shown in the following code:
+     *
+     * @param str
+     * @return String
+     * */
+    public String reverseWordsInPlace(String str) {
+        char[] chs = str.toCharArray();
+        WordReversal.reverseLetters(chs, 0, chs.length);
+        return new String(chs);
+    }
+
+    public String reverseWordOrderInPlace(String str) {
+        char[] chs = str.toCharArray();
+        WordReversal.reverseWords(chs, 0, chs.length);
+        return new String(chs);
+    }
+
+    public void reverseWordsStreaming(Reader in, Writer out) throws IOException {
+        WordReversal.reverseLetters(in, out);
+    }
+
+    public static void main(String[] args) throws IOException {
         ReversingLettersAndWords solution = new ReversingLettersAndWords();
         // C1
         System.out.println(solution.reverseWordsUsingStringBuilder("Hello World!!!"));
 
         // C2
         System.out.println(solution.reverseWordsUsingJavaStream("Hello World!!!"));
+
+        // C3
+        System.out.println(solution.reverseWordsInPlace("Hello  World!!! Café 👍🏽"));
+        System.out.println(solution.reverseWordOrderInPlace("Hello  World!!! Café 👍🏽"));
+        StringWriter out = new StringWriter();
+        solution.reverseWordsStreaming(new StringReader("Hello World!!!\nHello  Java"), out);
+        System.out.println(out);
     }
 }
@@ -0,0 +1,522 @@
+package StringNumbersMath;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayDeque;
+import java.util.Objects;
+
+public abstract class Rope implements CharSequence {
+
+    /**
+     * A lazy CharSequence for repeated and concatenated strings
+     *
+     * str.repeat(count) allocates count * str.length() chars up front, even when
+     * the result is only written to a file or a socket. A Rope is a tree of
+     * nodes that remembers how the text is made instead, so it costs a few
+     * objects whatever its length, and its length is a long (a rope can be
+     * longer than the 2^31 - 1 chars of a String):
+     *
+     * a. A leaf is a range of a CharSequence, which is not copied
+     * b. A repetition is a rope and a count: charAt(i) is the char at i modulo
+     * the length of the rope, so it is answered by arithmetic, not by a copy
+     * c. A concatenation is two ropes, charAt(i) goes left or right
+     * d. subSequence() is a rope too, built from the ranges of the nodes it
+     * covers (a repetition keeps its full periods as a repetition)
+     *
+     * The text is only produced when it is needed: writeTo() copies it to a
+     * Writer or encodes it to a WritableByteChannel in blocks of 64K chars,
+     * through one block buffer, and toString() flattens it to a String, once.
+     * A repetition is encoded once and its bytes are written again and again.
+     * The concatenations are walked by loops, not by recursion: r = r.concat(s)
+     * in a loop makes a chain as deep as the number of calls.
+     *
+     * length(), and so toString(), throw ArithmeticException when the rope is
+     * longer than Integer.MAX_VALUE, size() is the length as a long.
+     * The leaves are expected not to change, a Rope is then immutable.
+     * */
+    static final int BLOCK = 1 << 16; // chars per block written
+
+    private String flat; // toString(), computed on first use
+
+    Rope() {
+    }
+
+    public static Rope of(CharSequence s) {
+        return s instanceof Rope ? (Rope) s : new Leaf(s, 0, s.length());
+    }
+
+    public static Rope repeat(CharSequence s, long count) {
+        return of(s).repeat(count);
+    }
+
+    public static Rope concatAll(CharSequence... parts) {
+        return concatAll(parts, 0, parts.length);
+    }
+
+    /* Halves the parts, so the tree is balanced */
+    private static Rope concatAll(CharSequence[] parts, int from, int to) {
+        if (to - from <= 1) {
+            return from == to ? Leaf.EMPTY : of(parts[from]);
+        }
+        int middle = (from + to) >>> 1;
+        return concatAll(parts, from, middle).concat(concatAll(parts, middle, to));
+    }
+
+    public Rope repeat(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count is negative: " + count);
+        }
+        Math.multiplyExact(size(), count); // the size must fit in a long
+
+        if (count == 0 || size() == 0) {
+            return Leaf.EMPTY;
+        }
+        return count == 1 ? this : new Repeat(this, count);
+    }
+
+    public Rope concat(CharSequence other) {
+        Rope right = of(other);
+        Math.addExact(size(), right.size());
+
+        if (right.size() == 0) {
+            return this;
+        }
+        return size() == 0 ? right : new Concat(this, right);
+    }
+
+    /* The number of chars, as a long */
+    public abstract long size();
+
+    @Override
+    public int length() {
+        return Math.toIntExact(size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return charAt((long) index);
+    }
+
+    public char charAt(long index) {
+        Objects.checkIndex(index, size());
+        return at(index);
+    }
+
+    @Override
+    public Rope subSequence(int start, int end) {
+        return subRope(start, end);
+    }
+
+    public Rope subRope(long start, long end) {
+        Objects.checkFromToIndex(start, end, size());
+        if (start == 0 && end == size()) {
+            return this;
+        }
+        return start == end ? Leaf.EMPTY : slice(start, end);
+    }
+
+    /* Copies the chars [from, to) to dst, starting at dstBegin */
+    public void getChars(long from, long to, char[] dst, int dstBegin) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromIndexSize(dstBegin, to - from, dst.length);
+        copy(from, to, dst, dstBegin);
+    }
+
+    @Override
+    public String toString() {
+        String s = flat;
+        if (s == null) {
+            s = flat = flatten(length());
+        }
+        return s;
+    }
+
+    /* The chars as a String, length() is already checked */
+    String flatten(int length) {
+        char[] chs = new char[length];
+        copy(0, length, chs, 0);
+        return new String(chs);
+    }
+
+    public void writeTo(Writer out) throws IOException {
+        char[] block = new char[(int) Math.min(BLOCK, size())];
+
+        for (long from = 0; from < size(); from += block.length) {
+            int length = (int) Math.min(block.length, size() - from);
+            copy(from, from + length, block, 0);
+            out.write(block, 0, length);
+        }
+    }
+
+    /* Encodes the chars to the channel (malformed ones are replaced, like String.getBytes() does), returns the number of bytes written */
+    public long writeTo(WritableByteChannel channel, Charset charset) throws IOException {
+        CharsetEncoder encoder = newEncoder(charset);
+        char[] block = new char[(int) Math.min(BLOCK, size()) + 1];
+        CharBuffer in = CharBuffer.wrap(block).limit(0);
+        ByteBuffer out = ByteBuffer.allocate((int) (block.length * (double) encoder.maxBytesPerChar()) + 16);
+        long written = 0;
+
+        for (long from = 0; ; ) {
+            // Keep the chars the encoder left (half of a surrogate pair), append the next ones
+            in.compact();
+            int length = (int) Math.min(in.remaining(), size() - from);
+            copy(from, from + length, block, in.position());
+            in.position(in.position() + length).flip();
+            from += length;
+
+            boolean end = from == size();
+            CoderResult result;
+            do {
+                result = encoder.encode(in, out, end);
+                written += drain(out, channel);
+            } while (result.isOverflow());
+
+            if (end) {
+                while (encoder.flush(out).isOverflow()) {
+                    written += drain(out, channel);
+                }
+                return written + drain(out, channel);
+            }
+        }
+    }
+
+    static CharsetEncoder newEncoder(Charset charset) {
+        return charset.newEncoder()
+                      .onMalformedInput(CodingErrorAction.REPLACE)
+                      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /* Writes the bytes of out to the channel and clears it */
+    static int drain(ByteBuffer out, WritableByteChannel channel) throws IOException {
+        out.flip();
+        int written = writeFully(out, channel);
+        out.clear();
+        return written;
+    }
+
+    static int writeFully(ByteBuffer bytes, WritableByteChannel channel) throws IOException {
+        int written = 0;
+        while (bytes.hasRemaining()) {
+            written += channel.write(bytes);
+        }
+        return written;
+    }
+
+    /* The char at index, which is in range */
+    abstract char at(long index);
+
+    /* The rope of [start, end), 0 <= start < end <= size() */
+    abstract Rope slice(long start, long end);
+
+    /* Copies [from, to) to dst at dstBegin, the ranges are valid */
+    abstract void copy(long from, long to, char[] dst, int dstBegin);
+
+    /* A range of a CharSequence */
+    private static final class Leaf extends Rope {
+        static final Leaf EMPTY = new Leaf("", 0, 0);
+
+        private final CharSequence chars;
+        private final int start;
+        private final int end;
+
+        Leaf(CharSequence chars, int start, int end) {
+            this.chars = chars;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public long size() {
+            return end - start;
+        }
+
+        @Override
+        char at(long index) {
+            return chars.charAt(start + (int) index);
+        }
+
+        @Override
+        Rope slice(long from, long to) {
+            return new Leaf(chars, start + (int) from, start + (int) to);
+        }
+
+        @Override
+        void copy(long from, long to, char[] dst, int dstBegin) {
+            int begin = start + (int) from;
+            int limit = start + (int) to;
+
+            if (chars instanceof String) {
+                ((String) chars).getChars(begin, limit, dst, dstBegin);
+            } else if (chars instanceof StringBuilder) {
+                ((StringBuilder) chars).getChars(begin, limit, dst, dstBegin);
+            } else {
+                for (int i = begin; i < limit; i++) {
+                    dst[dstBegin++] = chars.charAt(i);
+                }
+            }
+        }
+    }
+
+    /* A rope repeated count times */
+    private static final class Repeat extends Rope {
+        private final Rope unit;
+        private final long count;
+
+        Repeat(Rope unit, long count) {
+            this.unit = unit;
+            this.count = count;
+        }
+
+        @Override
+        public long size() {
+            return unit.size() * count;
+        }
+
+        @Override
+        char at(long index) {
+            return unit.at(index % unit.size());
+        }
+
+        @Override
+        Rope slice(long start, long end) {
+            long period = unit.size();
+            long first = start / period;
+            long last = (end - 1) / period;
+
+            if (first == last) {
+                return unit.subRope(start - first * period, end - first * period);
+            }
+
+            // A head, the full periods in between, a tail
+            Rope head = unit.subRope(start - first * period, period);
+            Rope tail = unit.subRope(0, end - last * period);
+            return head.concat(unit.repeat(last - first - 1)).concat(tail);
+        }
+
+        @Override
+        void copy(long from, long to, char[] dst, int dstBegin) {
+            long period = unit.size();
+            long offset = from % period;
+            int filled = 0;
+            int length = (int) (to - from);
+
+            // Up to the end of the first period, then one period from the unit
+            int head = (int) Math.min(length, period - offset);
+            unit.copy(offset, offset + head, dst, dstBegin);
+            filled += head;
+            if (filled < length) {
+                int next = (int) Math.min(length - filled, period);
+                unit.copy(0, next, dst, dstBegin + filled);
+                filled += next;
+            }
+
+            // The rest is what was already written, shifted by a whole number of periods
+            int start = offset == 0 ? 0 : head;
+            while (filled < length) {
+                int chunk = Math.min(length - filled, filled - start);
+                System.arraycopy(dst, dstBegin + start, dst, dstBegin + filled, chunk);
+                filled += chunk;
+            }
+        }
+
+        @Override
+        String flatten(int length) {
+            // String.repeat() copies bytes, and keeps Latin-1 text on one byte per char
+            return unit.toString().repeat((int) count);
+        }
+
+        @Override
+        public long writeTo(WritableByteChannel channel, Charset charset) throws IOException {
+            // Encoded alone, a unit gives the same bytes as inside the repetition, unless
+            // a surrogate pair is made of its last and first chars (or the unit is too long),
+            // or the charset adds bytes of its own, checked below
+            if (unit.size() > BLOCK
+                    || Character.isHighSurrogate(unit.at(unit.size() - 1))
+                    || Character.isLowSurrogate(unit.at(0))) {
+                return super.writeTo(channel, charset);
+            }
+
+            ByteBuffer bytes;
+            ByteBuffer twice;
+            try {
+                bytes = newEncoder(charset).encode(CharBuffer.wrap(unit));
+                twice = newEncoder(charset).encode(CharBuffer.wrap(unit.concat(unit)));
+            } catch (CharacterCodingException e) {
+                return super.writeTo(channel, charset);
+            }
+
+            // Two units must encode to the bytes of one unit twice: a charset that writes
+            // a byte order mark (UTF-16) or keeps a shift state (ISO-2022) does not
+            int n = bytes.remaining();
+            if (twice.remaining() != 2 * n
+                    || !twice.duplicate().limit(n).equals(bytes)
+                    || !twice.duplicate().position(n).equals(bytes)) {
+                return super.writeTo(channel, charset);
+            }
+
+            // A block of as many units as fit, written again and again
+            int units = (int) Math.min(count, Math.max(1, BLOCK / Math.max(1, bytes.remaining())));
+            ByteBuffer block = ByteBuffer.allocate(units * bytes.remaining());
+            for (int i = 0; i < units; i++) {
+                block.put(bytes.duplicate());
+            }
+
+            long written = 0;
+            for (long left = count; left > 0; left -= units) {
+                block.rewind();
+                if (left < units) {
+                    block.limit((int) left * bytes.remaining());
+                }
+                written += writeFully(block, channel);
+            }
+            return written;
+        }
+    }
+
+    /* Two ropes one after the other */
+    private static final class Concat extends Rope {
+        private final Rope left;
+        private final Rope right;
+        private final long size;
+
+        Concat(Rope left, Rope right) {
+            this.left = left;
+            this.right = right;
+            this.size = left.size() + right.size();
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        char at(long index) {
+            Rope rope = this;
+            // Iterative descent, a long chain of concat() is deep on its left side
+            while (rope instanceof Concat) {
+                Concat concat = (Concat) rope;
+                if (index < concat.left.size()) {
+                    rope = concat.left;
+                } else {
+                    index -= concat.left.size();
+                    rope = concat.right;
+                }
+            }
+            return rope.at(index);
+        }
+
+        /* Iterative descents, the right sides (or the left sides) on the way are kept whole */
+        @Override
+        Rope slice(long start, long end) {
+            ArrayDeque<Rope> pieces = new ArrayDeque<>();
+            Rope rope = this;
+            Rope tail = null; // the right side cut by end, only the first cut can be partial
+            long tailEnd = 0;
+
+            // Down to the start: the right sides skipped on the way are whole pieces
+            while (rope instanceof Concat) {
+                Concat concat = (Concat) rope;
+                long middle = concat.left.size();
+                if (end <= middle) {
+                    rope = concat.left;
+                } else if (start >= middle) {
+                    rope = concat.right;
+                    start -= middle;
+                    end -= middle;
+                } else {
+                    if (end < concat.size) {
+                        tail = concat.right;
+                        tailEnd = end - middle;
+                    } else {
+                        pieces.addFirst(concat.right);
+                    }
+                    rope = concat.left;
+                    end = middle;
+                }
+            }
+            pieces.addFirst(rope.subRope(start, end));
+
+            // Down to the end of the cut right side: the left sides are whole pieces
+            if (tail != null) {
+                rope = tail;
+                end = tailEnd;
+                while (rope instanceof Concat) {
+                    Concat concat = (Concat) rope;
+                    long middle = concat.left.size();
+                    if (end <= middle) {
+                        rope = concat.left;
+                    } else {
+                        pieces.addLast(concat.left);
+                        rope = concat.right;
+                        end -= middle;
+                    }
+                }
+                pieces.addLast(rope.subRope(0, end));
+            }
+
+            CharSequence[] parts = pieces.toArray(new CharSequence[0]);
+            return Rope.concatAll(parts, 0, parts.length);
+        }
+
+        /* Iterative, the right sides still to copy are kept on a stack */
+        @Override
+        void copy(long from, long to, char[] dst, int dstBegin) {
+            ArrayDeque<Rope> pending = new ArrayDeque<>(); // whole right sides, the innermost on top
+            Rope rope = this;
+            Rope tail = null; // the right side cut by to, copied last
+            long tailEnd = 0;
+
+            while (true) {
+                while (rope instanceof Concat) {
+                    Concat concat = (Concat) rope;
+                    long middle = concat.left.size();
+                    if (to <= middle) {
+                        rope = concat.left;
+                    } else if (from >= middle) {
+                        rope = concat.right;
+                        from -= middle;
+                        to -= middle;
+                    } else {
+                        if (to < concat.size) {
+                            tail = concat.right;
+                            tailEnd = to - middle;
+                        } else {
+                            pending.push(concat.right);
+                        }
+                        rope = concat.left;
+                        to = middle;
+                    }
+                }
+
+                rope.copy(from, to, dst, dstBegin);
+                dstBegin += (int) (to - from);
+
+                if (!pending.isEmpty()) {
+                    rope = pending.pop();
+                    to = rope.size();
+                } else if (tail != null) {
+                    rope = tail;
+                    to = tailEnd;
+                    tail = null;
+                } else {
+                    return;
+                }
+                from = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package StringNumbersMath;
+
+import java.util.Arrays;
+
+public final class SuffixArray {
+
+    /**
+     * The sorted suffixes of a single (large) text, with the LCP array
+     *
+     * FindingLongestCommonPrefix sorts an array of strings to compare the first
+     * and the last one. Sorting all the suffixes of a text the same way answers
+     * questions on all its substrings at once, since every substring is the
+     * prefix of a suffix:
+     *
+     * a. The suffix array (the start of the suffixes in sorted order) is built
+     * in O(n) time by SA-IS (Nong, Zhang and Chan): the suffixes are classified
+     * as S (smaller than the next one) or L (larger), the leftmost S of each
+     * run (LMS) are sorted recursively, and the other suffixes are induced
+     * from them in two linear scans
+     * b. The LCP array (the common prefix length of the suffixes of consecutive
+     * ranks) is built in O(n) time by Kasai: going from a suffix to the next
+     * one in text order, the LCP shrinks by at most 1
+     * c. The suffixes starting with a pattern are consecutive in sorted order,
+     * so they are found with two binary searches, in O(m log n)
+     *
+     * The text is read as UTF-16 chars (a surrogate pair is 2 chars, a substring
+     * may split it). The instances are immutable and can be shared by threads.
+     * Memory: the chars of the text and 2 ints per char.
+     * */
+    private final char[] text;
+    private final int[] suffixes;
+    private final int[] lcp;
+
+    private SuffixArray(char[] text) {
+        this.text = text;
+
+        int[] s = new int[text.length];
+        int upper = 0;
+        for (int i = 0; i < text.length; i++) {
+            s[i] = text[i];
+            upper = Math.max(upper, text[i]);
+        }
+
+        this.suffixes = sais(s, upper);
+        this.lcp = kasai(s, suffixes);
+    }
+
+    public static SuffixArray of(CharSequence text) {
+        char[] chs = new char[text.length()];
+        for (int i = 0; i < chs.length; i++) {
+            chs[i] = text.charAt(i);
+        }
+        return new SuffixArray(chs);
+    }
+
+    public static SuffixArray of(String text) {
+        return new SuffixArray(text.toCharArray());
+    }
+
+    public int length() {
+        return text.length;
+    }
+
+    /* Start of the suffix of the given rank in sorted order */
+    public int suffix(int rank) {
+        return suffixes[rank];
+    }
+
+    /* Common prefix length of the suffixes of rank and rank + 1 */
+    public int lcp(int rank) {
+        return lcp[rank];
+    }
+
+    /* The longest substring occurring at least twice (occurrences may overlap), "" if there is none */
+    public String longestRepeatedSubstring() {
+        int best = -1;
+        for (int rank = 0; rank < lcp.length; rank++) {
+            if (best < 0 || lcp[rank] > lcp[best]) {
+                best = rank;
+            }
+        }
+
+        return best < 0 ? "" : new String(text, suffixes[best], lcp[best]);
+    }
+
+    /**
+     * Number of distinct non-empty substrings
+     * Each suffix brings its prefixes, but the ones shared with the previous suffix
+     * in sorted order were already counted: n(n + 1) / 2 minus the sum of the LCP array
+     * */
+    public long distinctSubstrings() {
+        long n = text.length;
+        long distinct = n * (n + 1) / 2;
+        for (int length : lcp) {
+            distinct -= length;
+        }
+        return distinct;
+    }
+
+    public boolean contains(CharSequence pattern) {
+        return pattern.length() == 0 || count(pattern) > 0;
+    }
+
+    /* Number of occurrences of pattern, overlapping ones included, 0 for an empty pattern */
+    public int count(CharSequence pattern) {
+        if (pattern.length() == 0) {
+            return 0;
+        }
+        String p = pattern.toString();
+        return bound(p, false) - bound(p, true);
+    }
+
+    /* Start of the occurrences of pattern, in text order */
+    public int[] positions(CharSequence pattern) {
+        if (pattern.length() == 0) {
+            return new int[0];
+        }
+
+        String p = pattern.toString();
+        int from = bound(p, true);
+        int[] positions = Arrays.copyOfRange(suffixes, from, bound(p, false));
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * First rank whose suffix is not smaller than the pattern (lower = true),
+     * or does not start with it and is greater (lower = false)
+     * */
+    private int bound(String pattern, boolean lower) {
+        int m = pattern.length();
+        int low = 0;
+        int high = suffixes.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int start = suffixes[middle];
+            int matched = CommonPrefix.length(text, start, pattern, m);
+
+            boolean before;
+            if (matched == m) {
+                // The suffix starts with the pattern
+                before = !lower;
+            } else if (start + matched == text.length) {
+                // The suffix is a proper prefix of the pattern
+                before = true;
+            } else {
+                before = text[start + matched] < pattern.charAt(matched);
+            }
+
+            if (before) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /* SA-IS on the symbols of s, all in [0, upper] */
+    private static int[] sais(int[] s, int upper) {
+        int n = s.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        if (n == 1) {
+            return new int[]{0};
+        }
+        if (n == 2) {
+            return s[0] < s[1] ? new int[]{0, 1} : new int[]{1, 0};
+        }
+
+        // 1. S or L type of every suffix (the last one is L)
+        boolean[] isS = new boolean[n];
+        for (int i = n - 2; i >= 0; i--) {
+            isS[i] = s[i] == s[i + 1] ? isS[i + 1] : s[i] < s[i + 1];
+        }
+
+        // 2. Start of the L and of the S suffixes of each symbol in the array
+        int[] startL = new int[upper + 2];
+        int[] startS = new int[upper + 2];
+        for (int i = 0; i < n; i++) {
+            if (!isS[i]) {
+                startS[s[i]]++;
+            } else {
+                startL[s[i] + 1]++;
+            }
+        }
+        for (int c = 0; c <= upper; c++) {
+            startS[c] += startL[c];
+            startL[c + 1] += startS[c];
+        }
+
+        // 3. Sort the LMS substrings by inducing from the LMS suffixes in text order
+        int[] lmsIndex = new int[n];
+        Arrays.fill(lmsIndex, -1);
+        int m = 0;
+        for (int i = 1; i < n; i++) {
+            if (!isS[i - 1] && isS[i]) {
+                lmsIndex[i] = m++;
+            }
+        }
+        int[] lms = new int[m];
+        for (int i = 1, k = 0; i < n; i++) {
+            if (!isS[i - 1] && isS[i]) {
+                lms[k++] = i;
+            }
+        }
+
+        int[] sa = new int[n];
+        induce(s, isS, sa, lms, startL, startS, upper);
+
+        if (m > 0) {
+            // 4. Name the LMS substrings in sorted order, equal ones get the same name
+            int[] sortedLms = new int[m];
+            for (int i = 0, k = 0; i < n; i++) {
+                if (lmsIndex[sa[i]] >= 0) {
+                    sortedLms[k++] = sa[i];
+                }
+            }
+
+            int[] reduced = new int[m];
+            int names = 0;
+            reduced[lmsIndex[sortedLms[0]]] = 0;
+            for (int i = 1; i < m; i++) {
+                int left = sortedLms[i - 1];
+                int right = sortedLms[i];
+                int endLeft = lmsIndex[left] + 1 < m ? lms[lmsIndex[left] + 1] : n;
+                int endRight = lmsIndex[right] + 1 < m ? lms[lmsIndex[right] + 1] : n;
+
+                boolean same = endLeft - left == endRight - right;
+                if (same) {
+                    while (left < endLeft && s[left] == s[right]) {
+                        left++;
+                        right++;
+                    }
+                    same = left != n && s[left] == s[right];
+                }
+
+                if (!same) {
+                    names++;
+                }
+                reduced[lmsIndex[sortedLms[i]]] = names;
+            }
+
+            // 5. Sort the LMS suffixes recursively, then induce all the suffixes from them
+            int[] reducedSa = sais(reduced, names);
+            for (int i = 0; i < m; i++) {
+                sortedLms[i] = lms[reducedSa[i]];
+            }
+            induce(s, isS, sa, sortedLms, startL, startS, upper);
+        }
+
+        return sa;
+    }
+
+    private static void induce(int[] s, boolean[] isS, int[] sa, int[] lms, int[] startL, int[] startS, int upper) {
+        int n = s.length;
+        Arrays.fill(sa, -1);
+
+        // The LMS suffixes at the start of the S buckets
+        int[] bucket = Arrays.copyOf(startS, upper + 2);
+        for (int d : lms) {
+            sa[bucket[s[d]]++] = d;
+        }
+
+        // The L suffixes, left to right, from the last suffix and the ones already placed
+        System.arraycopy(startL, 0, bucket, 0, upper + 2);
+        sa[bucket[s[n - 1]]++] = n - 1;
+        for (int i = 0; i < n; i++) {
+            int v = sa[i];
+            if (v >= 1 && !isS[v - 1]) {
+                sa[bucket[s[v - 1]]++] = v - 1;
+            }
+        }
+
+        // The S suffixes, right to left, at the end of the S buckets
+        System.arraycopy(startL, 0, bucket, 0, upper + 2);
+        for (int i = n - 1; i >= 0; i--) {
+            int v = sa[i];
+            if (v >= 1 && isS[v - 1]) {
+                sa[--bucket[s[v - 1] + 1]] = v - 1;
+            }
+        }
+    }
+
+    /* lcp[r] is the common prefix length of the suffixes of rank r and r + 1 */
+    private static int[] kasai(int[] s, int[] sa) {
+        int n = s.length;
+        int[] rank = new int[n];
+        for (int r = 0; r < n; r++) {
+            rank[sa[r]] = r;
+        }
+
+        int[] lcp = new int[Math.max(0, n - 1)];
+        int h = 0;
+        for (int i = 0; i < n; i++) {
+            if (h > 0) {
+                h--;
+            }
+            if (rank[i] == 0) {
+                continue;
+            }
+
+            int j = sa[rank[i] - 1];
+            while (i + h < n && j + h < n && s[i + h] == s[j + h]) {
+                h++;
+            }
+            lcp[rank[i] - 1] = h;
+        }
+
+        return lcp;
+    }
+}
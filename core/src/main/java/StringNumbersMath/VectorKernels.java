@@ -0,0 +1,155 @@
+package StringNumbersMath;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorKernels {
+
+    /**
+     * The jdk.incubator.vector passes of CharacterHistogram
+     *
+     * This class is only touched after checking that the incubator module is
+     * resolved, so the library still runs (with the scalar loops) on a JVM
+     * started without --add-modules jdk.incubator.vector.
+     * Every method processes whole vectors of the preferred species
+     * (the widest the CPU supports) and finishes the tail with a scalar loop.
+     * */
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+
+    /* Reverse the order of the lanes */
+    private static final VectorShuffle<Byte> REVERSED_BYTES = VectorShuffle.fromOp(BYTES, i -> BYTES.length() - 1 - i);
+    private static final VectorShuffle<Short> REVERSED_SHORTS = VectorShuffle.fromOp(SHORTS, i -> SHORTS.length() - 1 - i);
+
+    private VectorKernels() {
+    }
+
+    static int count(byte[] bytes, int offset, int length, byte b) {
+        int limit = offset + length;
+        int upperBound = offset + BYTES.loopBound(length);
+        int count = 0;
+        int i = offset;
+
+        for (; i < upperBound; i += BYTES.length()) {
+            count += ByteVector.fromArray(BYTES, bytes, i)
+                    .compare(VectorOperators.EQ, b)
+                    .trueCount();
+        }
+        for (; i < limit; i++) {
+            if (bytes[i] == b) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    static long count(ByteBuffer buffer, int offset, int length, byte b) {
+        int limit = offset + length;
+        int upperBound = offset + BYTES.loopBound(length);
+        long count = 0;
+        int i = offset;
+
+        for (; i < upperBound; i += BYTES.length()) {
+            count += ByteVector.fromByteBuffer(BYTES, buffer, i, ByteOrder.nativeOrder())
+                    .compare(VectorOperators.EQ, b)
+                    .trueCount();
+        }
+        for (; i < limit; i++) {
+            if (buffer.get(i) == b) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    static int count(char[] chs, int offset, int length, char ch) {
+        int limit = offset + length;
+        int upperBound = offset + SHORTS.loopBound(length);
+        int count = 0;
+        int i = offset;
+
+        for (; i < upperBound; i += SHORTS.length()) {
+            count += ShortVector.fromCharArray(SHORTS, chs, i)
+                    .compare(VectorOperators.EQ, (short) ch)
+                    .trueCount();
+        }
+        for (; i < limit; i++) {
+            if (chs[i] == ch) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /* OR all the chars together, the high byte of the result tells if one is above 255 */
+    static boolean isLatin1(char[] chs, int offset, int length) {
+        int limit = offset + length;
+        int upperBound = offset + SHORTS.loopBound(length);
+        ShortVector bits = ShortVector.zero(SHORTS);
+        int i = offset;
+
+        for (; i < upperBound; i += SHORTS.length()) {
+            bits = bits.or(ShortVector.fromCharArray(SHORTS, chs, i));
+        }
+
+        int tail = bits.reduceLanes(VectorOperators.OR) & 0xFFFF;
+        for (; i < limit; i++) {
+            tail |= chs[i];
+        }
+
+        return tail < CharacterHistogram.LATIN1_CODES;
+    }
+
+    /**
+     * Number of chars k (a multiple of the vector length) such that
+     * chs[from + j] == chs[to - 1 - j] for every j < k, none of them a surrogate
+     * A vector from the left is compared with the reversed vector ending at the same
+     * distance from the right. A surrogate pair stops it, since its two halves
+     * are not mirrored in a palindrome of code points
+     * */
+    static int mirrored(char[] chs, int from, int to) {
+        int matched = 0;
+
+        while (to - from - 2 * matched >= 2 * SHORTS.length()) {
+            ShortVector left = ShortVector.fromCharArray(SHORTS, chs, from + matched);
+            ShortVector right = ShortVector.fromCharArray(SHORTS, chs, to - matched - SHORTS.length())
+                    .rearrange(REVERSED_SHORTS);
+
+            if (!left.compare(VectorOperators.EQ, right).allTrue()
+                    || left.and((short) 0xF800).compare(VectorOperators.EQ, (short) 0xD800).anyTrue()) {
+                break;
+            }
+            matched += SHORTS.length();
+        }
+
+        return matched;
+    }
+
+    /* The same for bytes, stopping at the first non-ASCII byte (UTF-8 sequences are not mirrored either) */
+    static int mirrored(ByteBuffer buffer, int from, int to) {
+        int matched = 0;
+
+        while (to - from - 2 * matched >= 2 * BYTES.length()) {
+            ByteVector left = ByteVector.fromByteBuffer(BYTES, buffer, from + matched, ByteOrder.nativeOrder());
+            ByteVector right = ByteVector.fromByteBuffer(BYTES, buffer, to - matched - BYTES.length(), ByteOrder.nativeOrder())
+                    .rearrange(REVERSED_BYTES);
+
+            if (!left.compare(VectorOperators.EQ, right).allTrue()
+                    || left.compare(VectorOperators.LT, (byte) 0).anyTrue()) {
+                break;
+            }
+            matched += BYTES.length();
+        }
+
+        return matched;
+    }
+}
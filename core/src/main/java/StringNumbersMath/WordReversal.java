@@ -0,0 +1,315 @@
+package StringNumbersMath;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class WordReversal {
+
+    /**
+     * Reversal of the letters of the words and of the order of the words, in
+     * place in a char[] or from a Reader to a Writer
+     *
+     * split() allocates a String per word, and a StringBuilder per word to
+     * reverse it, then the runs of white spaces are lost (split(" ") keeps
+     * empty words, split(" +") merges them). Here the words are the runs of
+     * chars that are not white spaces (Character.isWhitespace()), and every
+     * white space stays as it is:
+     *
+     * a. The letters of a word are reversed in place by grapheme cluster: the
+     * clusters of more than one char (a surrogate pair, a letter and its
+     * accents, an emoji with its modifiers or its ZWJ sequence, a flag) are
+     * reversed first, then the whole word, so every cluster reads as before
+     * b. The order of the words is reversed by reversing the whole range, then
+     * every word and every run of white spaces again: they are reversed twice
+     * and are back as they were, in the mirrored places
+     * c. Both at once is the same with the clusters reversed first, and only the
+     * runs of white spaces reversed back
+     *
+     * Most code points are a cluster on their own, which is known when the next
+     * char is under U+0300 (no mark, joiner or surrogate is), so ASCII text is
+     * only swapped, and else by a bit of a table of the BMP chars. The clusters
+     * follow the common rules of Unicode (UAX #29), the Hangul syllables in
+     * jamos and the Indic conjuncts are not joined. A zero width joiner glues
+     * two emojis, after any other symbol it only extends it (a letter, a
+     * joiner and a letter are two clusters), so reversing the letters twice
+     * gives the text back.
+     *
+     * A Reader is read to a buffer of 8 K chars, and the part of the buffer that
+     * ends at the last white space (or line break) is reversed and written, the
+     * rest is moved to the front. The buffer only grows for a word (or a line)
+     * longer than itself. The order of the words can only be reversed line by
+     * line from a Reader, the last word of a stream is known at its end.
+     * */
+    private static final int BUFFER = 8192;
+
+    private static final char FIRST_MARK = '\u0300'; // no cluster extends with a char under it
+    private static final int ZERO_WIDTH_JOINER = 0x200D;
+
+    /* A bit per BMP char that extends a cluster (marks and the joiner), Character.getType() is slower */
+    private static final long[] EXTENDING = new long[1024];
+
+    static {
+        for (int c = FIRST_MARK; c <= Character.MAX_VALUE; c++) {
+            if (c == ZERO_WIDTH_JOINER || isExtend(c)) {
+                EXTENDING[c >>> 6] |= 1L << c;
+            }
+        }
+    }
+
+    private WordReversal() {
+    }
+
+    /* Reverses in place a range of chars, for one of the three reversals */
+    @FunctionalInterface
+    private interface RangeReversal {
+        void reverse(char[] chs, int from, int to);
+    }
+
+    /* Reverses the letters of each word of [from, to), the words stay in their order */
+    public static void reverseLetters(char[] chs, int from, int to) {
+        Objects.checkFromToIndex(from, to, chs.length);
+
+        for (int start = skipWhitespaces(chs, from, to); start < to; ) {
+            int end = skipWord(chs, start, to);
+            reverseClusters(chs, start, end);
+            reverse(chs, start, end);
+            start = skipWhitespaces(chs, end, to);
+        }
+    }
+
+    /* Reverses the order of the words of [from, to), the letters of each word stay in their order */
+    public static void reverseWords(char[] chs, int from, int to) {
+        Objects.checkFromToIndex(from, to, chs.length);
+        reverse(chs, from, to);
+
+        // Every word and every run of white spaces is reversed back
+        for (int start = from; start < to; ) {
+            int end = Compaction.isWhitespace(chs[start]) ? skipWhitespaces(chs, start, to) : skipWord(chs, start, to);
+            reverse(chs, start, end);
+            start = end;
+        }
+    }
+
+    /* Reverses both the order of the words of [from, to) and the letters of each word */
+    public static void reverseLettersAndWords(char[] chs, int from, int to) {
+        Objects.checkFromToIndex(from, to, chs.length);
+        reverseClusters(chs, from, to);
+        reverse(chs, from, to);
+
+        // The runs of white spaces are reversed back
+        for (int start = skipWord(chs, from, to); start < to; ) {
+            int end = skipWhitespaces(chs, start, to);
+            reverse(chs, start, end);
+            start = skipWord(chs, end, to);
+        }
+    }
+
+    /* Writes the text of in to out with the letters of each word reversed */
+    public static void reverseLetters(Reader in, Writer out) throws IOException {
+        transfer(in, out, false, WordReversal::reverseLetters);
+    }
+
+    /* Writes the text of in to out with the order of the words of each line reversed */
+    public static void reverseWords(Reader in, Writer out) throws IOException {
+        transfer(in, out, true, WordReversal::reverseWords);
+    }
+
+    /* Writes the text of in to out with each line read backwards */
+    public static void reverseLettersAndWords(Reader in, Writer out) throws IOException {
+        transfer(in, out, true, WordReversal::reverseLettersAndWords);
+    }
+
+    /* Reverses and writes the complete words (or lines) of the buffer every time it is filled */
+    private static void transfer(Reader in, Writer out, boolean byLine, RangeReversal reversal) throws IOException {
+        char[] buffer = new char[BUFFER];
+        int length = 0;
+        int read;
+
+        while ((read = in.read(buffer, length, buffer.length - length)) != -1) {
+            length += read;
+
+            int cut = byLine ? lastLineBreak(buffer, length) + 1 : lastWhitespace(buffer, length) + 1;
+            if (cut == 0) {
+                // A single word (or line) so far, wait for its end
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length << 1);
+                }
+                continue;
+            }
+
+            reverseRange(buffer, cut, byLine, reversal);
+            out.write(buffer, 0, cut);
+            System.arraycopy(buffer, cut, buffer, 0, length - cut);
+            length -= cut;
+        }
+
+        reverseRange(buffer, length, byLine, reversal);
+        out.write(buffer, 0, length);
+    }
+
+    /* Reverses [0, length), line by line if asked, the line breaks stay in place */
+    private static void reverseRange(char[] buffer, int length, boolean byLine, RangeReversal reversal) {
+        if (!byLine) {
+            reversal.reverse(buffer, 0, length);
+            return;
+        }
+
+        // \r\n is a line break followed by an empty line, which does not change
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            if (isLineBreak(buffer[i])) {
+                reversal.reverse(buffer, start, i);
+                start = i + 1;
+            }
+        }
+        reversal.reverse(buffer, start, length);
+    }
+
+    private static int lastWhitespace(char[] chs, int length) {
+        int i = length - 1;
+        while (i >= 0 && !Compaction.isWhitespace(chs[i])) {
+            i--;
+        }
+        return i;
+    }
+
+    private static int lastLineBreak(char[] chs, int length) {
+        int i = length - 1;
+        while (i >= 0 && !isLineBreak(chs[i])) {
+            i--;
+        }
+        return i;
+    }
+
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r';
+    }
+
+    private static int skipWhitespaces(char[] chs, int from, int to) {
+        while (from < to && Compaction.isWhitespace(chs[from])) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int skipWord(char[] chs, int from, int to) {
+        while (from < to && !Compaction.isWhitespace(chs[from])) {
+            from++;
+        }
+        return from;
+    }
+
+    private static void reverse(char[] chs, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            char c = chs[i];
+            chs[i] = chs[j];
+            chs[j] = c;
+        }
+    }
+
+    /* Reverses the chars of every grapheme cluster of [from, to) that has more than one */
+    private static void reverseClusters(char[] chs, int from, int to) {
+        int i = from;
+        while (i < to) {
+            boolean pair = i + 1 < to && Character.isSurrogatePair(chs[i], chs[i + 1]);
+            int next = pair ? i + 2 : i + 1;
+
+            // Most code points are a cluster on their own: nothing extends them and they are not half a flag
+            if (next == to || !extendsCluster(chs, next, to)
+                    && !(pair && isRegionalIndicator(Character.toCodePoint(chs[i], chs[i + 1])))) {
+                if (pair) {
+                    char c = chs[i];
+                    chs[i] = chs[i + 1];
+                    chs[i + 1] = c;
+                }
+                i = next;
+                continue;
+            }
+
+            int end = clusterEnd(chs, i, to);
+            reverse(chs, i, end);
+            i = end;
+        }
+    }
+
+    /* Whether the code point at i extends the cluster before it, true for a joiner */
+    private static boolean extendsCluster(char[] chs, int i, int to) {
+        char c = chs[i];
+        if (!Character.isSurrogate(c)) {
+            return (EXTENDING[c >>> 6] & 1L << c) != 0;
+        }
+        return isExtend(Character.codePointAt(chs, i, to));
+    }
+
+    /* The end of the grapheme cluster that starts at i, a white space is always a cluster on its own */
+    private static int clusterEnd(char[] chs, int i, int to) {
+        int cp = Character.codePointAt(chs, i, to);
+        int end = i + Character.charCount(cp);
+        if (Compaction.isWhitespace(chs[i])) {
+            return end;
+        }
+
+        // Two regional indicators make a flag
+        if (isRegionalIndicator(cp) && end < to) {
+            int next = Character.codePointAt(chs, end, to);
+            if (isRegionalIndicator(next)) {
+                end += Character.charCount(next);
+            }
+        }
+
+        // The last symbol of the cluster that is not a mark, an emoji can be joined to it
+        int last = cp;
+        while (end < to) {
+            int next = Character.codePointAt(chs, end, to);
+            if (isExtend(next)) {
+                end += Character.charCount(next);
+            } else if (next == ZERO_WIDTH_JOINER) {
+                // The joiner extends the cluster, and glues an emoji to an emoji (a ZWJ sequence)
+                end++;
+                int glued = end < to ? Character.codePointAt(chs, end, to) : -1;
+                if (isPictographic(last) && isPictographic(glued)) {
+                    end += Character.charCount(glued);
+                    last = glued;
+                } else {
+                    last = ZERO_WIDTH_JOINER;
+                }
+            } else {
+                break;
+            }
+        }
+        return end;
+    }
+
+    /* Marks (accents, variation selectors), emoji modifiers and tags extend the cluster before them */
+    private static boolean isExtend(int cp) {
+        switch (Character.getType(cp)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.COMBINING_SPACING_MARK:
+                return true;
+            default:
+                return cp >= 0x1F3FB && cp <= 0x1F3FF || cp >= 0xE0020 && cp <= 0xE007F;
+        }
+    }
+
+    private static boolean isRegionalIndicator(int cp) {
+        return cp >= 0x1F1E6 && cp <= 0x1F1FF;
+    }
+
+    /**
+     * Emojis, the Extended_Pictographic property of UAX #29, which Character only
+     * has from Java 21: the pictographs of plane 1 (but the halves of the flags and
+     * the skin tones), and the symbols of the BMP blocks that emojis come from
+     * */
+    private static boolean isPictographic(int cp) {
+        if (cp >= 0x1F000) {
+            return cp <= 0x1FFFD && !isRegionalIndicator(cp) && !(cp >= 0x1F3FB && cp <= 0x1F3FF);
+        }
+        return cp == 0x00A9 || cp == 0x00AE || cp == 0x203C || cp == 0x2049
+                || cp >= 0x2100 && cp <= 0x2BFF && Character.getType(cp) == Character.OTHER_SYMBOL
+                || cp == 0x3030 || cp == 0x303D || cp == 0x3297 || cp == 0x3299;
+    }
+}
@@ -0,0 +1,6 @@
+module javacodingproblems.core {
+    // Optional at runtime, CharacterHistogram falls back to scalar loops without it
+    requires static jdk.incubator.vector;
+
+    exports StringNumbersMath;
+}
@@ -0,0 +1,121 @@
+package StringNumbersMath;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AhoCorasickTest {
+
+    @Test
+    void findsTheKeywordsOfUshers() {
+        AhoCorasick automaton = AhoCorasick.compile("he", "she", "his", "hers");
+
+        // she and he end at the same position, the longest one comes first
+        assertEquals("[" + match(1, 1, 4) + ", " + match(0, 2, 4) + ", " + match(3, 2, 6) + "]",
+                automaton.findAll("ushers").toString());
+        assertEquals(3, automaton.count("ushers"));
+        // Without overlaps the shortest one wins, and hers starts inside he
+        assertEquals(List.of(match(0, 2, 4)).toString(), automaton.findAllNonOverlapping("ushers").toString());
+    }
+
+    @Test
+    void nonOverlappingKeepsTheMaximumNumberOfMatches() {
+        assertEquals(1, AhoCorasick.compile("11").countNonOverlapping("111"));
+        assertEquals(2, AhoCorasick.compile("11").count("111"));
+        // abc would hide bc and cd, the shortest match ending first wins
+        assertEquals(2, AhoCorasick.compile("abcd", "b", "cd").countNonOverlapping("abcd"));
+    }
+
+    @Test
+    void duplicateKeywordsMatchUnderTheirFirstIndex() {
+        AhoCorasick automaton = AhoCorasick.compile("ab", "b", "ab");
+
+        assertEquals(List.of("ab", "b", "ab"), automaton.keywords());
+        assertEquals("[" + match(0, 0, 2) + ", " + match(1, 1, 2) + "]", automaton.findAll("ab").toString());
+    }
+
+    @Test
+    void aLoneSurrogateKeywordMatchesInsideAPair() {
+        AhoCorasick automaton = AhoCorasick.compile("😀", "\uD83D");
+
+        assertEquals("[" + match(1, 0, 1) + ", " + match(0, 0, 2) + ", " + match(1, 2, 3) + "]",
+                automaton.findAll("😀\uD83D").toString());
+    }
+
+    @Test
+    void emptyKeywordsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> AhoCorasick.compile("a", ""));
+        assertEquals(0, AhoCorasick.compile().count("abc"));
+    }
+
+    @Test
+    void matchesEveryKeywordAtEveryPosition() {
+        Random random = new Random(8);
+        String alphabet = "abc😀";
+
+        for (int round = 0; round < 400; round++) {
+            List<String> keywords = new ArrayList<>();
+            for (int k = 1 + random.nextInt(6); k > 0; k--) {
+                keywords.add(random(alphabet, random, 1 + random.nextInt(4)));
+            }
+            String text = random(alphabet, random, random.nextInt(80));
+            AhoCorasick automaton = AhoCorasick.compile(keywords);
+
+            List<String> listened = new ArrayList<>();
+            automaton.forEachMatch(text, true, (keyword, start, end) -> listened.add(match(keyword, start, end)));
+
+            String expected = naive(keywords, text, true).toString();
+            assertEquals(expected, automaton.findAll(text).toString(), keywords + " in " + text);
+            assertEquals(expected, listened.toString());
+            assertEquals(naive(keywords, text, true).size(), automaton.count(text));
+            assertEquals(naive(keywords, text, false).toString(), automaton.findAllNonOverlapping(text).toString(),
+                    keywords + " in " + text);
+            assertEquals(naive(keywords, text, false).size(), automaton.countNonOverlapping(text));
+        }
+    }
+
+    /* Every end position, the keywords ending there from the longest, or the shortest one after the last match */
+    private static List<String> naive(List<String> keywords, String text, boolean overlapping) {
+        List<String> matches = new ArrayList<>();
+        int restart = 0;
+
+        for (int end = 1; end <= text.length(); end++) {
+            int shortest = -1;
+            for (int length = end; length > 0; length--) {
+                int keyword = keywords.indexOf(text.substring(end - length, end));
+                if (keyword < 0) {
+                    continue;
+                }
+                if (overlapping) {
+                    matches.add(match(keyword, end - length, end));
+                } else if (end - length >= restart) {
+                    shortest = keyword;
+                }
+            }
+            if (shortest >= 0) {
+                matches.add(match(shortest, end - keywords.get(shortest).length(), end));
+                restart = end;
+            }
+        }
+
+        return matches;
+    }
+
+    private static String match(int keyword, int start, int end) {
+        return new AhoCorasick.Match(keyword, start, end).toString();
+    }
+
+    private static String random(String alphabet, Random random, int codePoints) {
+        int[] symbols = alphabet.codePoints().toArray();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < codePoints; i++) {
+            sb.appendCodePoint(symbols[random.nextInt(symbols.length)]);
+        }
+        return sb.toString();
+    }
+}
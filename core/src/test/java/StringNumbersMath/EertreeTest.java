@@ -0,0 +1,96 @@
+package StringNumbersMath;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EertreeTest {
+
+    @Test
+    void eertreeHasSevenDistinctPalindromes() {
+        // e, r, t, ee, rtr, ertre, eertree
+        Eertree tree = Eertree.of("eertree");
+
+        assertEquals(7, tree.countDistinctPalindromes());
+        assertEquals(12, tree.countPalindromicSubstrings());
+        assertEquals("eertree", tree.longestPalindromicSubstring());
+        assertEquals(3, tree.countPalindromicSuffixes());
+    }
+
+    @Test
+    void appendTellsWhetherAPalindromeIsNew() {
+        Eertree tree = new Eertree();
+
+        assertTrue(tree.append('a'));
+        assertTrue(tree.append('b'));
+        assertTrue(tree.append('a'));
+        // abab ends with bab, which is new
+        assertTrue(tree.append('b'));
+        assertEquals(3, tree.longestPalindromicSuffix());
+        assertFalse(Eertree.of("xyz").append('x'));
+        assertThrows(IllegalArgumentException.class, () -> tree.append(-1));
+    }
+
+    @Test
+    void aSurrogatePairIsAppendedAsOneCodePoint() {
+        Eertree tree = new Eertree();
+        tree.append("😀a");
+        tree.append("😀");
+
+        assertEquals(3, tree.length());
+        assertEquals(3, tree.longestPalindromicSuffix());
+        assertEquals("😀a😀", tree.longestPalindromicSubstring());
+    }
+
+    @Test
+    void growsLikeTheTextItWasGiven() {
+        Random random = new Random(1_019);
+        int[] symbols = {'a', 'b', 'c', 0x1F600};
+
+        for (int round = 0; round < 150; round++) {
+            Eertree tree = new Eertree();
+            StringBuilder text = new StringBuilder();
+            Set<String> seen = new HashSet<>();
+            long substrings = 0;
+
+            for (int step = 0; step < 50; step++) {
+                int cp = symbols[random.nextInt(1 + round % symbols.length)];
+                text.appendCodePoint(cp);
+                String s = text.toString();
+
+                // The palindromes ending at the new code point, longest first
+                int suffixes = 0;
+                int longestSuffix = 0;
+                boolean fresh = false;
+                for (int from = 0; from < s.length(); from += Character.charCount(s.codePointAt(from))) {
+                    String suffix = s.substring(from);
+                    if (new StringBuilder(suffix).reverse().toString().equals(suffix)) {
+                        suffixes++;
+                        longestSuffix = Math.max(longestSuffix, suffix.codePointCount(0, suffix.length()));
+                        fresh |= seen.add(suffix);
+                    }
+                }
+                substrings += suffixes;
+
+                assertEquals(fresh, tree.append(cp), s);
+                assertEquals(suffixes, tree.countPalindromicSuffixes(), s);
+                assertEquals(longestSuffix, tree.longestPalindromicSuffix(), s);
+                assertEquals(seen.size(), tree.countDistinctPalindromes(), s);
+                assertEquals(substrings, tree.countPalindromicSubstrings(), s);
+            }
+
+            // Built at once, by Manacher, the answers are the same
+            Manacher manacher = Manacher.of(text);
+            assertEquals(manacher.countPalindromicSubstrings(), tree.countPalindromicSubstrings());
+            assertEquals(manacher.longestPalindromicSubstring(), tree.longestPalindromicSubstring());
+            assertEquals(tree.countDistinctPalindromes(), Eertree.of(text).countDistinctPalindromes());
+        }
+    }
+}
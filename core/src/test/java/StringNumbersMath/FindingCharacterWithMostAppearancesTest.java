@@ -0,0 +1,142 @@
+package StringNumbersMath;
+
+import StringNumbersMath.FindingCharacterWithMostAppearances.TopKSketch;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FindingCharacterWithMostAppearancesTest {
+
+    // Skewed on purpose, so the leaders are not all tied
+    private static final String WEIGHTED = "eeeeeettttaaoinsh  \t😀😀😀🙂ü";
+
+    @Test
+    void topKRanksLikeSortingAllCounts() {
+        Random random = new Random(7);
+
+        for (int round = 0; round < 300; round++) {
+            String text = randomText(random, random.nextInt(200));
+            int k = random.nextInt(10);
+
+            assertEquals(exactTopK(text, k), FindingCharacterWithMostAppearances.topK(text, k), text);
+        }
+    }
+
+    @Test
+    void tiesGoToTheSmallerCodePoint() {
+        List<Entry<Integer, Long>> top = FindingCharacterWithMostAppearances.topK("zzyyxx", 2);
+
+        assertEquals(List.of(Map.entry((int) 'x', 2L), Map.entry((int) 'y', 2L)), top);
+    }
+
+    @Test
+    void negativeKIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> FindingCharacterWithMostAppearances.topK("abc", -1));
+        assertThrows(IllegalArgumentException.class, () -> new TopKSketch(-1));
+    }
+
+    @Test
+    void wideSketchFindsTheExactLeaders() {
+        Random random = new Random(11);
+
+        for (int round = 0; round < 100; round++) {
+            String text = randomText(random, 1 + random.nextInt(2_000));
+            TopKSketch sketch = new TopKSketch(4);
+            sketch.accept(text);
+
+            assertEquals(exactTopK(text, 4), sketch.topK(), text);
+        }
+    }
+
+    @Test
+    void narrowSketchNeverUnderestimates() {
+        Random random = new Random(13);
+        String text = randomText(random, 5_000);
+        Map<Integer, Long> counts = counts(text);
+
+        // 2 counters per row for 11 code points: the estimates collide but stay upper bounds
+        TopKSketch sketch = new TopKSketch(5, 2, 3);
+        sketch.accept(text);
+
+        assertEquals(5, sketch.topK().size());
+        for (Entry<Integer, Long> leader : sketch.topK()) {
+            assertTrue(leader.getValue() >= counts.get(leader.getKey()), leader.toString());
+        }
+    }
+
+    @Test
+    void chunksGiveTheSameSketchAsTheWholeText() {
+        Random random = new Random(17);
+
+        for (int round = 0; round < 100; round++) {
+            String text = randomText(random, random.nextInt(500));
+            TopKSketch whole = new TopKSketch(3, 64, 2);
+            whole.accept(text);
+
+            // The chunks may split a surrogate pair, which is carried to the next one
+            TopKSketch chunked = new TopKSketch(3, 64, 2);
+            for (int from = 0; from < text.length(); ) {
+                int to = Math.min(text.length(), from + 1 + random.nextInt(5));
+                chunked.accept(text.substring(from, to));
+                from = to;
+            }
+
+            assertEquals(whole.topK(), chunked.topK(), text);
+        }
+    }
+
+    @Test
+    void finishCountsATrailingHighSurrogate() {
+        TopKSketch sketch = new TopKSketch(3);
+        sketch.accept("ab\uD83D");
+
+        // The surrogate may still be the first half of a pair
+        assertEquals(2, sketch.topK().size());
+
+        sketch.finish();
+        assertEquals(FindingCharacterWithMostAppearances.topK("ab\uD83D", 3), sketch.topK());
+
+        // It keeps accepting input afterwards
+        sketch.accept("a");
+        assertEquals(Map.entry((int) 'a', 2L), sketch.topK().get(0));
+    }
+
+    private static String randomText(Random random, int codePoints) {
+        int[] symbols = WEIGHTED.codePoints().toArray();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < codePoints; i++) {
+            sb.appendCodePoint(symbols[random.nextInt(symbols.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static Map<Integer, Long> counts(String text) {
+        Map<Integer, Long> counts = new HashMap<>();
+        text.codePoints()
+            .filter(cp -> !Character.isWhitespace(cp))
+            .forEach(cp -> counts.merge(cp, 1L, Long::sum));
+        return counts;
+    }
+
+    private static List<Entry<Integer, Long>> exactTopK(String text, int k) {
+        List<Entry<Integer, Long>> all = new ArrayList<>(counts(text).entrySet());
+        all.sort(Comparator.<Entry<Integer, Long>>comparingLong(Entry::getValue).reversed()
+                .thenComparing(Entry::getKey));
+
+        List<Entry<Integer, Long>> top = new ArrayList<>();
+        for (Entry<Integer, Long> entry : all.subList(0, Math.min(k, all.size()))) {
+            top.add(Map.entry(entry.getKey(), entry.getValue()));
+        }
+        return top;
+    }
+}
@@ -0,0 +1,116 @@
+package StringNumbersMath;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JoinerTest {
+
+    @Test
+    void aCsvLineIsWrittenAsItsUtf8Bytes() throws IOException {
+        Joiner csv = Joiner.on(',');
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals("id,名前,€", csv.join("id", "名前", "€"));
+        assertEquals(13, csv.joinTo(out, "id", "名前", "€"));
+        assertArrayEquals("id,名前,€".getBytes(StandardCharsets.UTF_8), out.toByteArray());
+        assertEquals(7, csv.length(List.of("id", "名前", "€")));
+        assertEquals(0, csv.encodedLength(List.of()));
+        assertEquals("", csv.join(Collections.emptyList()));
+    }
+
+    @Test
+    void aFullBufferKeepsItsPosition() {
+        ByteBuffer buffer = ByteBuffer.allocate(8).put((byte) '>');
+
+        assertThrows(BufferOverflowException.class, () -> Joiner.on(", ").joinTo(buffer, "abc", "def"));
+        assertEquals(1, buffer.position());
+        Joiner.on(", ").joinTo(buffer, "ab", "cd");
+        assertEquals(">ab, cd", new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void aPairSplitBetweenTwoBatchesIsEncodedWhole() throws IOException {
+        // The 256th part ends a batch with a high surrogate, the next part starts with the low one
+        List<String> parts = new ArrayList<>(Collections.nCopies(255, "x"));
+        parts.add("\uD83D");
+        parts.add("\uDE00y");
+        byte[] expected = String.join("", parts).getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(expected.length, Joiner.on("").joinTo(out, parts));
+        assertArrayEquals(expected, out.toByteArray());
+        assertEquals(expected.length, Joiner.on("").encodedLength(parts));
+        assertEquals(expected.length, Joiner.on("").joinTo(ByteBuffer.allocate(expected.length), parts).position());
+    }
+
+    @Test
+    void aDelimiterMayCompleteASurrogatePair() throws IOException {
+        Joiner joiner = Joiner.on("\uDE00");
+        // The 256th part ends a batch with a high surrogate, the delimiter after it is the low one
+        List<String> parts = new ArrayList<>(Collections.nCopies(255, "a"));
+        parts.add("\uD83D");
+        parts.add("b");
+        byte[] expected = String.join("\uDE00", parts).getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(515, joiner.joinTo(out, parts));
+        assertArrayEquals(expected, out.toByteArray());
+        assertEquals(5, joiner.encodedLength(List.of("\uD83D", "x")));
+        assertEquals(5, Joiner.on("\uD83D").encodedLength(List.of("\uDE00", "\uDE00")));
+    }
+
+    @Test
+    void everyBatchBoundaryGivesTheBytesOfStringJoin() throws IOException {
+        Random random = new Random(24);
+        String[] delimiters = {"", ",", " | ", "€", "😀", "\uD83D", "\uDE00", "\uDE00-\uD83D"};
+        String[] symbols = {"a", "é", "€", "😀", "\uD83D", "\uDE00", "\t"};
+
+        for (int round = 0; round < 300; round++) {
+            String delimiter = delimiters[round % delimiters.length];
+            // Many short parts end batches by their count, a few long ones by their chars
+            List<String> parts = new ArrayList<>();
+            int longest = random.nextBoolean() ? 3 : 400;
+            for (int i = random.nextInt(round < 100 ? 20 : 1_200); i > 0; i--) {
+                StringBuilder part = new StringBuilder();
+                for (int k = random.nextInt(longest); k > 0; k--) {
+                    part.append(symbols[random.nextInt(symbols.length)]);
+                }
+                parts.add(part.toString());
+            }
+
+            Joiner joiner = Joiner.on(delimiter);
+            String joined = String.join(delimiter, parts);
+            byte[] expected = joined.getBytes(StandardCharsets.UTF_8);
+            String message = "delimiter " + delimiter + ", " + parts.size() + " parts";
+
+            assertEquals(joined, joiner.join(parts), message);
+            assertEquals(joined, joiner.join(parts.stream()), message);
+            assertEquals(joined.length(), joiner.length(parts), message);
+            assertEquals(expected.length, joiner.encodedLength(parts), message);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(expected.length, joiner.joinTo(out, parts.stream()), message);
+            assertArrayEquals(expected, out.toByteArray(), message);
+
+            ByteBuffer buffer = ByteBuffer.allocate(expected.length + 1).put((byte) 0);
+            joiner.joinTo(buffer, parts.toArray(new CharSequence[0]));
+            assertArrayEquals(expected, Arrays.copyOfRange(buffer.array(), 1, buffer.position()), message);
+            assertArrayEquals(expected, joiner.joinTo(ByteBuffer.allocate(expected.length), parts.stream()).array(),
+                    message);
+        }
+    }
+}
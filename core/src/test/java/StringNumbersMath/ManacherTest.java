@@ -0,0 +1,93 @@
+package StringNumbersMath;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ManacherTest {
+
+    @Test
+    void radiiOfAbaaba() {
+        Manacher manacher = Manacher.of("abaaba");
+
+        assertArrayEquals(new int[]{1, 2, 1, 1, 2, 1}, manacher.oddRadii());
+        assertArrayEquals(new int[]{0, 0, 0, 3, 0, 0}, manacher.evenRadii());
+        assertEquals(11, manacher.countPalindromicSubstrings());
+        assertEquals("abaaba", manacher.longestPalindromicSubstring());
+    }
+
+    @Test
+    void theLeftmostOfEqualLongestWins() {
+        assertEquals("aba", Manacher.of("xabacdcx").longestPalindromicSubstring());
+        assertEquals("x", Manacher.of("xyz").longestPalindromicSubstring());
+        assertEquals("", Manacher.of("").longestPalindromicSubstring());
+    }
+
+    @Test
+    void positionsCountCodePoints() {
+        Manacher manacher = Manacher.of("a😀a😁");
+
+        assertEquals(4, manacher.length());
+        assertEquals(2, manacher.oddRadius(1));
+        assertTrue(manacher.isPalindrome(0, 3));
+        assertFalse(manacher.isPalindrome(1, 4));
+        assertTrue(manacher.isPalindrome(4, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> manacher.isPalindrome(2, 5));
+    }
+
+    @Test
+    void radiiAgreeWithExpandingEveryCenter() {
+        Random random = new Random(19);
+        String[] symbols = {"a", "b", "😀"};
+
+        for (int round = 0; round < 400; round++) {
+            StringBuilder sb = new StringBuilder();
+            // Long runs of one symbol and mirrored halves, where the mirror radius is reused the most
+            for (int i = random.nextInt(30); i > 0; i--) {
+                sb.append(symbols[random.nextInt(round % 3 + 1)]);
+            }
+            if (random.nextBoolean()) {
+                sb.append(new StringBuilder(sb).reverse());
+            }
+            String s = sb.toString();
+            int[] cps = s.codePoints().toArray();
+            Manacher manacher = Manacher.of(s);
+
+            long count = 0;
+            for (int i = 0; i < cps.length; i++) {
+                int odd = 1;
+                while (i - odd >= 0 && i + odd < cps.length && cps[i - odd] == cps[i + odd]) {
+                    odd++;
+                }
+                int even = 0;
+                while (i - even > 0 && i + even < cps.length && cps[i - even - 1] == cps[i + even]) {
+                    even++;
+                }
+                assertEquals(odd, manacher.oddRadius(i), s + " odd at " + i);
+                assertEquals(even, manacher.evenRadius(i), s + " even at " + i);
+                count += odd + even;
+            }
+            assertEquals(count, manacher.countPalindromicSubstrings(), s);
+
+            String longest = "";
+            for (int from = 0; from <= cps.length; from++) {
+                for (int to = from; to <= cps.length; to++) {
+                    String range = new String(cps, from, to - from);
+                    // reverse() keeps the surrogate pairs in order
+                    boolean palindrome = new StringBuilder(range).reverse().toString().equals(range);
+                    assertEquals(palindrome, manacher.isPalindrome(from, to), s + " [" + from + ", " + to + ")");
+                    if (palindrome && to - from > longest.codePointCount(0, longest.length())) {
+                        longest = range;
+                    }
+                }
+            }
+            assertEquals(longest, manacher.longestPalindromicSubstring(), s);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package StringNumbersMath;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MappedFilesTest {
+
+    // A file of 3 MB and a bit is cut in regions of 1 MB (the smallest region size)
+    private static final int REGION = 1 << 20;
+    private static final int REGIONS = 3;
+
+    @Test
+    void regionsCoverTheFileInOrder() throws IOException {
+        Path file = write("x".repeat(REGIONS * REGION + 10));
+        try {
+            long next = 0;
+            for (long[] region : MappedFiles.scan(file, 2, (buffer, start, length) -> new long[]{start, length, buffer.limit()})) {
+                assertEquals(next, region[0]);
+                assertEquals(Math.min(region[1] + 2, REGIONS * REGION + 10 - region[0]), region[2]);
+                next += region[1];
+            }
+            assertEquals(REGIONS * REGION + 10, next);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void aRunOfOneLetterIsStitchedAtEveryBoundary() throws IOException {
+        // 2^20 is not a multiple of 3, so the non-overlapping occurrences of aaa straddle the boundaries
+        String text = "a".repeat(REGIONS * REGION + 7);
+        Path file = write(text);
+        try {
+            assertEquals(text.length() / 3, CountingSubstringOccurrencesInString.countStringInFile(file, "aaa", false));
+            assertEquals(text.length() - 2, CountingSubstringOccurrencesInString.countStringInFile(file, "aaa", true));
+            assertEquals(text.length(), CountingOccurrencesOfCertainCharacter.countOccurrencesOfACertainCharacter(file, 'a'));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void substringCountsAgreeWithTheTextInMemory() throws IOException {
+        Random random = new Random(10);
+        String[] patterns = {"aba", "abab", "€a€", "😀😀", "b"};
+
+        for (String pattern : patterns) {
+            // The pattern is planted across each boundary, cut after each of its bytes in turn
+            String text = text(random, "ab€😀", pattern);
+            Path file = write(text);
+            try {
+                String bytes = new String(text.getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1);
+                String bytePattern = new String(pattern.getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1);
+
+                assertEquals(count(bytes, bytePattern, bytePattern.length()),
+                        CountingSubstringOccurrencesInString.countStringInFile(file, pattern, false), pattern);
+                assertEquals(count(bytes, bytePattern, 1),
+                        CountingSubstringOccurrencesInString.countStringInFile(file, pattern, true), pattern);
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void characterCountsAgreeWithTheTextInMemory() throws IOException {
+        String text = text(new Random(11), "aé€😀 ", "😀");
+        Path file = write(text);
+        try {
+            for (String ch : new String[]{"a", " ", "é", "€", "😀"}) {
+                assertEquals(count(text, ch, ch.length()),
+                        CountingOccurrencesOfCertainCharacter.countOccurrencesOfACertainCharacterCoverUnicode(file, ch), ch);
+            }
+            assertEquals(0, CountingOccurrencesOfCertainCharacter.countOccurrencesOfACertainCharacter(file, '\uD83D'));
+            assertEquals(-1, CountingOccurrencesOfCertainCharacter.countOccurrencesOfACertainCharacterCoverUnicode(file, "ab"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void sequencesCutByABoundaryAreDecodedOnce() throws IOException {
+        String text = text(new Random(12), "aé€😀\n", "€😀é");
+        Path file = write(text);
+        try {
+            long[] expected = new long[Character.MAX_VALUE + 1];
+            text.chars().forEach(ch -> expected[ch]++);
+
+            assertArrayEquals(expected, CountingDuplicateCharacters.countDuplicateCharactersInParallel(file));
+            Map<Character, Long> map = CountingDuplicateCharacters.countingDuplicateCharactersUsingMap(file);
+            assertEquals(text.chars().distinct().count(), map.size());
+            assertEquals(Long.valueOf(expected['€']), map.get('€'));
+            assertEquals(Long.valueOf(expected['\uDE00']), map.get('\uDE00'));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void smallAndEmptyFilesAreOneRegion() throws IOException {
+        Path file = write("");
+        try {
+            assertEquals(0, CountingSubstringOccurrencesInString.countStringInFile(file, "a", true));
+            assertEquals(0, CountingDuplicateCharacters.countingDuplicateCharactersUsingMap(file).size());
+
+            Files.writeString(file, "1111");
+            assertEquals(2, CountingSubstringOccurrencesInString.countStringInFile(file, "11", false));
+            assertEquals(3, CountingSubstringOccurrencesInString.countStringInFile(file, "11", true));
+            assertEquals(0, CountingSubstringOccurrencesInString.countStringInFile(file, "", true));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /* Random symbols, with the UTF-8 bytes of planted cut by each region boundary at every possible place */
+    private static String text(Random random, String alphabet, String planted) {
+        int[] symbols = alphabet.codePoints().toArray();
+        int plantedBytes = planted.getBytes(StandardCharsets.UTF_8).length;
+        StringBuilder sb = new StringBuilder();
+        long bytes = 0;
+
+        for (int boundary = 1; boundary <= REGIONS; boundary++) {
+            int cut = 1 + boundary % Math.max(1, plantedBytes - 1);
+            long target = (long) boundary * REGION - cut;
+            while (bytes < target - 4) {
+                int symbol = symbols[random.nextInt(symbols.length)];
+                sb.appendCodePoint(symbol);
+                bytes += new String(Character.toChars(symbol)).getBytes(StandardCharsets.UTF_8).length;
+            }
+            for (; bytes < target; bytes++) {
+                sb.append('a');
+            }
+            sb.append(planted).append(planted);
+            bytes += 2L * plantedBytes;
+        }
+
+        return sb.append("the end").toString();
+    }
+
+    private static long count(String text, String pattern, int step) {
+        long count = 0;
+        for (int i = text.indexOf(pattern); i >= 0; i = text.indexOf(pattern, i + step)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static Path write(String text) throws IOException {
+        Path file = Files.createTempFile("mapped", ".txt");
+        Files.writeString(file, text);
+        return file;
+    }
+}
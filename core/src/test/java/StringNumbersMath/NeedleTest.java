@@ -0,0 +1,162 @@
+package StringNumbersMath;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NeedleTest {
+
+    @Test
+    void countSkipsOrNotTheOverlaps() {
+        Needle needle = Needle.compile("11");
+
+        assertEquals(1, needle.count("111"));
+        assertEquals(2, needle.countOverlapping("111"));
+        assertEquals(2, needle.countOverlapping(utf8("111")));
+    }
+
+    @Test
+    void emptyNeedleIsFoundEverywhereButNeverCounted() {
+        Needle needle = Needle.compile("");
+
+        assertTrue(needle.contains(""));
+        assertEquals(2, needle.indexOf("abc", 2));
+        assertEquals(-1, needle.indexOf("abc", 4));
+        assertEquals(0, needle.count("abc"));
+        assertEquals(0, needle.countOverlapping(utf8("abc")));
+    }
+
+    @Test
+    void charArrayRangeGivesArrayIndexes() {
+        char[] chs = "needle|haystack with a needle|needle".toCharArray();
+        Needle needle = Needle.compile("needle");
+
+        assertEquals(23, needle.indexOf(chs, 7, 22));
+        assertEquals(1, needle.count(chs, 7, 22));
+        assertFalse(needle.contains(chs, 7, 21));
+    }
+
+    @Test
+    void byteBufferIndexIsAbsoluteAndPositionStays() {
+        ByteBuffer buffer = utf8("héllo wörld, wörld");
+        buffer.position(8);
+
+        // ö is two bytes, the first wörld starts at byte 7
+        assertEquals(15, Needle.compile("wörld").indexOf(buffer));
+        assertEquals(8, buffer.position());
+        assertEquals(1, Needle.compile("wörld").count(buffer));
+    }
+
+    @Test
+    void periodicInputsStayLinearAndExact() {
+        String haystack = "a".repeat(200_000);
+        // a...ab has no small period, (ab)...abb falls back on a periodic right part
+        String[] needles = {"a".repeat(1_000) + "b", "a".repeat(999) + "ba", "ab".repeat(300) + "b",
+                "ba".repeat(300), "a".repeat(4)};
+
+        for (String pattern : needles) {
+            Needle needle = Needle.compile(pattern);
+            String text = pattern.startsWith("a") ? haystack : "ba".repeat(100_000) + "b";
+            assertEquals(text.indexOf(pattern), needle.indexOf(text), pattern);
+            assertEquals(text.indexOf(pattern), needle.indexOf(new StringBuilder(text)), pattern);
+            assertEquals(text.indexOf(pattern), needle.indexOf(utf8(text)), pattern);
+            assertEquals(countOverlapping(text, pattern), needle.countOverlapping(new StringBuilder(text)), pattern);
+        }
+    }
+
+    @Test
+    void everyHaystackKindAgreesWithStringIndexOf() {
+        Random random = new Random(9);
+
+        for (int round = 0; round < 3_000; round++) {
+            // Few symbols and needles made of a repeated unit, so the budget runs out and Two-Way takes over
+            String alphabet = round % 3 == 0 ? "ab" : round % 3 == 1 ? "abé" : "a€😀";
+            String unit = random(alphabet, random, 1 + random.nextInt(3));
+            String pattern = unit.repeat(1 + random.nextInt(6)) + random(alphabet, random, random.nextInt(3));
+            String text = mutate(pattern.repeat(random.nextInt(12)) + unit.repeat(random.nextInt(20)),
+                    alphabet, random);
+            int from = random.nextInt(text.length() + 2) - 1;
+            Needle needle = Needle.compile(pattern);
+            String message = pattern + " in " + text + " from " + from;
+
+            int expected = text.indexOf(pattern, Math.max(from, 0));
+            assertEquals(expected, needle.indexOf(text, from), message);
+            assertEquals(expected, needle.indexOf(new StringBuilder(text), from), message);
+            assertEquals(text.indexOf(pattern), indexOf(needle, text), message);
+
+            assertEquals(count(text, pattern), needle.count(text), message);
+            assertEquals(countOverlapping(text, pattern), needle.countOverlapping(new StringBuilder(text)), message);
+            assertEquals(count(text, pattern), needle.count(chars(text), 2, text.length()), message);
+
+            String bytes = new String(text.getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1);
+            String bytePattern = new String(pattern.getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1);
+            ByteBuffer buffer = utf8(text);
+            assertEquals(bytes.indexOf(bytePattern), needle.indexOf(buffer), message);
+            assertEquals(count(bytes, bytePattern), needle.count(buffer), message);
+            assertEquals(countOverlapping(bytes, bytePattern), needle.countOverlapping(buffer), message);
+        }
+    }
+
+    /* Searches a copy of the text placed at offset 2 of an array */
+    private static int indexOf(Needle needle, String text) {
+        int i = needle.indexOf(chars(text), 2, text.length());
+        return i < 0 ? -1 : i - 2;
+    }
+
+    private static char[] chars(String text) {
+        char[] chs = new char[text.length() + 4];
+        text.getChars(0, text.length(), chs, 2);
+        chs[0] = chs[chs.length - 1] = 'a';
+        return chs;
+    }
+
+    /* The text in the middle of a larger buffer, behind the position */
+    private static ByteBuffer utf8(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 6);
+        buffer.put(new byte[3]).put(bytes).put(new byte[3]);
+        return buffer.flip().position(3).limit(3 + bytes.length).slice();
+    }
+
+    private static int count(String text, String pattern) {
+        int count = 0;
+        for (int i = text.indexOf(pattern); i >= 0; i = text.indexOf(pattern, i + pattern.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static int countOverlapping(String text, String pattern) {
+        int count = 0;
+        for (int i = text.indexOf(pattern); i >= 0; i = text.indexOf(pattern, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static String mutate(String text, String alphabet, Random random) {
+        StringBuilder sb = new StringBuilder(text);
+        for (int k = random.nextInt(3); k > 0 && sb.length() > 0; k--) {
+            int i = random.nextInt(sb.length());
+            if (!Character.isSurrogate(sb.charAt(i))) {
+                sb.setCharAt(i, alphabet.charAt(random.nextInt(2)));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String random(String alphabet, Random random, int codePoints) {
+        int[] symbols = alphabet.codePoints().toArray();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < codePoints; i++) {
+            sb.appendCodePoint(symbols[random.nextInt(symbols.length)]);
+        }
+        return sb.toString();
+    }
+}
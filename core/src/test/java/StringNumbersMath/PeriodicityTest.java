@@ -0,0 +1,99 @@
+package StringNumbersMath;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PeriodicityTest {
+
+    @Test
+    void abcabcabcIsThreeTimesAbc() {
+        Periodicity periodicity = Periodicity.of("abcabcabc");
+
+        assertEquals(3, periodicity.minimalPeriod());
+        assertEquals(3, periodicity.repetitions());
+        assertArrayEquals(new int[]{6, 3}, periodicity.borders());
+        assertArrayEquals(new int[]{3, 6, 9}, periodicity.periods());
+        assertEquals(1, periodicity.minimalPeriod(1));
+        assertEquals(2, periodicity.longestBorder(5));
+    }
+
+    @Test
+    void aPeriodThatDoesNotDivideIsNoRepetition() {
+        // Every 3 symbols the text repeats, but 3 does not divide its 8 symbols
+        Periodicity periodicity = Periodicity.of("abaabaab");
+
+        assertEquals(3, periodicity.minimalPeriod());
+        assertEquals(1, periodicity.repetitions());
+        assertFalse(periodicity.isRepetition());
+        assertEquals(0, Periodicity.of("").repetitions());
+        assertThrows(IndexOutOfBoundsException.class, () -> periodicity.minimalPeriod(9));
+    }
+
+    @Test
+    void regexMetacharactersAreTakenLiterally() {
+        assertTrue(ConcatenatingSameStringNTimes.checkSequenceOfSameSubstring("a.a.a."));
+        assertFalse(ConcatenatingSameStringNTimes.checkSequenceOfSameSubstring("a.b.a."));
+        assertTrue(ConcatenatingSameStringNTimes.checkSequenceOfSameSubstring("*+*+"));
+        assertFalse(ConcatenatingSameStringNTimes.checkSequenceOfSameSubstring("HELLO"));
+    }
+
+    @Test
+    void bytesArePeriodicLikeTheirChars() {
+        byte[] utf8 = "xx😀😀😀yy".getBytes(StandardCharsets.UTF_8);
+
+        // A pair is 2 chars, and 4 bytes in UTF-8
+        assertEquals(2, Periodicity.of("😀😀😀").minimalPeriod());
+        assertEquals(4, Periodicity.of(utf8, 2, 14).minimalPeriod());
+        assertEquals(3, Periodicity.of(utf8, 2, 14).repetitions());
+        assertEquals(Periodicity.of("ab.ab.a").minimalPeriod(),
+                Periodicity.of("ab.ab.a".getBytes(StandardCharsets.US_ASCII)).minimalPeriod());
+        assertThrows(IndexOutOfBoundsException.class, () -> Periodicity.of(utf8, 10, 20));
+    }
+
+    @Test
+    void everyPrefixHasThePeriodsFoundByShifting() {
+        Random random = new Random(23);
+
+        for (int round = 0; round < 500; round++) {
+            // Repeating a short seed a few times, then damaging it, gives many borders
+            StringBuilder seed = new StringBuilder();
+            for (int i = 1 + random.nextInt(4); i > 0; i--) {
+                seed.append((char) ('a' + random.nextInt(2)));
+            }
+            StringBuilder sb = new StringBuilder(seed.toString().repeat(random.nextInt(12)));
+            if (sb.length() > 0 && random.nextBoolean()) {
+                sb.setCharAt(random.nextInt(sb.length()), 'c');
+            }
+            String s = sb.toString();
+            Periodicity periodicity = Periodicity.of(s);
+            Periodicity bytes = Periodicity.of(("<" + s + ">").getBytes(StandardCharsets.US_ASCII), 1, s.length() + 1);
+
+            for (int length = 0; length <= s.length(); length++) {
+                String prefix = s.substring(0, length);
+                int period = length == 0 ? 0 : IntStream.rangeClosed(1, length)
+                        .filter(p -> prefix.startsWith(prefix.substring(p))).findFirst().getAsInt();
+                assertEquals(period, periodicity.minimalPeriod(length), prefix);
+                assertEquals(period, bytes.minimalPeriod(length), prefix);
+                assertEquals(length - period, periodicity.longestBorder(length), prefix);
+            }
+
+            int[] periods = IntStream.rangeClosed(1, s.length())
+                    .filter(p -> s.startsWith(s.substring(p))).toArray();
+            int[] borders = IntStream.range(0, periods.length - 1).map(i -> s.length() - periods[i]).toArray();
+            assertArrayEquals(periods, s.isEmpty() ? new int[0] : periodicity.periods(), s);
+            assertArrayEquals(borders, periodicity.borders(), s);
+            assertEquals(s.isEmpty() ? 0 : s.length() % periods[0] == 0 ? s.length() / periods[0] : 1,
+                    periodicity.repetitions(), s);
+            assertEquals(periodicity.isRepetition(), ConcatenatingSameStringNTimes.checkSequenceOfSameSubstring(s), s);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package StringNumbersMath;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PermutationsTest {
+
+    @Test
+    void repeatedCharsGiveEachArrangementOnce() {
+        assertEquals(List.of("AAB", "ABA", "BAA"), Permutations.of("BAA").stream().collect(Collectors.toList()));
+        assertEquals(List.of(""), Permutations.of("").stream().collect(Collectors.toList()));
+        assertEquals(34_650, Permutations.of("mississippi").count());
+    }
+
+    @Test
+    void countOverflowsPast20DistinctChars() {
+        assertEquals(2_432_902_008_176_640_000L, Permutations.of("abcdefghijklmnopqrst").count());
+        assertThrows(ArithmeticException.class, () -> Permutations.of("abcdefghijklmnopqrstu").count());
+
+        // Too many to be sized, but still generated lazily
+        Spliterator<char[]> spliterator = Permutations.of("abcdefghijklmnopqrstu").spliterator();
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(List.of("abcdefghijklmnopqrstu", "abcdefghijklmnopqrsut"),
+                Permutations.of("utsrqponmlkjihgfedcba").stream().limit(2).collect(Collectors.toList()));
+    }
+
+    @Test
+    void theIteratorUpdatesOneArrayInPlace() {
+        Iterator<char[]> iterator = Permutations.of("abc").iterator();
+        char[] first = iterator.next();
+
+        assertArrayEquals("abc".toCharArray(), first);
+        assertSame(first, iterator.next());
+        assertArrayEquals("acb".toCharArray(), first);
+    }
+
+    @Test
+    void nextPermutationStopsOnTheLastOne() {
+        char[] chs = "cba".toCharArray();
+
+        assertFalse(Permutations.nextPermutation(chs));
+        assertArrayEquals("cba".toCharArray(), chs);
+        chs = "abb".toCharArray();
+        assertTrue(Permutations.nextPermutation(chs));
+        assertArrayEquals("bab".toCharArray(), chs);
+    }
+
+    @Test
+    void agreesWithARecursiveEnumeration() {
+        Random random = new Random(15);
+
+        for (int round = 0; round < 200; round++) {
+            String chars = random(random);
+            Permutations permutations = Permutations.of(chars);
+            List<String> expected = new ArrayList<>(arrangements(chars));
+
+            assertEquals(expected.size(), permutations.count(), chars);
+            assertEquals(expected.size(), permutations.spliterator().estimateSize(), chars);
+            assertEquals(expected, permutations.stream().collect(Collectors.toList()), chars);
+
+            List<String> iterated = new ArrayList<>();
+            permutations.forEach(chs -> iterated.add(new String(chs)));
+            assertEquals(expected, iterated, chars);
+
+            // A surrogate pair is two chars like any other
+            assertEquals(expected.size(), Permutations.of(chars.replace('a', '\uD83D')).count(), chars);
+        }
+    }
+
+    @Test
+    void rankAndUnrankFollowTheLexicographicOrder() {
+        Permutations permutations = Permutations.of("mississippi");
+
+        assertEquals(0, permutations.rank("iiiimppssss"));
+        assertEquals(34_649, permutations.rank("ssssppmiiii"));
+        assertEquals("ssssppmiiii", permutations.unrank(34_649));
+        assertThrows(IllegalArgumentException.class, () -> permutations.rank("mississipp"));
+        assertThrows(IllegalArgumentException.class, () -> permutations.rank("mississippp"));
+        assertThrows(IndexOutOfBoundsException.class, () -> permutations.unrank(34_650));
+
+        // Ranks past the range of an int, with 20 distinct chars
+        Permutations alphabet = Permutations.of("abcdefghijklmnopqrst");
+        String last = new StringBuilder("abcdefghijklmnopqrst").reverse().toString();
+        assertEquals(alphabet.count() - 1, alphabet.rank(last));
+        assertEquals(last, alphabet.unrank(alphabet.count() - 1));
+        assertEquals(1_000_000_000_000L, alphabet.rank(alphabet.unrank(1_000_000_000_000L)));
+    }
+
+    @Test
+    void everyRankRoundTrips() {
+        Random random = new Random(16);
+
+        for (int round = 0; round < 200; round++) {
+            String chars = random(random);
+            Permutations permutations = Permutations.of(chars);
+            List<String> expected = new ArrayList<>(arrangements(chars));
+
+            for (int rank = 0; rank < expected.size(); rank++) {
+                assertEquals(expected.get(rank), permutations.unrank(rank), chars);
+                assertEquals(rank, permutations.rank(expected.get(rank)), chars);
+            }
+
+            int from = random.nextInt(expected.size() + 1);
+            int to = from + random.nextInt(expected.size() - from + 1);
+            assertEquals(expected.subList(from, to), permutations.stream(from, to).collect(Collectors.toList()),
+                    chars + " [" + from + ", " + to + ")");
+        }
+    }
+
+    @Test
+    void splitsCoverTheRangeWithoutGapsOrOverlaps() {
+        Random random = new Random(1_016);
+
+        for (int round = 0; round < 300; round++) {
+            String chars = random(random);
+            Permutations permutations = Permutations.of(chars);
+            List<String> expected = new ArrayList<>(arrangements(chars));
+            int from = random.nextInt(expected.size());
+            int to = from + 1 + random.nextInt(expected.size() - from);
+
+            // Splits at random depths, some after a few permutations were already taken
+            List<String> actual = new ArrayList<>();
+            drain(permutations.spliterator(from, to), random, actual);
+            assertEquals(expected.subList(from, to), actual, chars + " [" + from + ", " + to + ")");
+        }
+    }
+
+    @Test
+    void parallelStreamKeepsTheEncounterOrder() {
+        for (String chars : new String[]{"abcdefgh", "aabbccddee", "😀😀ab"}) {
+            Permutations permutations = Permutations.of(chars);
+
+            assertEquals(permutations.stream().collect(Collectors.toList()),
+                    permutations.parallelStream().collect(Collectors.toList()), chars);
+            assertEquals(permutations.count(), permutations.parallelStream().distinct().count(), chars);
+        }
+    }
+
+    private static void drain(Spliterator<char[]> spliterator, Random random, List<String> sink) {
+        for (int k = random.nextInt(3); k > 0; k--) {
+            spliterator.tryAdvance(chs -> sink.add(new String(chs)));
+        }
+
+        long size = spliterator.estimateSize();
+        Spliterator<char[]> prefix = random.nextBoolean() ? spliterator.trySplit() : null;
+        if (prefix != null) {
+            assertEquals(size, prefix.estimateSize() + spliterator.estimateSize());
+            assertTrue(prefix.hasCharacteristics(Spliterator.SUBSIZED));
+            drain(prefix, random, sink);
+            drain(spliterator, random, sink);
+        } else {
+            spliterator.forEachRemaining(chs -> sink.add(new String(chs)));
+        }
+    }
+
+    /* Up to 8 chars over a small alphabet, so most strings have repeated chars */
+    private static String random(Random random) {
+        char[] chs = new char[random.nextInt(9)];
+        int symbols = 1 + random.nextInt(4);
+        for (int i = 0; i < chs.length; i++) {
+            chs[i] = (char) ('a' + random.nextInt(symbols));
+        }
+        return new String(chs);
+    }
+
+    /* Every arrangement, in sorted order and without duplicates */
+    private static TreeSet<String> arrangements(String chars) {
+        TreeSet<String> arrangements = new TreeSet<>();
+        if (chars.isEmpty()) {
+            arrangements.add("");
+        }
+        for (int i = 0; i < chars.length(); i++) {
+            for (String rest : arrangements(chars.substring(0, i) + chars.substring(i + 1))) {
+                arrangements.add(chars.charAt(i) + rest);
+            }
+        }
+        return arrangements;
+    }
+}
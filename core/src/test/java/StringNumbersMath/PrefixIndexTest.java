@@ -0,0 +1,126 @@
+package StringNumbersMath;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixIndexTest {
+
+    @Test
+    void routesSplitWhereTheyDiffer() {
+        PrefixIndex routes = PrefixIndex.of("/api/v1/users", "/api/v1/orders", "/api/v2/users");
+
+        assertEquals("/api/v", routes.longestCommonPrefix());
+        assertEquals("/api/v1/", routes.longestCommonPrefixStartingWith("/api/v1"));
+        assertEquals("", routes.longestCommonPrefixStartingWith("/api/v3"));
+        assertEquals(List.of("/api/v1/orders", "/api/v1/users"), routes.keysWithPrefix("/api/v1"));
+        assertEquals(2, routes.countKeysWithPrefix("/api/v1/"));
+        assertEquals("/api/v1/", routes.longestCommonPrefix(0, 2));
+
+        assertTrue(routes.remove("/api/v2/users"));
+        assertEquals("/api/v1/", routes.longestCommonPrefix());
+    }
+
+    @Test
+    void ranksFollowTheOrderOfString() {
+        // Compared as chars, a surrogate pair sorts before the last chars of the BMP
+        PrefixIndex index = PrefixIndex.of("ｚ", "😀", "z", "");
+
+        assertEquals(List.of("", "z", "😀", "ｚ"), index.keys());
+        assertEquals("😀", index.key(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.key(4));
+        assertEquals("", index.longestCommonPrefix(1, 4));
+        assertEquals("\uD83D", PrefixIndex.of("😀", "😁").longestCommonPrefix());
+    }
+
+    @Test
+    void anEmptyIndexHasNoKeyNotEvenTheEmptyOne() {
+        PrefixIndex index = new PrefixIndex();
+
+        assertFalse(index.contains(""));
+        assertEquals("", index.longestCommonPrefix());
+        assertTrue(index.insert(""));
+        assertFalse(index.insert(""));
+        assertTrue(index.contains(""));
+        assertEquals(1, index.countKeysWithPrefix(""));
+        assertTrue(index.remove(""));
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    void stockCodesBehaveLikeASortedSet() {
+        Random random = new Random(11);
+
+        for (int round = 0; round < 40; round++) {
+            PrefixIndex index = new PrefixIndex();
+            NavigableSet<String> expected = new TreeSet<>();
+
+            for (int step = 0; step < 600; step++) {
+                String code = code(random);
+                // Inserts win the first half, removals the second one, so the label pool is compacted
+                if (random.nextInt(600) > step) {
+                    assertEquals(expected.add(code), index.insert(code), code);
+                } else {
+                    assertEquals(expected.remove(code), index.remove(code), code);
+                }
+                assertEquals(expected.size(), index.size());
+            }
+
+            List<String> keys = new ArrayList<>(expected);
+            assertEquals(keys, index.keys());
+            for (int query = 0; query < 50; query++) {
+                String code = code(random);
+                String prefix = code.substring(0, Math.min(code.length(), random.nextInt(5)));
+                List<String> under = new ArrayList<>(expected.subSet(prefix, true, prefix + Character.MAX_VALUE, true));
+
+                assertEquals(expected.contains(prefix), index.contains(prefix), prefix);
+                assertEquals(under, index.keysWithPrefix(prefix), prefix);
+                assertEquals(under.size(), index.countKeysWithPrefix(prefix), prefix);
+                assertEquals(commonPrefix(under), index.longestCommonPrefixStartingWith(prefix), prefix);
+
+                int from = random.nextInt(keys.size() + 1);
+                int to = from + random.nextInt(keys.size() - from + 1);
+                assertEquals(commonPrefix(keys.subList(from, to)), index.longestCommonPrefix(from, to));
+                if (from < keys.size()) {
+                    assertEquals(keys.get(from), index.key(from));
+                }
+            }
+            assertEquals(commonPrefix(keys), index.longestCommonPrefix());
+        }
+    }
+
+    /* Codes like SKU-12, with long shared prefixes and a few emojis */
+    private static String code(Random random) {
+        String[] families = {"SKU-", "SKU-1", "SK", "S😀", ""};
+        String[] digits = {"0", "1", "2", "😀"};
+        StringBuilder sb = new StringBuilder(families[random.nextInt(families.length)]);
+        for (int i = random.nextInt(4); i > 0; i--) {
+            sb.append(digits[random.nextInt(digits.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static String commonPrefix(List<String> keys) {
+        if (keys.isEmpty()) {
+            return "";
+        }
+
+        // In sorted order, the first and the last key differ the soonest
+        String first = keys.get(0);
+        String last = keys.get(keys.size() - 1);
+        int length = 0;
+        while (length < first.length() && length < last.length() && first.charAt(length) == last.charAt(length)) {
+            length++;
+        }
+        return first.substring(0, length);
+    }
+}
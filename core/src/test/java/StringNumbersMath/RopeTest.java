@@ -0,0 +1,182 @@
+package StringNumbersMath;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RopeTest {
+
+    private static final Charset[] CHARSETS = {StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1, StandardCharsets.UTF_16};
+
+    @Test
+    void aRepetitionIsLongerThanAnyString() {
+        Rope rope = Rope.repeat("ab", 3_000_000_000L);
+
+        assertEquals(6_000_000_000L, rope.size());
+        assertThrows(ArithmeticException.class, rope::length);
+        assertThrows(ArithmeticException.class, rope::toString);
+        assertEquals('b', rope.charAt(5_999_999_999L));
+        assertEquals("abab", rope.subRope(4_000_000_000L, 4_000_000_004L).toString());
+        assertThrows(ArithmeticException.class, () -> rope.repeat(2_000_000_000L));
+        assertThrows(IllegalArgumentException.class, () -> rope.repeat(-1));
+    }
+
+    @Test
+    void emptyPartsAreDropped() {
+        Rope rope = Rope.of("abc");
+
+        assertSame(rope, rope.concat(""));
+        assertSame(rope, Rope.of("").concat(rope));
+        assertSame(rope, rope.repeat(1));
+        assertTrue(rope.repeat(0).isEmpty());
+        assertTrue(Rope.repeat("", Long.MAX_VALUE).isEmpty());
+        assertEquals("", Rope.concatAll().toString());
+        assertEquals("", Rope.concatAll("", "").toString());
+        assertSame(rope, Rope.concatAll(rope));
+        assertThrows(IndexOutOfBoundsException.class, () -> Rope.of("").charAt(0));
+    }
+
+    @Test
+    void theLeavesAreNotCopied() {
+        StringBuilder sb = new StringBuilder("abc");
+        Rope rope = Rope.of(sb).subRope(1, 3);
+
+        sb.setCharAt(2, 'x');
+        assertEquals('x', rope.charAt(1));
+    }
+
+    @Test
+    void aPairCutBetweenTwoLeavesIsEncodedWhole() throws IOException {
+        Rope rope = Rope.concatAll("a\uD83D", "\uDE00b", Rope.repeat("\uDE00-\uD83D", 3));
+
+        // Only the first and the last surrogates are left alone
+        assertEquals("a😀b?-😀-😀-?", new String(bytes(rope, StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+        assertArrayEquals(rope.toString().getBytes(StandardCharsets.UTF_8), bytes(rope, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void appendingInALoopBuildsADeepChain() throws IOException {
+        // One level per call, far deeper than a recursive walk of the tree can go
+        Rope appended = Rope.of("");
+        Rope prepended = Rope.of("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 150_000; i++) {
+            String part = i % 4 == 0 ? "😀" : String.valueOf((char) ('a' + i % 26));
+            appended = appended.concat(part);
+            prepended = Rope.of(part).concat(prepended);
+            expected.append(part);
+        }
+
+        check(appended, expected.toString(), new Random(150_000));
+        check(appended.subRope(1, appended.size() - 1), expected.substring(1, expected.length() - 1), new Random(1));
+        // reverse() keeps the surrogate pairs, so it reverses the order of the parts
+        check(prepended, expected.reverse().toString(), new Random(2));
+    }
+
+    @Test
+    void aRepetitionIsEncodedLikeTheRepeatedString() throws IOException {
+        // A byte order mark (UTF-16, UTF-32) or a shift state (ISO-2022-JP) must not be repeated
+        String[] charsets = {"UTF-8", "UTF-16", "UTF-16LE", "UTF-32", "ISO-2022-JP", "Shift_JIS", "US-ASCII"};
+        for (String name : charsets) {
+            Charset charset = Charset.forName(name);
+            for (String unit : new String[]{"ab", "日本", "a日", "😀"}) {
+                assertArrayEquals(unit.repeat(3).getBytes(charset), bytes(Rope.repeat(unit, 3), charset), name + " " + unit);
+            }
+        }
+    }
+
+    @Test
+    void largeRepetitionsAreWrittenByBlocks() throws IOException {
+        String unit = "héllo 😀 ";
+        Rope rope = Rope.repeat(unit, 40_000).concat("end");
+
+        check(rope, unit.repeat(40_000) + "end", new Random(22));
+    }
+
+    @Test
+    void behavesLikeTheStringItStandsFor() throws IOException {
+        Random random = new Random(1_022);
+        List<Rope> ropes = new ArrayList<>();
+        List<String> strings = new ArrayList<>();
+        for (String part : new String[]{"", "x", "yz", "😀", "\uDE00", "\uD83D", "€ü"}) {
+            ropes.add(Rope.of(part));
+            strings.add(part);
+        }
+
+        for (int step = 0; step < 1_500; step++) {
+            int i = random.nextInt(ropes.size());
+            int j = random.nextInt(ropes.size());
+            String string;
+            Rope rope;
+
+            int operation = random.nextInt(5);
+            if (operation == 0) {
+                rope = ropes.get(i).concat(ropes.get(j));
+                string = strings.get(i) + strings.get(j);
+            } else if (operation == 1) {
+                int count = random.nextInt(5);
+                rope = ropes.get(i).repeat(count);
+                string = strings.get(i).repeat(count);
+            } else if (operation == 2) {
+                rope = Rope.concatAll(strings.get(j), ropes.get(i), ropes.get(j));
+                string = strings.get(j) + strings.get(i) + strings.get(j);
+            } else {
+                String s = strings.get(i);
+                int start = random.nextInt(s.length() + 1);
+                int end = start + random.nextInt(s.length() - start + 1);
+                rope = ropes.get(i).subRope(start, end);
+                string = s.substring(start, end);
+            }
+
+            if (string.length() <= 4_000) {
+                check(rope, string, random);
+                ropes.add(rope);
+                strings.add(string);
+            }
+        }
+    }
+
+    private static void check(Rope rope, String expected, Random random) throws IOException {
+        assertEquals(expected.length(), rope.size());
+        assertEquals(expected, rope.toString());
+
+        for (int k = 0; k < 10 && !expected.isEmpty(); k++) {
+            int i = random.nextInt(expected.length());
+            assertEquals(expected.charAt(i), rope.charAt(i), expected);
+        }
+        int from = random.nextInt(expected.length() + 1);
+        int to = from + random.nextInt(expected.length() - from + 1);
+        char[] chs = new char[to - from + 2];
+        rope.getChars(from, to, chs, 2);
+        assertEquals(expected.substring(from, to), new String(chs, 2, to - from));
+        assertEquals(expected.substring(from, to), rope.subSequence(from, to).toString());
+
+        StringWriter out = new StringWriter();
+        rope.writeTo(out);
+        assertEquals(expected, out.toString());
+        for (Charset charset : CHARSETS) {
+            assertArrayEquals(expected.getBytes(charset), bytes(rope, charset), charset + " " + expected);
+        }
+    }
+
+    private static byte[] bytes(Rope rope, Charset charset) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = rope.writeTo(Channels.newChannel(out), charset);
+        assertEquals(out.size(), written);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,130 @@
+package StringNumbersMath;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuffixArrayTest {
+
+    @Test
+    void mississippi() {
+        SuffixArray sa = SuffixArray.of("mississippi");
+
+        assertArrayEquals(new int[]{10, 7, 4, 1, 0, 9, 8, 6, 3, 5, 2},
+                IntStream.range(0, sa.length()).map(sa::suffix).toArray());
+        assertArrayEquals(new int[]{1, 1, 4, 0, 0, 1, 0, 2, 1, 3},
+                IntStream.range(0, sa.length() - 1).map(sa::lcp).toArray());
+        assertEquals("issi", sa.longestRepeatedSubstring());
+        assertArrayEquals(new int[]{2, 5}, sa.positions("ss"));
+        assertEquals(4, sa.count("i"));
+        assertFalse(sa.contains("spi"));
+    }
+
+    @Test
+    void bananaHasFifteenDistinctSubstrings() {
+        SuffixArray sa = SuffixArray.of(new StringBuilder("banana"));
+
+        assertEquals(15, sa.distinctSubstrings());
+        assertEquals("ana", sa.longestRepeatedSubstring());
+        assertTrue(sa.contains(""));
+        assertEquals(0, SuffixArray.of("").distinctSubstrings());
+    }
+
+    @Test
+    void aPatternMaySplitASurrogatePair() {
+        SuffixArray sa = SuffixArray.of("😀x😀");
+
+        assertArrayEquals(new int[]{1, 4}, sa.positions("\uDE00"));
+        assertEquals("😀", sa.longestRepeatedSubstring());
+    }
+
+    @Test
+    void selfSimilarWordsSortLikeTheirSuffixes() {
+        // Fibonacci and Thue-Morse words give LMS substrings of equal names at every level of the recursion
+        StringBuilder fibonacci = new StringBuilder("b");
+        for (String previous = "a"; fibonacci.length() < 2_000; ) {
+            String current = fibonacci.toString();
+            fibonacci.append(previous);
+            previous = current;
+        }
+        StringBuilder thueMorse = new StringBuilder();
+        for (int i = 0; i < 2_048; i++) {
+            thueMorse.append(Integer.bitCount(i) % 2 == 0 ? '\uFFFF' : '\u0000');
+        }
+
+        check(fibonacci.toString(), new Random(14));
+        check(thueMorse.toString(), new Random(14));
+        check("z".repeat(1_500), new Random(14));
+    }
+
+    @Test
+    void sortsTheSuffixesOfRandomTexts() {
+        Random random = new Random(1_014);
+
+        for (int round = 0; round < 400; round++) {
+            // From two symbols to the whole char range, surrogates included
+            int range = round % 4 == 0 ? Character.MAX_VALUE + 1 : 2 + round % 5;
+            int base = round % 3 == 0 ? 0 : round % 3 == 1 ? 'a' : 0xD800;
+            char[] chs = new char[random.nextInt(round < 300 ? 50 : 700)];
+            for (int i = 0; i < chs.length; i++) {
+                chs[i] = (char) (base + random.nextInt(Math.min(range, Character.MAX_VALUE + 1 - base)));
+            }
+            check(new String(chs), random);
+        }
+    }
+
+    private static void check(String text, Random random) {
+        SuffixArray sa = SuffixArray.of(text);
+        int n = text.length();
+        Integer[] sorted = IntStream.range(0, n).boxed().toArray(Integer[]::new);
+        Arrays.sort(sorted, Comparator.comparing(text::substring));
+
+        long lcpSum = 0;
+        int longest = 0;
+        for (int rank = 0; rank < n; rank++) {
+            assertEquals((int) sorted[rank], sa.suffix(rank), "rank " + rank);
+            if (rank + 1 < n) {
+                int lcp = 0;
+                int end = n - Math.max(sorted[rank], sorted[rank + 1]);
+                while (lcp < end && text.charAt(sorted[rank] + lcp) == text.charAt(sorted[rank + 1] + lcp)) {
+                    lcp++;
+                }
+                assertEquals(lcp, sa.lcp(rank), "lcp " + rank);
+                lcpSum += lcp;
+                longest = Math.max(longest, lcp);
+            }
+        }
+        assertEquals((long) n * (n + 1) / 2 - lcpSum, sa.distinctSubstrings());
+        assertEquals(longest, sa.longestRepeatedSubstring().length());
+        if (n <= 60) {
+            Set<String> substrings = new HashSet<>();
+            IntStream.range(0, n).forEach(from -> IntStream.rangeClosed(from + 1, n)
+                    .forEach(to -> substrings.add(text.substring(from, to))));
+            assertEquals(substrings.size(), sa.distinctSubstrings(), text);
+        }
+
+        for (int query = 0; query < 30 && n > 0; query++) {
+            int from = random.nextInt(n);
+            String found = text.substring(from, Math.min(n, from + 1 + random.nextInt(6)));
+            // Usually absent once a char is changed
+            String pattern = query % 3 == 0 ? found.substring(1) + (char) (found.charAt(0) + 1) : found;
+
+            int[] expected = IntStream.rangeClosed(0, n - pattern.length())
+                    .filter(i -> text.startsWith(pattern, i)).toArray();
+            String message = "positions of " + pattern;
+            assertArrayEquals(expected, sa.positions(pattern), message);
+            assertEquals(expected.length, sa.count(pattern), message);
+            assertEquals(expected.length > 0, sa.contains(pattern), message);
+        }
+    }
+}
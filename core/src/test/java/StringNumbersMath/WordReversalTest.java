@@ -0,0 +1,157 @@
+package StringNumbersMath;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WordReversalTest {
+
+    @Test
+    void eachWayOfReversingASentence() {
+        String sentence = "  the quick  brown\tfox ";
+
+        assertEquals("  eht kciuq  nworb\txof ", letters(sentence));
+        assertEquals(" fox\tbrown  quick the  ", words(sentence));
+        assertEquals(" xof\tnworb  kciuq eht  ", lettersAndWords(sentence));
+    }
+
+    @Test
+    void clustersReadTheSameAfterwards() {
+        // A decomposed accent, a skin tone, a flag and a ZWJ family stay whole
+        assertEquals("e\u0301lc", letters("cle\u0301"));
+        assertEquals("👍🏽x", letters("x👍🏽"));
+        assertEquals("🇩🇪🇫🇷", letters("🇫🇷🇩🇪"));
+        assertEquals("👨\u200D👩\u200D👧a", letters("a👨\u200D👩\u200D👧"));
+        assertEquals("😀b", letters("b😀"));
+    }
+
+    @Test
+    void aJoinerOnlyGluesTwoEmojis() {
+        assertEquals("dcb\u200Da", letters("ab\u200Dcd"));
+        assertEquals("x\u200Db", letters("bx\u200D"));
+        assertEquals("😀x\u200D", letters("x\u200D😀"));
+        assertEquals("x😀\u200D", letters("😀\u200Dx"));
+        // A skin tone between the emoji and the joiner
+        assertEquals("👍🏽\u200D🔥a", letters("a👍🏽\u200D🔥"));
+    }
+
+    @Test
+    void reversingTheLettersTwiceGivesTheTextBack() {
+        Random random = new Random(2_025);
+        // No cluster starts with a mark, the flags come in pairs and only a letter is left with a joiner
+        String[] clusters = {"a", "b", "é", "x\u200D", "😀", "👍🏽", "🇫🇷", "👨\u200D👩\u200D👧", "❤\uFE0F",
+                "🏃\u200D♀\uFE0F", "©", "क्", " ", "\t"};
+
+        for (int round = 0; round < 2_000; round++) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = random.nextInt(12); i > 0; i--) {
+                sb.append(clusters[random.nextInt(clusters.length)]);
+            }
+            String text = sb.toString();
+
+            assertEquals(text, letters(letters(text)), text);
+            assertEquals(text, lettersAndWords(lettersAndWords(text)), text);
+            assertEquals(text, words(words(text)), text);
+        }
+    }
+
+    @Test
+    void onlyTheRangeIsReversed() {
+        char[] chs = "ab cd|ef gh".toCharArray();
+
+        WordReversal.reverseWords(chs, 0, 5);
+        assertEquals("cd ab|ef gh", new String(chs));
+        WordReversal.reverseLettersAndWords(chs, 6, 11);
+        assertEquals("cd ab|hg fe", new String(chs));
+        assertThrows(IndexOutOfBoundsException.class, () -> WordReversal.reverseLetters(chs, 6, 12));
+    }
+
+    @Test
+    void aReaderIsReversedLikeTheWholeText() throws IOException {
+        Random random = new Random(25);
+        String[] symbols = {"a", "b", "é", "e\u0301", "😀", "👍🏽", "🇫🇷", "👨\u200D👩\u200D👧", " ", "  ", "\t", "\n", "\r\n"};
+
+        for (int round = 0; round < 60; round++) {
+            // Words and lines longer than the buffer of 8 K chars make it grow
+            StringBuilder sb = new StringBuilder();
+            while (sb.length() < 30_000) {
+                String symbol = symbols[random.nextInt(symbols.length)];
+                sb.append(random.nextInt(200) == 0 && round % 2 == 0 ? "w".repeat(10_000) : symbol);
+            }
+            String text = sb.toString();
+
+            // Reads of random sizes move the cut to every place of the buffer
+            int chunk = 1 + random.nextInt(round % 3 == 0 ? 5 : 9_000);
+            String message = "round " + round + ", reads of " + chunk;
+            StringWriter out = new StringWriter();
+            WordReversal.reverseLetters(new ChunkedReader(text, chunk), out);
+            assertEquals(letters(text), out.toString(), message);
+
+            out = new StringWriter();
+            WordReversal.reverseWords(new ChunkedReader(text, chunk), out);
+            assertEquals(byLine(text, false), out.toString(), message);
+
+            out = new StringWriter();
+            WordReversal.reverseLettersAndWords(new ChunkedReader(text, chunk), out);
+            assertEquals(byLine(text, true), out.toString(), message);
+        }
+    }
+
+    /* The char[] reversal of every line, the line breaks stay in place */
+    private static String byLine(String text, boolean letters) {
+        char[] chs = text.toCharArray();
+        int start = 0;
+        for (int i = 0; i <= chs.length; i++) {
+            if (i == chs.length || chs[i] == '\n' || chs[i] == '\r') {
+                if (letters) {
+                    WordReversal.reverseLettersAndWords(chs, start, i);
+                } else {
+                    WordReversal.reverseWords(chs, start, i);
+                }
+                start = i + 1;
+            }
+        }
+        return new String(chs);
+    }
+
+    private static String letters(String s) {
+        char[] chs = s.toCharArray();
+        WordReversal.reverseLetters(chs, 0, chs.length);
+        return new String(chs);
+    }
+
+    private static String words(String s) {
+        char[] chs = s.toCharArray();
+        WordReversal.reverseWords(chs, 0, chs.length);
+        return new String(chs);
+    }
+
+    private static String lettersAndWords(String s) {
+        char[] chs = s.toCharArray();
+        WordReversal.reverseLettersAndWords(chs, 0, chs.length);
+        return new String(chs);
+    }
+
+    /* Gives at most chunk chars per read */
+    private static final class ChunkedReader extends FilterReader {
+        private final int chunk;
+
+        ChunkedReader(String text, int chunk) {
+            super(new StringReader(text));
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            return super.read(cbuf, off, Math.min(len, chunk));
+        }
+    }
+}
@@ -0,0 +1,3 @@
+module javacodingproblems.datetime {
+    exports WorkingWithDateAndTime;
+}
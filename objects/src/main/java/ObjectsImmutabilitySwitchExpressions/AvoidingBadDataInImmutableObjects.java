@@ -1,5 +1,8 @@
 package ObjectsImmutabilitySwitchExpressions;
 
+import javax.validation.constraints.Email;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 import java.util.Date;
 
 public class AvoidingBadDataInImmutableObjects {
@@ -33,6 +33,8 @@ public class MultipleCaseLabels {
         return switch (playerType) {
             case "TENNIS", "GOLF", "SNOOKER" -> new Individual();
             case "FOOTBALL", "VOLLEY" -> new Team();
+            // A switch over String is never exhaustive, so default is mandatory
+            default -> throw new IllegalArgumentException("Invalid player type: " + playerType);
         };
     }
 
@@ -10,7 +10,7 @@ public class StatementBlocks {
      * This is pretty similar to the lambda blocks.
      * Check out the following solution:
      *
-     * Notice that we exit from a curly-braced block via break, not return.
+     * Notice that we exit from a curly-braced block via yield, not return.
      * In other words, while we can return from inside a switch statement,
      * we can't return from within an expression.
      *
@@ -20,15 +20,15 @@ public class StatementBlocks {
         return switch (playerType) {
             case "TENNIS" -> {
                 System.out.println("Creating a TennisPlayer ...");
-                break new TennisPlayer();
+                yield new TennisPlayer();
             }
             case "FOOTBALL" -> {
                 System.out.println("Creating a FootballPlayer ...");
-                break new FootballPlayer();
+                yield new FootballPlayer();
             }
             case "SNOOKER" -> {
                 System.out.println("Creating a SnookerPlayer ...");
-                break new SnookerPlayer();
+                yield new SnookerPlayer();
             }
             default ->
                     throw new IllegalArgumentException(
@@ -5,7 +5,8 @@ class Player {
     int position;
 }
 
-class PlayerTypes extends Player {
+enum PlayerTypes {
+    TENNIS, FOOTBALL, SNOOKER, UNKNOWN
 }
 
 class TennisPlayer extends Player {
@@ -24,11 +25,6 @@ class UnknownPlayerException extends Exception {
 }
 
 public class SwitchExpressions {
-    private static PlayerTypes TENNIS;
-    private static PlayerTypes FOOTBALL;
-    private static PlayerTypes SNOOKER;
-    private static PlayerTypes UNKNOWN;
-
     /**
      * Objects Immutability Switch Expressions
      * 55. Switch Expressions
@@ -83,7 +79,7 @@ public class SwitchExpressions {
      * There is no need to use break.
      * Do not conclude that the arrow turns the switch statement into a switch
      * expression.
-     * A switch expression can be used with a colon and break as well, as follows:
+     * A switch expression can be used with a colon and yield as well, as follows:
      *
      * Our example posts switch over enum,
      * but the JDK 12 switch can also be used over int, Integer, short,
@@ -93,15 +89,17 @@ public class SwitchExpressions {
      * This means that it is prone to changes in the next few releases,
      * and it needs to be unlocked via the --enable-preview command-line
      * option at compiling and runtime
+     * Since JDK 14 the switch expressions are final, and a colon case returns
+     * its value via yield (the JDK 12 preview used break for that)
      * */
     private static Player createAnotherPlayer(PlayerTypes playerType) throws UnknownPlayerException {
         return switch (playerType) {
             case TENNIS:
-                new TennisPlayer();
+                yield new TennisPlayer();
             case FOOTBALL:
-                new FootballPlayer();
+                yield new FootballPlayer();
             case SNOOKER:
-                new SnookerPlayer();
+                yield new SnookerPlayer();
             case UNKNOWN:
                 throw new UnknownPlayerException("Player type is unknown");
             // default is not mandatory
@@ -118,6 +116,6 @@ public class SwitchExpressions {
         switchExpressions.createPlayer("TENNIS");
 
         // C2
-        switchExpressions.createAnotherPlayer("TENNIS");
+        switchExpressions.createAnotherPlayer(PlayerTypes.TENNIS);
     }
 }